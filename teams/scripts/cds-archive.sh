@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# AppCDS 아카이브 생성 (클래스 로딩/검증 결과를 저장해 다음 시작부터 재사용)
+#
+# 1. WAR를 풀어 클래스패스를 jar 파일로만 구성 (CDS는 비어 있지 않은 디렉터리 클래스패스를 지원하지 않음)
+#    target/cds/app/
+#      ├─ teams.jar         (WEB-INF/classes)
+#      ├─ lib/*.jar         (WEB-INF/lib, WEB-INF/lib-provided)
+#      └─ classpath.txt     (실행 시 같은 순서의 클래스패스가 필요)
+# 2. 컨텍스트 refresh 직후 종료하는 학습 실행으로 target/cds/app/teams.jsa 생성
+#
+# 사용: mvn package (또는 mvn -Paot package) 후 ./scripts/cds-archive.sh
+# 실행: ./scripts/run.sh  (teams.jsa가 있으면 -XX:SharedArchiveFile 적용)
+# AOT 빌드(-Paot)는 학습 실행과 실제 실행 모두 -Dspring.aot.enabled=true가 필요합니다. (AOT=true)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+WAR=${WAR:-target/teamsapp.war}
+OUT=target/cds/app
+AOT=${AOT:-false}
+
+if [[ ! -f "$WAR" ]]; then
+  echo "WAR 파일이 없습니다: $WAR (먼저 mvn package 실행)" >&2
+  exit 1
+fi
+
+rm -rf "$OUT" target/cds/exploded
+mkdir -p "$OUT/lib" target/cds/exploded
+(cd target/cds/exploded && jar xf "../../../$WAR")
+
+jar cf "$OUT/teams.jar" -C target/cds/exploded/WEB-INF/classes .
+cp target/cds/exploded/WEB-INF/lib/*.jar "$OUT/lib/"
+if [[ -d target/cds/exploded/WEB-INF/lib-provided ]]; then
+  cp target/cds/exploded/WEB-INF/lib-provided/*.jar "$OUT/lib/"
+fi
+rm -rf target/cds/exploded
+
+# 상대 경로 클래스패스 (실행 위치는 target/cds/app)
+(cd "$OUT" && { echo -n "teams.jar"; for jar in $(ls lib/*.jar | sort); do echo -n ":$jar"; done; } > classpath.txt)
+
+echo "CDS 학습 실행..."
+(cd "$OUT" && java \
+  -XX:ArchiveClassesAtExit=teams.jsa \
+  -Dspring.context.exit=onRefresh \
+  -Dspring.aot.enabled="$AOT" \
+  -cp "$(cat classpath.txt)" \
+  com.example.teams.TeamsApplication)
+
+echo "생성 완료: $OUT/teams.jsa"
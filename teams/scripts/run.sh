@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# cds-archive.sh로 만든 target/cds/app 실행 (CDS 아카이브가 있으면 사용)
+# 사용: ./scripts/run.sh [애플리케이션 인자...]   예) AOT=true ./scripts/run.sh --spring.profiles.active=prod
+set -euo pipefail
+
+cd "$(dirname "$0")/../target/cds/app"
+AOT=${AOT:-false}
+
+CDS_OPTS=()
+if [[ -f teams.jsa ]]; then
+  CDS_OPTS=(-XX:SharedArchiveFile=teams.jsa)
+fi
+
+exec java "${CDS_OPTS[@]}" ${JAVA_OPTS:-} -Dspring.aot.enabled="$AOT" \
+  -cp "$(cat classpath.txt)" com.example.teams.TeamsApplication "$@"
@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# 시작 시간 측정: 프로세스 시작부터 /actuator/health가 UP을 반환할 때까지 (밀리초)
+#
+# 모드별로 RUNS번 반복하여 각 측정값과 중앙값을 출력합니다.
+#   war      : java -jar target/teamsapp.war
+#   cds      : 풀어 놓은 클래스패스 + CDS 아카이브 (scripts/cds-archive.sh 선행)
+#   cds-aot  : cds + -Dspring.aot.enabled=true (mvn -Paot package 후 AOT=true ./scripts/cds-archive.sh 선행)
+#   native   : GraalVM 네이티브 이미지 target/teamsapp (mvn -Pnative native:compile 선행)
+#
+# 사용: ./scripts/startup-time.sh [모드...]   기본: war cds
+#   RUNS=5 PORT=18080 ./scripts/startup-time.sh war cds cds-aot native
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+MODES=("$@")
+if [[ ${#MODES[@]} -eq 0 ]]; then
+  MODES=(war cds)
+fi
+
+now_millis() {
+  date +%s%3N
+}
+
+start_app() {
+  local mode=$1
+  case "$mode" in
+    war)
+      java ${JAVA_OPTS:-} -jar target/teamsapp.war --server.port="$PORT" > target/startup-"$mode".log 2>&1 &
+      ;;
+    cds)
+      (cd target/cds/app && exec java -XX:SharedArchiveFile=teams.jsa ${JAVA_OPTS:-} \
+        -cp "$(cat classpath.txt)" com.example.teams.TeamsApplication --server.port="$PORT") \
+        > target/startup-"$mode".log 2>&1 &
+      ;;
+    cds-aot)
+      (cd target/cds/app && exec java -XX:SharedArchiveFile=teams.jsa -Dspring.aot.enabled=true ${JAVA_OPTS:-} \
+        -cp "$(cat classpath.txt)" com.example.teams.TeamsApplication --server.port="$PORT") \
+        > target/startup-"$mode".log 2>&1 &
+      ;;
+    native)
+      target/teamsapp ${NATIVE_OPTS:-} --server.port="$PORT" > target/startup-"$mode".log 2>&1 &
+      ;;
+    *)
+      echo "알 수 없는 모드: $mode" >&2
+      exit 1
+      ;;
+  esac
+  echo $!
+}
+
+measure() {
+  local mode=$1
+  local start pid elapsed
+  start=$(now_millis)
+  pid=$(start_app "$mode")
+  while ! curl -fs "http://localhost:$PORT/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "시작 실패 ($mode): target/startup-$mode.log 확인" >&2
+      exit 1
+    fi
+    if (( $(now_millis) - start > TIMEOUT_SECONDS * 1000 )); then
+      kill "$pid"
+      echo "시작 시간 초과 ($mode)" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_millis) - start ))
+  kill "$pid"
+  # 다음 측정 전에 포트가 해제되도록 종료 대기
+  while kill -0 "$pid" 2>/dev/null; do
+    sleep 0.1
+  done
+  echo "$elapsed"
+}
+
+for mode in "${MODES[@]}"; do
+  results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(measure "$mode")")
+  done
+  median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+  echo "$mode: ${results[*]} ms (중앙값 $median ms)"
+done
@@ -0,0 +1,90 @@
+package com.example.teams.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * /api/** 부하 테스트 (Gatling)
+ *
+ * 대상 애플리케이션은 graphmock 프로필로 실행합니다. (mvn spring-boot:test-run, Graph 대역 서버 포함)
+ * 가상 사용자마다 POST /test/graphmock/login 으로 세션을 만든 뒤 Teams/Chat/Calendar/Meeting API를 반복 호출합니다.
+ *
+ * mvn -Ploadtest gatling:test -DbaseUrl=http://localhost:8080 -Dusers=2000 -DrampSeconds=60 -Diterations=10
+ * 결과: target/gatling/ 의 HTML 리포트 (요청별 처리량, 응답 시간 백분위)
+ * 전체 p99(-Dp99Millis, 기본 1000ms)와 성공률(-DminSuccessPercent, 기본 99%) 기준을 넘으면 실패로 종료합니다.
+ */
+public class ApiLoadSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final int USERS = Integer.getInteger("users", 2000);
+    private static final int RAMP_SECONDS = Integer.getInteger("rampSeconds", 60);
+    private static final int ITERATIONS = Integer.getInteger("iterations", 10);
+    private static final int P99_MILLIS = Integer.getInteger("p99Millis", 1000);
+    private static final double MIN_SUCCESS_PERCENT = Double.parseDouble(System.getProperty("minSuccessPercent", "99"));
+
+    private final HttpProtocolBuilder httpProtocol = http
+        .baseUrl(BASE_URL)
+        .acceptHeader("application/json")
+        .contentTypeHeader("application/json");
+
+    private final ChainBuilder login = exec(
+        http("login")
+            .post("/test/graphmock/login")
+            .check(status().is(200))
+    );
+
+    private final ChainBuilder browse = exec(
+        http("GET /api/teams")
+            .get("/api/teams")
+            .check(status().is(200))
+            .check(jsonPath("$[0].id").optional().saveAs("teamId")),
+        doIf(session -> session.contains("teamId")).then(
+            exec(http("GET /api/teams/{teamId}/channels")
+                .get("/api/teams/#{teamId}/channels")
+                .check(status().is(200))
+                .check(jsonPath("$[0].id").optional().saveAs("channelId")))
+        ),
+        doIf(session -> session.contains("channelId")).then(
+            exec(http("GET /api/teams/{teamId}/channels/{channelId}/messages")
+                .get("/api/teams/#{teamId}/channels/#{channelId}/messages")
+                .check(status().is(200)))
+        ),
+        exec(http("GET /api/chats")
+            .get("/api/chats")
+            .check(status().is(200))
+            .check(jsonPath("$[0].id").optional().saveAs("chatId"))),
+        doIf(session -> session.contains("chatId")).then(
+            exec(http("GET /api/chats/{chatId}/messages")
+                .get("/api/chats/#{chatId}/messages")
+                .check(status().is(200)))
+        ),
+        exec(http("GET /api/me/events")
+            .get("/api/me/events")
+            .check(status().is(200))),
+        exec(http("GET /api/me/onlineMeetings")
+            .get("/api/me/onlineMeetings")
+            .check(status().is(200)))
+    );
+
+    private final ScenarioBuilder users = scenario("Graph API users")
+        .exec(login)
+        .repeat(ITERATIONS).on(
+            exec(browse).pause(Duration.ofMillis(200), Duration.ofMillis(800))
+        );
+
+    {
+        setUp(users.injectOpen(rampUsers(USERS).during(Duration.ofSeconds(RAMP_SECONDS))))
+            .protocols(httpProtocol)
+            .assertions(
+                global().responseTime().percentile(99.0).lt(P99_MILLIS),
+                global().successfulRequests().percent().gte(MIN_SUCCESS_PERCENT)
+            );
+    }
+}
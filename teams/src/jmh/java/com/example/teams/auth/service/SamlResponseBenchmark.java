@@ -0,0 +1,67 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.config.AppSamlInitializer;
+import com.example.teams.shared.util.CertificateGenerator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SAML Response 생성 처리량 (서명 포함, 코어당 responses/sec)
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="SamlResponseBenchmark"
+ * 코어 수만큼 스레드를 늘려 보려면 -Djmh.args="SamlResponseBenchmark -t 4"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class SamlResponseBenchmark {
+
+    private AppSamlService appSamlService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        AppSamlInitializer.ensureInitialized();
+
+        Path dir = Files.createTempDirectory("saml-bench");
+        Path certificate = dir.resolve("certificate.pem");
+        Path privateKey = dir.resolve("private-key.pem");
+        CertificateGenerator.generateCertificate(certificate.toString(), privateKey.toString());
+
+        AppSamlConfig config = new AppSamlConfig();
+        config.setCertificatePath(certificate.toUri().toString());
+        config.setPrivateKeyPath(privateKey.toUri().toString());
+
+        SamlCredentialManager credentialManager = new SamlCredentialManager(config, new DefaultResourceLoader());
+        credentialManager.initialize();
+
+        appSamlService = new AppSamlService(config, credentialManager, new SamlXmlWriter(),
+            new SamlSigningService(config, new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public String createSignedResponse() {
+        return appSamlService.createSamlResponse(1L, "user@example.com", "Benchmark User", "_request-id", "_session-index");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.config.AppSamlInitializer;
+import com.example.teams.shared.util.CertificateGenerator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 종류별 서명 포함 SAML Response 처리량 (인라인 서명 vs 서명 전용 스레드 풀)
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="SamlSigningBenchmark"
+ * 동시 로그인을 흉내 내려면 스레드 수를 코어 수 이상으로 지정: -Djmh.args="SamlSigningBenchmark -t 16"
+ * (풀은 동시 서명 수를 코어 수로 제한하므로 -t가 코어 수를 넘을 때 차이가 드러남)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class SamlSigningBenchmark {
+
+    @Param({"RSA_2048", "RSA_3072", "EC_P256"})
+    public String keyType;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private AppSamlService appSamlService;
+    private SamlSigningService samlSigningService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        AppSamlInitializer.ensureInitialized();
+
+        Path dir = Files.createTempDirectory("saml-sign-bench");
+        Path certificate = dir.resolve("certificate.pem");
+        Path privateKey = dir.resolve("private-key.pem");
+        switch (keyType) {
+            case "RSA_2048" -> CertificateGenerator.generateCertificate(certificate.toString(), privateKey.toString(), "RSA", 2048);
+            case "RSA_3072" -> CertificateGenerator.generateCertificate(certificate.toString(), privateKey.toString(), "RSA", 3072);
+            case "EC_P256" -> CertificateGenerator.generateCertificate(certificate.toString(), privateKey.toString(), "EC", 256);
+            default -> throw new IllegalArgumentException("지원하지 않는 키 종류: " + keyType);
+        }
+
+        AppSamlConfig config = new AppSamlConfig();
+        config.setCertificatePath(certificate.toUri().toString());
+        config.setPrivateKeyPath(privateKey.toUri().toString());
+        config.getSigning().setPoolEnabled(pooled);
+        // 벤치마크 스레드가 큐를 넘치게 해도 거절되지 않도록 여유 있게 설정
+        config.getSigning().setQueueCapacity(1024);
+        config.getSigning().setTimeoutMillis(60_000);
+
+        SamlCredentialManager credentialManager = new SamlCredentialManager(config, new DefaultResourceLoader());
+        credentialManager.initialize();
+
+        samlSigningService = new SamlSigningService(config, new SimpleMeterRegistry());
+        appSamlService = new AppSamlService(config, credentialManager, new SamlXmlWriter(), samlSigningService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        samlSigningService.shutdown();
+    }
+
+    @Benchmark
+    public String signResponse() {
+        return appSamlService.createSamlResponse(1L, "user@example.com", "Benchmark User", "_request-id", "_session-index");
+    }
+}
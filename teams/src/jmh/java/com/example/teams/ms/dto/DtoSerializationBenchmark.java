@@ -0,0 +1,103 @@
+package com.example.teams.ms.dto;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO 목록 JSON 직렬화 비용 (/api/** 응답 본문)
+ *
+ * Spring MVC와 같은 방식(Jackson2ObjectMapperBuilder 기본 설정)으로 만든 ObjectMapper로
+ * 목록 응답을 스트림에 씁니다. 출력은 버리므로 순수 직렬화 비용만 측정합니다.
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="DtoSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class DtoSerializationBenchmark {
+
+    @Param({"50"})
+    public int size;
+
+    @Param({"512"})
+    public int bodyBytes;
+
+    private ObjectWriter writer;
+    private List<ChatMessageDto> messages;
+    private List<EventDto> events;
+    private List<TeamDto> teams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        String body = "<p>" + "x".repeat(bodyBytes) + "</p>";
+        messages = new ArrayList<>(size);
+        events = new ArrayList<>(size);
+        teams = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(ChatMessageDto.builder()
+                .id("message-" + i)
+                .body(body)
+                .from("User " + i)
+                .createdDateTime(now.minusMinutes(i))
+                .messageType("message")
+                .build());
+            events.add(EventDto.builder()
+                .id("event-" + i)
+                .subject("Event " + i)
+                .body(body)
+                .start(now.plusHours(i))
+                .end(now.plusHours(i + 1))
+                .location("Room " + i)
+                .isAllDay(false)
+                .build());
+            teams.add(TeamDto.builder()
+                .id("team-" + i)
+                .displayName("Team " + i)
+                .description("Description " + i)
+                .webUrl("https://teams.microsoft.com/l/team/" + i)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public void chatMessages() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), messages);
+    }
+
+    @Benchmark
+    public void events() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), events);
+    }
+
+    @Benchmark
+    public void teams() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), teams);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.teams.ms.service;
+
+import com.example.teams.ms.dto.ChatDto;
+import com.example.teams.ms.dto.ChatMessageDto;
+import com.microsoft.graph.models.BodyType;
+import com.microsoft.graph.models.Chat;
+import com.microsoft.graph.models.ChatMessage;
+import com.microsoft.graph.models.ChatMessageFromIdentitySet;
+import com.microsoft.graph.models.ChatMessageType;
+import com.microsoft.graph.models.ChatType;
+import com.microsoft.graph.models.Identity;
+import com.microsoft.graph.models.ItemBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph 모델 → DTO 변환 비용 (요청 한 번의 목록 응답 기준)
+ *
+ * ChatService가 채팅/메시지 목록 응답마다 수행하는 변환을 Graph 응답 크기(top=50)로 측정합니다.
+ * (Graph 모델 getter는 BackingStore 조회를 거치므로 필드 수에 비례해 비용이 듭니다)
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="GraphDtoMappingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class GraphDtoMappingBenchmark {
+
+    @Param({"50"})
+    public int size;
+
+    @Param({"512"})
+    public int bodyBytes;
+
+    private List<ChatMessage> messages;
+    private List<Chat> chats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String content = "<p>" + "x".repeat(bodyBytes) + "</p>";
+
+        messages = new ArrayList<>(size);
+        chats = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ItemBody body = new ItemBody();
+            body.setContentType(BodyType.Html);
+            body.setContent(content);
+
+            Identity user = new Identity();
+            user.setId("user-" + i);
+            user.setDisplayName("User " + i);
+            ChatMessageFromIdentitySet from = new ChatMessageFromIdentitySet();
+            from.setUser(user);
+
+            ChatMessage message = new ChatMessage();
+            message.setId("message-" + i);
+            message.setBody(body);
+            message.setFrom(from);
+            message.setCreatedDateTime(now.minusMinutes(i));
+            message.setMessageType(ChatMessageType.Message);
+            messages.add(message);
+
+            Chat chat = new Chat();
+            chat.setId("chat-" + i);
+            chat.setTopic("Chat " + i);
+            chat.setChatType(ChatType.Group);
+            chat.setCreatedDateTime(now.minusDays(i));
+            chat.setWebUrl("https://teams.microsoft.com/l/chat/" + i);
+            chats.add(chat);
+        }
+    }
+
+    @Benchmark
+    public List<ChatMessageDto> chatMessages() {
+        List<ChatMessageDto> result = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            result.add(ChatService.toChatMessageDto(message, message.getFrom().getUser().getDisplayName()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ChatDto> chats() {
+        List<ChatDto> result = new ArrayList<>(chats.size());
+        for (Chat chat : chats) {
+            result.add(ChatService.toChatDto(chat));
+        }
+        return result;
+    }
+}
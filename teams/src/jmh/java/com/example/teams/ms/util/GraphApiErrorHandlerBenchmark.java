@@ -0,0 +1,89 @@
+package com.example.teams.ms.util;
+
+import com.microsoft.graph.models.odataerrors.MainError;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.kiota.ApiException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph 에러 응답 변환 비용 (GraphApiErrorHandler.handle)
+ *
+ * - odataError: SDK가 본문을 파싱한 ODataError (일반적인 Graph 에러 응답)
+ * - apiException: 본문 없는 ApiException (리플렉션/메시지 검사 후 기본 메시지 사용)
+ * - jsonMessage: 메시지에 JSON 본문이 담긴 예외 (ObjectMapper 파싱 경로)
+ * 에러 로그 출력 비용은 제외합니다. (src/jmh/resources/logback-test.xml)
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="GraphApiErrorHandlerBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class GraphApiErrorHandlerBenchmark {
+
+    private static final String OPERATION = "채팅 메시지 조회";
+
+    private GraphApiErrorHandler errorHandler;
+    private ODataError odataError;
+    private ApiException apiException;
+    private ApiException jsonMessageException;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        errorHandler = new GraphApiErrorHandler();
+
+        MainError mainError = new MainError();
+        mainError.setCode("TooManyRequests");
+        mainError.setMessage("Too many requests");
+        odataError = new ODataError();
+        odataError.setError(mainError);
+        odataError.setResponseStatusCode(429);
+
+        apiException = new ApiException("service unavailable");
+        apiException.setResponseStatusCode(503);
+
+        jsonMessageException = new ApiException(
+            "{\"error\":{\"code\":\"itemNotFound\",\"message\":\"The requested resource does not exist.\"}}");
+        jsonMessageException.setResponseStatusCode(404);
+    }
+
+    @Benchmark
+    public RuntimeException odataError() {
+        return convert(odataError);
+    }
+
+    @Benchmark
+    public RuntimeException apiException() {
+        return convert(apiException);
+    }
+
+    @Benchmark
+    public RuntimeException jsonMessage() {
+        return convert(jsonMessageException);
+    }
+
+    private RuntimeException convert(Exception e) {
+        try {
+            errorHandler.handle(e, OPERATION);
+            throw new IllegalStateException("변환된 예외가 없습니다.");
+        } catch (RuntimeException converted) {
+            return converted;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.teams.shared.util;
+
+import com.example.teams.shared.web.AuthPrincipal;
+import com.example.teams.shared.web.AuthPrincipalResolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token(JWT) payload 디코딩 비용
+ *
+ * isAdmin(session)과 AuthPrincipalResolver의 getTokenObjectId를
+ * 실제 Entra ID 토큰과 비슷한 크기(약 2KB, scp/wids 포함)의 토큰으로 측정합니다.
+ * resolvePrincipal은 /api 요청마다 실행되는 AuthPrincipalResolver (같은 세션 속성이면 SHA-256 키 계산 후 캐시 조회만 함)
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="AuthUtilBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class AuthUtilBenchmark {
+
+    private AuthUtil authUtil;
+    private AuthPrincipalResolver authPrincipalResolver;
+    private MockHttpSession session;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        authUtil = new AuthUtil();
+        authPrincipalResolver = new AuthPrincipalResolver(authUtil);
+        accessToken = token();
+        session = new MockHttpSession();
+        session.setAttribute("accessToken", accessToken);
+    }
+
+    @Benchmark
+    public boolean isAdmin() {
+        return authUtil.isAdmin(session);
+    }
+
+    @Benchmark
+    public String tokenObjectId() {
+        return authUtil.getTokenObjectId(accessToken);
+    }
+
+    @Benchmark
+    public AuthPrincipal resolvePrincipal() {
+        return authPrincipalResolver.resolve(session);
+    }
+
+    private static String token() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = "{\"typ\":\"JWT\",\"nonce\":\"" + "n".repeat(43) + "\",\"alg\":\"RS256\","
+            + "\"x5t\":\"" + "t".repeat(27) + "\",\"kid\":\"" + "k".repeat(27) + "\"}";
+        String payload = "{\"aud\":\"https://graph.microsoft.com\","
+            + "\"iss\":\"https://sts.windows.net/00000000-0000-0000-0000-000000000000/\","
+            + "\"iat\":1700000000,\"nbf\":1700000000,\"exp\":1700004000,"
+            + "\"acct\":0,\"acr\":\"1\",\"amr\":[\"pwd\",\"mfa\"],"
+            + "\"app_displayname\":\"teams\",\"appid\":\"11111111-1111-1111-1111-111111111111\","
+            + "\"family_name\":\"Kim\",\"given_name\":\"Benchmark\",\"idtyp\":\"user\","
+            + "\"name\":\"Benchmark User\",\"oid\":\"22222222-2222-2222-2222-222222222222\","
+            + "\"scp\":\"Calendars.ReadWrite Chat.ReadWrite ChannelMessage.Read.All Directory.Read.All "
+            + "OnlineMeetings.ReadWrite Team.ReadBasic.All User.Read User.ReadWrite profile openid email\","
+            + "\"sub\":\"" + "s".repeat(43) + "\",\"tid\":\"00000000-0000-0000-0000-000000000000\","
+            + "\"unique_name\":\"user@example.com\",\"upn\":\"user@example.com\","
+            + "\"uti\":\"" + "u".repeat(22) + "\",\"ver\":\"1.0\","
+            + "\"wids\":[\"62e90394-69f5-4237-9190-012177145e10\",\"b79fbf4d-3ef9-4689-8143-76b194e85509\"],"
+            + "\"xms_st\":{\"sub\":\"" + "x".repeat(43) + "\"},\"xms_tcdt\":1600000000}";
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(new byte[256]);
+    }
+}
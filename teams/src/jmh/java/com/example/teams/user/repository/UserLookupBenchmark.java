@@ -0,0 +1,194 @@
+package com.example.teams.user.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 경로 사용자 조회 쿼리 지연 시간 (prod 스키마, 사용자 100만 명)
+ *
+ * Flyway 마이그레이션(db/migration)으로 만든 파일 H2에 사용자를 채운 뒤,
+ * UserRepository 메서드가 실행하는 것과 같은 SQL을 무작위 키로 측정합니다. (2차 캐시 미사용 기준)
+ * 인덱스가 빠지면 전체 스캔으로 바뀌어 결과가 수 자릿수 느려집니다.
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec -Djmh.args="UserLookupBenchmark"
+ * 사용자 수 변경: -Djmh.args="UserLookupBenchmark -p userCount=100000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class UserLookupBenchmark {
+
+    private static final String COLUMNS =
+        "id, email, password, name, microsoft_id, user_principal_name, login_type, refresh_token, "
+            + "created_at, last_login_at, oauth_linked_at";
+
+    private static final String FIND_BY_ID = "select " + COLUMNS + " from users where id = ?";
+    private static final String FIND_BY_EMAIL = "select " + COLUMNS + " from users where email = ?";
+    private static final String FIND_BY_MICROSOFT_ID = "select " + COLUMNS + " from users where microsoft_id = ?";
+    private static final String LOCK_BY_MICROSOFT_ID_OR_EMAIL = "select " + COLUMNS + " from users where id in ("
+        + "select id from users where microsoft_id = ? union select id from users where email = ?) for update";
+
+    @Param({"1000000"})
+    public int userCount;
+
+    private Path directory;
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("user-lookup-bench");
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:file:" + directory.resolve("teamsdb").toAbsolutePath());
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        insertUsers();
+    }
+
+    /**
+     * 사용자 생성 (짝수 번호 사용자만 Microsoft 계정 연동)
+     */
+    private void insertUsers() throws SQLException {
+        String sql = "insert into users (email, password, name, microsoft_id, login_type, created_at) "
+            + "values (?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            for (int n = 1; n <= userCount; n++) {
+                boolean linked = n % 2 == 0;
+                ps.setString(1, email(n));
+                ps.setString(2, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma");
+                ps.setString(3, "User " + n);
+                ps.setString(4, linked ? microsoftId(n) : null);
+                ps.setString(5, linked ? "BOTH" : "APP");
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+                if (n % 10_000 == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dataSource.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long findById() throws SQLException {
+        return query(FIND_BY_ID, ps -> ps.setLong(1, randomUser()));
+    }
+
+    @Benchmark
+    public long findByEmail() throws SQLException {
+        return query(FIND_BY_EMAIL, ps -> ps.setString(1, email(randomUser())));
+    }
+
+    @Benchmark
+    public long findByMicrosoftId() throws SQLException {
+        return query(FIND_BY_MICROSOFT_ID, ps -> ps.setString(1, microsoftId(randomLinkedUser())));
+    }
+
+    /**
+     * OAuth 로그인 연동 조회 (트랜잭션 + 행 잠금, UserService.findOAuthUser)
+     */
+    @Benchmark
+    public long lockByMicrosoftIdOrEmail() throws SQLException {
+        int n = randomLinkedUser();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(LOCK_BY_MICROSOFT_ID_OR_EMAIL)) {
+                ps.setString(1, microsoftId(n));
+                ps.setString(2, email(n));
+                long id = readId(ps);
+                connection.commit();
+                return id;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private long query(String sql, Binder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            binder.bind(ps);
+            return readId(ps);
+        }
+    }
+
+    private static long readId(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt(1, userCount + 1);
+    }
+
+    private int randomLinkedUser() {
+        return ThreadLocalRandom.current().nextInt(1, userCount / 2 + 1) * 2;
+    }
+
+    private static String email(int n) {
+        return "user" + n + "@example.com";
+    }
+
+    private static String microsoftId(int n) {
+        return "ms-" + n;
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+}
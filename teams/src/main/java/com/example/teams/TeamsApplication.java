@@ -1,10 +1,14 @@
 package com.example.teams;
 
+import com.example.teams.shared.config.NativeRuntimeHints;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class TeamsApplication extends SpringBootServletInitializer {
 
 	public static void main(String[] args) {
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * SAML 2.0 설정
@@ -14,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
  * - 사용자가 우리 포털에서 로그인하면 Microsoft Entra ID가 우리 포털의 인증 정보를 받음
  */
 @Configuration
+@ImportRuntimeHints(SamlRuntimeHints.class)
 @ConfigurationProperties(prefix = "saml.idp")
 @Getter
 @Setter
@@ -38,6 +40,11 @@ public class AppSamlConfig {
      */
     private String ssoUrl = "http://localhost:8080/auth/saml/sso";
     
+    /**
+     * 우리 포털의 Single Logout URL (RP가 LogoutRequest를 보내는 URL)
+     */
+    private String idpSloUrl = "http://localhost:8080/auth/saml/slo";
+    
     /**
      * 우리 포털의 메타데이터 URL
      */
@@ -53,19 +60,98 @@ public class AppSamlConfig {
      */
     private String privateKeyPath = "classpath:saml/private-key.pem";
     
+    /**
+     * 다음 인증서 파일 경로 (키 롤오버용, 선택)
+     * 설정하면 메타데이터에 함께 게시되어 RP가 미리 신뢰할 수 있습니다.
+     * 교체 시점에 certificate-path/private-key-path 파일을 새 키로 바꾸면 자동 반영됩니다.
+     */
+    private String nextCertificatePath;
+    
+    /**
+     * 다음 개인키 파일 경로 (키 롤오버용, 선택)
+     */
+    private String nextPrivateKeyPath;
+    
+    /**
+     * 인증서/개인키 파일 변경 확인 주기 (초)
+     */
+    private int credentialRefreshSeconds = 30;
+    
     /**
      * Microsoft Entra ID의 Entity ID (RP 식별자)
      */
     private String relyingPartyEntityId = "https://sts.windows.net/{tenant-id}/";
     
+    /**
+     * Microsoft Entra ID의 SAML 서명 인증서 (PEM, LogoutRequest 서명 검증용)
+     * 롤오버 중에는 여러 인증서를 이어 붙이면 모두 신뢰합니다. 비어 있으면 LogoutRequest를 모두 거절합니다.
+     */
+    private String relyingPartyCertificatePath = "";
+    
     /**
      * Assertion 유효 시간 (초)
      */
     private int assertionValiditySeconds = 300;
     
+    /**
+     * AuthnRequest 최대 크기 (바이트, 압축 해제 후 기준)
+     */
+    private int maxRequestBytes = 64 * 1024;
+    
+    /**
+     * AuthnRequest ID 재사용(replay) 확인 기간 (초)
+     */
+    private int requestReplayTtlSeconds = 10 * 60;
+    
+    /**
+     * 재사용 확인용으로 보관하는 AuthnRequest ID 최대 개수 (노드별)
+     */
+    private int requestReplayCacheSize = 100_000;
+    
+    /**
+     * 메타데이터 응답 캐시 시간 (Cache-Control max-age, 초)
+     */
+    private int metadataMaxAgeSeconds = 60 * 60;
+    
     /**
      * NameID 형식
      */
     private String nameIdFormat = "urn:oasis:names:tc:SAML:2.0:nameid-format:emailAddress";
+    
+    /**
+     * OpenSAML을 시작 완료 후 백그라운드에서 미리 초기화할지 여부 (false면 첫 SAML 요청 시 초기화)
+     */
+    private boolean backgroundInit = true;
+    
+    // Assertion 서명 스레드 풀 설정
+    private SigningConfig signing = new SigningConfig();
+    
+    @Getter
+    @Setter
+    public static class SigningConfig {
+        /**
+         * 서명 전용 스레드 풀 사용 여부 (false면 요청 스레드에서 바로 서명)
+         */
+        private boolean poolEnabled = false;
+        
+        /**
+         * 서명 전용 스레드 수 (0 이하면 CPU 코어 수)
+         */
+        private int poolSize = 0;
+        
+        /**
+         * 서명 작업 대기 큐 크기 (가득 차면 즉시 거절)
+         */
+        private int queueCapacity = 128;
+        
+        /**
+         * 서명 작업 최대 대기 시간 (밀리초)
+         */
+        private long timeoutMillis = 3000;
+        
+        public int resolvePoolSize() {
+            return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        }
+    }
 }
 
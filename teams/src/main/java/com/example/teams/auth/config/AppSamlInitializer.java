@@ -1,30 +1,71 @@
 package com.example.teams.auth.config;
 
-import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensaml.core.config.InitializationService;
 import org.opensaml.core.config.InitializationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
  * SAML 2.0 초기화 클래스
  * 
- * OpenSAML 라이브러리를 초기화합니다.
- * 애플리케이션 시작 시 자동으로 실행됩니다.
+ * OpenSAML 라이브러리(XML 객체 제공자, 보안 설정 등)를 초기화합니다.
+ * 초기화는 수백 ms가 걸리므로 애플리케이션 시작 경로에서 제외합니다.
+ * - saml.idp.background-init=true: 시작 완료 후 백그라운드 스레드에서 미리 초기화
+ * - 그 외: SAML 기능을 처음 사용할 때 초기화
+ * OpenSAML을 사용하는 코드는 사용 전에 {@link #ensureInitialized()}를 호출합니다. (이미 초기화되었으면 바로 반환)
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class AppSamlInitializer {
     
-    @PostConstruct
-    public void initialize() {
-        try {
-            InitializationService.initialize();
-            log.info("OpenSAML 초기화 완료");
-        } catch (InitializationException e) {
-            log.error("OpenSAML 초기화 실패", e);
-            throw new RuntimeException("OpenSAML 초기화 실패", e);
+    private static final Object LOCK = new Object();
+    private static volatile boolean initialized;
+    
+    private final AppSamlConfig appSamlConfig;
+    
+    /**
+     * OpenSAML 초기화 (최초 한 번, 진행 중이면 완료될 때까지 대기)
+     */
+    public static void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        synchronized (LOCK) {
+            if (initialized) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                InitializationService.initialize();
+            } catch (InitializationException e) {
+                log.error("OpenSAML 초기화 실패", e);
+                throw new RuntimeException("OpenSAML 초기화 실패", e);
+            }
+            initialized = true;
+            log.info("OpenSAML 초기화 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
         }
     }
+    
+    /**
+     * 시작 완료 후 백그라운드 초기화 (첫 SAML 요청의 지연 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeInBackground() {
+        if (!appSamlConfig.isBackgroundInit()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                ensureInitialized();
+            } catch (RuntimeException e) {
+                // 첫 사용 시 다시 시도
+            }
+        }, "opensaml-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
 }
-
@@ -19,6 +19,11 @@ public class AzureOAuthConfig {
     private String tenantId;
     private String redirectUri;
     private String scope;
+    /**
+     * Graph API 기본 주소 (비어 있으면 SDK 기본값 https://graph.microsoft.com/v1.0)
+     * 테스트/부하 테스트에서 로컬 Graph 대역 서버를 가리킬 때 사용
+     */
+    private String graphBaseUrl;
     
     // OAuth 2.0 설정 (MS가 IdP → 내 앱 로그인 연동)
     private OAuthConfig oauth = new OAuthConfig();
@@ -0,0 +1,61 @@
+package com.example.teams.auth.config;
+
+import com.example.teams.auth.service.SamlRequestDecoder;
+
+import org.opensaml.core.xml.config.XMLObjectProviderRegistrySupport;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * OpenSAML / Apache Santuario 네이티브 이미지 힌트 (mvn -Pnative native:compile)
+ *
+ * OpenSAML은 초기화 시 설정 XML(*-config.xml)에 적힌 클래스 이름으로 빌더/마샬러/언마샬러를 생성합니다.
+ * 빌드 시점(AOT 처리, JVM)에 OpenSAML을 실제로 초기화하여 등록된 클래스를 그대로 리플렉션 대상으로 등록하므로
+ * OpenSAML 버전이 바뀌어도 목록을 따로 관리할 필요가 없습니다.
+ */
+public class SamlRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Santuario가 클래스 객체로 생성하는 서명/정규화/변환 구현 (SamlObjects.signatureAlgorithm, AppSamlService 서명 설정)
+     */
+    private static final List<String> XMLSEC_IMPLEMENTATIONS = List.of(
+        "org.apache.xml.security.algorithms.implementations.SignatureBaseRSA$SignatureRSASHA256",
+        "org.apache.xml.security.algorithms.implementations.SignatureECDSA$SignatureECDSASHA256",
+        "org.apache.xml.security.c14n.implementations.Canonicalizer20010315ExclOmitComments",
+        "org.apache.xml.security.c14n.implementations.Canonicalizer20010315ExclWithComments",
+        "org.apache.xml.security.transforms.implementations.TransformEnvelopedSignature",
+        "org.apache.xml.security.transforms.implementations.TransformC14NExclusive"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // OpenSAML 설정 XML과 검증 스키마, Santuario 설정/메시지
+        hints.resources().registerPattern("*-config.xml");
+        hints.resources().registerPattern("schema/*.xsd");
+        hints.resources().registerPattern("org/apache/xml/security/resource/*");
+        hints.resources().registerResourceBundle("org.apache.xml.security.resource.xmlsecurity");
+
+        AppSamlInitializer.ensureInitialized();
+        registerConstructors(hints, XMLObjectProviderRegistrySupport.getBuilderFactory().getBuilders().values());
+        registerConstructors(hints, XMLObjectProviderRegistrySupport.getMarshallerFactory().getMarshallers().values());
+        registerConstructors(hints, XMLObjectProviderRegistrySupport.getUnmarshallerFactory().getUnmarshallers().values());
+
+        for (String type : XMLSEC_IMPLEMENTATIONS) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        // JDBC 세션 모드에서 Java 직렬화로 저장되는 SAML 요청 정보
+        hints.serialization().registerType(SamlRequestDecoder.AuthnRequestInfo.class);
+    }
+
+    private static void registerConstructors(RuntimeHints hints, Collection<?> providers) {
+        for (Object provider : providers) {
+            hints.reflection().registerType(provider.getClass(), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
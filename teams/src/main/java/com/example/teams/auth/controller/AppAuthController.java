@@ -1,12 +1,14 @@
 package com.example.teams.auth.controller;
 
 import com.example.teams.auth.service.AzureOAuthService;
+import com.example.teams.shared.exception.TooManyRequestsException;
 import com.example.teams.shared.port.GraphClientPort;
 import com.example.teams.user.dto.LoginRequest;
 import com.example.teams.user.dto.RegisterRequest;
 import com.example.teams.user.entity.User;
 import com.example.teams.user.service.UserService;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,12 +49,13 @@ public class AppAuthController {
     public String appLogin(
             @RequestParam String email,
             @RequestParam String password,
+            HttpServletRequest httpRequest,
             HttpSession session,
             RedirectAttributes redirectAttributes) {
         
         try {
             LoginRequest request = new LoginRequest(email, password);
-            User user = userService.login(request);
+            User user = userService.login(request, httpRequest.getRemoteAddr());
             
             // 세션에 사용자 정보 저장
             session.setAttribute("userId", user.getId());
@@ -63,6 +66,10 @@ public class AppAuthController {
             log.info("앱 로그인 성공: {}", user.getEmail());
             redirectAttributes.addFlashAttribute("success", "로그인 성공!");
             return "redirect:/home";
+        } catch (TooManyRequestsException e) {
+            // 시도 횟수 초과 / 해시 풀 포화는 로그인 실패가 아니라 429로 응답
+            log.warn("앱 로그인 거절 (요청 과다): {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("앱 로그인 실패", e);
             redirectAttributes.addFlashAttribute("error", 
@@ -2,18 +2,31 @@ package com.example.teams.auth.controller;
 
 import com.example.teams.auth.config.AppSamlConfig;
 import com.example.teams.auth.service.AppSamlService;
+import com.example.teams.auth.service.SamlMetadataService;
+import com.example.teams.auth.service.SamlRequestDecoder;
+import com.example.teams.auth.service.SamlRequestDecoder.AuthnRequestInfo;
+import com.example.teams.auth.service.SamlRequestDecoder.LogoutRequestInfo;
+import com.example.teams.auth.service.SamlRequestReplayCache;
+import com.example.teams.auth.service.SamlSessionRegistry;
+import com.example.teams.shared.exception.TooManyRequestsException;
 import com.example.teams.user.entity.User;
 import com.example.teams.user.service.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.Duration;
+import java.util.UUID;
+
 /**
  * SAML 2.0 인증 컨트롤러
  * 
@@ -32,13 +45,17 @@ public class AppSamlController {
     private final AppSamlService appSamlService;
     private final AppSamlConfig appSamlConfig;
     private final UserService userService;
+    private final SamlRequestDecoder samlRequestDecoder;
+    private final SamlRequestReplayCache samlRequestReplayCache;
+    private final SamlMetadataService samlMetadataService;
+    private final SamlSessionRegistry samlSessionRegistry;
     
     /**
-     * SSO 시작
+     * SSO 시작 (HTTP-Redirect 바인딩)
      * Microsoft Entra ID로부터 AuthnRequest를 받아 로그인 페이지로 리다이렉트
      * 
      * 파라미터:
-     * - SAMLRequest: Base64 인코딩된 AuthnRequest
+     * - SAMLRequest: DEFLATE 압축 후 Base64 인코딩된 AuthnRequest
      * - RelayState: 원래 요청한 리소스 정보
      */
     @GetMapping("/sso")
@@ -47,18 +64,55 @@ public class AppSamlController {
             @RequestParam(required = false) String RelayState,
             HttpSession session,
             Model model) {
-        
-        log.info("SAML SSO 요청 수신: SAMLRequest={}, RelayState={}", SAMLRequest, RelayState);
-        
-        if (SAMLRequest == null) {
+        return startSso(SAMLRequest, RelayState, true, session, model);
+    }
+    
+    /**
+     * SSO 시작 (HTTP-POST 바인딩, 압축 없음)
+     */
+    @PostMapping("/sso")
+    public String ssoPost(
+            @RequestParam(required = false) String SAMLRequest,
+            @RequestParam(required = false) String RelayState,
+            HttpSession session,
+            Model model) {
+        return startSso(SAMLRequest, RelayState, false, session, model);
+    }
+    
+    private String startSso(String samlRequest, String relayState, boolean deflated,
+                            HttpSession session, Model model) {
+        if (samlRequest == null) {
             log.error("SAMLRequest 파라미터가 없습니다");
             model.addAttribute("error", "SAMLRequest 파라미터가 없습니다");
             return "error";
         }
         
-        // 세션에 SAMLRequest와 RelayState 저장
-        session.setAttribute("samlRequest", SAMLRequest);
-        session.setAttribute("relayState", RelayState);
+        AuthnRequestInfo authnRequest;
+        try {
+            authnRequest = samlRequestDecoder.decode(samlRequest, deflated);
+        } catch (IllegalArgumentException e) {
+            log.warn("SAML AuthnRequest 디코딩 실패: {}", e.getMessage());
+            model.addAttribute("error", "SAML 요청 형식이 올바르지 않습니다");
+            return "error";
+        }
+        
+        log.info("SAML SSO 요청 수신: ID={}, Issuer={}, RelayState={}", 
+            authnRequest.id(), authnRequest.issuer(), relayState);
+        
+        if (authnRequest.assertionConsumerServiceUrl() != null
+                && !authnRequest.assertionConsumerServiceUrl().equals(appSamlConfig.getAcsUrl())) {
+            // 응답은 항상 설정된 ACS URL로만 전송
+            log.warn("AuthnRequest의 ACS URL이 설정과 다릅니다: {}", authnRequest.assertionConsumerServiceUrl());
+        }
+        
+        if (!samlRequestReplayCache.markIfNew(authnRequest.id())) {
+            model.addAttribute("error", "이미 처리된 SAML 요청입니다");
+            return "error";
+        }
+        
+        // 세션에는 응답 생성에 필요한 정보만 저장
+        session.setAttribute("samlAuthnRequest", authnRequest);
+        session.setAttribute("relayState", relayState);
         
         // 로그인 페이지로 리다이렉트
         return "redirect:/auth/saml/login";
@@ -70,13 +124,12 @@ public class AppSamlController {
      */
     @GetMapping("/login")
     public String loginPage(HttpSession session, Model model) {
-        String samlRequest = (String) session.getAttribute("samlRequest");
-        if (samlRequest == null) {
+        AuthnRequestInfo authnRequest = (AuthnRequestInfo) session.getAttribute("samlAuthnRequest");
+        if (authnRequest == null) {
             model.addAttribute("error", "SAML 요청이 없습니다");
             return "error";
         }
         
-        model.addAttribute("samlRequest", samlRequest);
         return "auth/saml/login";
     }
     
@@ -98,13 +151,15 @@ public class AppSamlController {
     public String login(
             @RequestParam String email,
             @RequestParam String password,
+            HttpServletRequest httpRequest,
             HttpSession session,
             RedirectAttributes redirectAttributes) {
         
         try {
             // 사용자 인증 (우리 DB의 사용자)
             User user = userService.login(
-                new com.example.teams.user.dto.LoginRequest(email, password)
+                new com.example.teams.user.dto.LoginRequest(email, password),
+                httpRequest.getRemoteAddr()
             );
             
             // 세션에 사용자 정보 저장
@@ -113,17 +168,17 @@ public class AppSamlController {
             session.setAttribute("userName", user.getName());
             session.setAttribute("loginType", "SAML_IDP");
             
-            // SAMLRequest 가져오기
-            String samlRequest = (String) session.getAttribute("samlRequest");
+            // SSO 시작 시 디코딩해 둔 AuthnRequest 정보 가져오기
+            AuthnRequestInfo authnRequest = (AuthnRequestInfo) session.getAttribute("samlAuthnRequest");
             String relayState = (String) session.getAttribute("relayState");
             
-            if (samlRequest == null) {
+            if (authnRequest == null) {
                 redirectAttributes.addFlashAttribute("error", "SAML 요청이 없습니다");
                 return "redirect:/";
             }
             
-            // AuthnRequest 파싱 (간단한 버전 - 실제로는 더 복잡함)
-            String inResponseTo = extractInResponseTo(samlRequest);
+            String inResponseTo = authnRequest.id();
+            String sessionIndex = "_" + UUID.randomUUID();
             
             // SAML Response 생성
             // 주의: 여기서 user.getEmail()을 NameID로 사용하므로,
@@ -132,10 +187,15 @@ public class AppSamlController {
                 user.getId(),
                 user.getEmail(),
                 user.getName(),
-                inResponseTo
+                inResponseTo,
+                sessionIndex
             );
             
-            // 세션에 SAML Response 저장
+            // SLO 시 NameID/SessionIndex로 이 세션을 찾을 수 있도록 등록
+            samlSessionRegistry.register(session, user.getEmail(), sessionIndex);
+            
+            // AuthnRequest는 한 번만 응답 (세션에 SAML Response 저장)
+            session.removeAttribute("samlAuthnRequest");
             session.setAttribute("samlResponse", samlResponse);
             session.setAttribute("relayState", relayState);
             
@@ -144,6 +204,10 @@ public class AppSamlController {
             // Assertion 전송 페이지로 리다이렉트
             return "redirect:/auth/saml/assert";
             
+        } catch (TooManyRequestsException e) {
+            // 시도 횟수 초과 / 해시·서명 풀 포화는 로그인 실패가 아니라 429로 응답
+            log.warn("SAML 로그인 거절 (요청 과다): {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("SAML 로그인 실패", e);
             redirectAttributes.addFlashAttribute("error", 
@@ -191,7 +255,7 @@ public class AppSamlController {
         
         // 세션 정리 (폼 제출 후에 정리하는 것이 더 안전할 수 있음)
         // 일단 주석 처리하여 디버깅
-        // session.removeAttribute("samlRequest");
+        // session.removeAttribute("samlAuthnRequest");
         // session.removeAttribute("samlResponse");
         // session.removeAttribute("relayState");
         
@@ -199,24 +263,116 @@ public class AppSamlController {
     }
     
     /**
-     * IdP 메타데이터 제공
-     * Microsoft Entra ID에 등록할 우리 포털의 메타데이터
+     * Single Logout (HTTP-Redirect 바인딩)
+     * Microsoft Entra ID로부터 LogoutRequest를 받아 해당 사용자의 세션을 종료하고
+     * 서명된 LogoutResponse를 전송
+     * 
+     * 쿼리 서명(SigAlg/Signature)은 원본 인코딩 그대로 검증해야 하므로 원본 쿼리 문자열을 사용합니다.
      */
-    @GetMapping(value = "/metadata", produces = MediaType.APPLICATION_XML_VALUE)
-    @ResponseBody
-    public String metadata() {
-        log.info("SAML 메타데이터 요청");
-        return appSamlService.generateMetadata();
+    @GetMapping("/slo")
+    public String slo(
+            @RequestParam(required = false) String SAMLRequest,
+            @RequestParam(required = false) String RelayState,
+            HttpServletRequest httpRequest,
+            Model model) {
+        if (SAMLRequest == null) {
+            model.addAttribute("error", "SAMLRequest 파라미터가 없습니다");
+            return "error";
+        }
+        
+        LogoutRequestInfo logoutRequest;
+        try {
+            logoutRequest = samlRequestDecoder.decodeRedirectLogoutRequest(httpRequest.getQueryString());
+        } catch (IllegalArgumentException e) {
+            log.warn("SAML LogoutRequest 검증 실패: {}", e.getMessage());
+            model.addAttribute("error", "SAML 요청 형식이 올바르지 않습니다");
+            return "error";
+        }
+        return handleLogoutRequest(logoutRequest, RelayState, httpRequest, model);
+    }
+    
+    /**
+     * Single Logout (HTTP-POST 바인딩, 압축 없음, enveloped XML 서명)
+     */
+    @PostMapping("/slo")
+    public String sloPost(
+            @RequestParam(required = false) String SAMLRequest,
+            @RequestParam(required = false) String RelayState,
+            HttpServletRequest httpRequest,
+            Model model) {
+        if (SAMLRequest == null) {
+            model.addAttribute("error", "SAMLRequest 파라미터가 없습니다");
+            return "error";
+        }
+        
+        LogoutRequestInfo logoutRequest;
+        try {
+            logoutRequest = samlRequestDecoder.decodePostLogoutRequest(SAMLRequest);
+        } catch (IllegalArgumentException e) {
+            log.warn("SAML LogoutRequest 검증 실패: {}", e.getMessage());
+            model.addAttribute("error", "SAML 요청 형식이 올바르지 않습니다");
+            return "error";
+        }
+        return handleLogoutRequest(logoutRequest, RelayState, httpRequest, model);
     }
     
     /**
-     * AuthnRequest에서 InResponseTo 추출 (간단한 버전)
-     * 실제로는 XML 파싱이 필요함
+     * 서명 검증을 마친 LogoutRequest 처리
      */
-    private String extractInResponseTo(String samlRequest) {
-        // TODO: 실제 XML 파싱 구현 필요
-        // 임시로 랜덤 ID 반환
-        return "req_" + System.currentTimeMillis();
+    private String handleLogoutRequest(LogoutRequestInfo logoutRequest, String relayState,
+                                       HttpServletRequest httpRequest, Model model) {
+        // 등록된 RP가 보낸 요청만 처리
+        if (!appSamlConfig.getRelyingPartyEntityId().equals(logoutRequest.issuer())) {
+            log.warn("알 수 없는 Issuer의 LogoutRequest: {}", logoutRequest.issuer());
+            model.addAttribute("error", "허용되지 않은 SAML 요청입니다");
+            return "error";
+        }
+        
+        if (!samlRequestReplayCache.markIfNew(logoutRequest.id())) {
+            model.addAttribute("error", "이미 처리된 SAML 요청입니다");
+            return "error";
+        }
+        
+        SamlSessionRegistry.LogoutResult result =
+            samlSessionRegistry.terminate(logoutRequest.nameId(), logoutRequest.sessionIndexes());
+        
+        // 현재 브라우저 세션이 같은 사용자이면 함께 종료 (이미 종료된 경우 무시)
+        HttpSession currentSession = httpRequest.getSession(false);
+        if (currentSession != null) {
+            try {
+                if (logoutRequest.nameId().equals(currentSession.getAttribute(SamlSessionRegistry.NAME_ID_ATTRIBUTE))) {
+                    currentSession.invalidate();
+                }
+            } catch (IllegalStateException e) {
+                // 이미 무효화된 세션
+            }
+        }
+        
+        log.info("SAML SLO 처리 완료: RequestID={}, NameID={}, 종료 세션 수={}, 부분 로그아웃={}",
+            logoutRequest.id(), logoutRequest.nameId(), result.terminated(), result.partial());
+        
+        model.addAttribute("sloUrl", appSamlConfig.getSloUrl());
+        model.addAttribute("samlResponse", appSamlService.createLogoutResponse(logoutRequest.id(), result.partial()));
+        model.addAttribute("relayState", relayState);
+        return "auth/saml/logout";
+    }
+    
+    /**
+     * IdP 메타데이터 제공
+     * Microsoft Entra ID에 등록할 우리 포털의 메타데이터
+     * 
+     * 캐시된 바이트를 ETag/Cache-Control과 함께 반환하며,
+     * If-None-Match가 일치하면 본문 없이 304를 반환합니다.
+     */
+    @GetMapping(value = "/metadata", produces = MediaType.APPLICATION_XML_VALUE)
+    @ResponseBody
+    public ResponseEntity<byte[]> metadata() {
+        SamlMetadataService.Metadata metadata = samlMetadataService.getMetadata();
+        return ResponseEntity.ok()
+            .eTag(metadata.eTag())
+            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(appSamlConfig.getMetadataMaxAgeSeconds())).cachePublic())
+            .contentType(MediaType.APPLICATION_XML)
+            .body(metadata.body());
     }
 }
 
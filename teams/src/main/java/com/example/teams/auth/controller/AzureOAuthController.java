@@ -92,15 +92,10 @@ public class AzureOAuthController {
             graphClientPort.initializeGraphClient(accessToken);
             
             // Microsoft Graph API로 사용자 정보 가져오기
-            GraphServiceClient graphClient = graphClientPort.getGraphClient();
-            com.microsoft.graph.models.User graphUser = graphClient.me().get(requestConfiguration -> {
-                requestConfiguration.queryParameters.select = new String[]{
-                    "id", "displayName", "mail", "userPrincipalName"
-                };
-            });
+            MicrosoftIdentity graphUser = resolveIdentity();
             
             // userPrincipalName으로 DB의 email과 매핑
-            String userPrincipalName = graphUser.getUserPrincipalName();
+            String userPrincipalName = graphUser.userPrincipalName();
             if (userPrincipalName == null || userPrincipalName.isEmpty()) {
                 // OAuth 로그인 실패 시 MS 토큰 및 Graph Client도 제거 (OAuth 실패 = MS 로그인도 실패)
                 commonAuthController.clearMsAuthentication(session, false);
@@ -109,7 +104,7 @@ public class AzureOAuthController {
                 return "auth/microsoft/teams-callback";
             }
             
-            log.info("OAuth 로그인 시도: userPrincipalName={}, mail={}", userPrincipalName, graphUser.getMail());
+            log.info("OAuth 로그인 시도: userPrincipalName={}, mail={}", userPrincipalName, graphUser.mail());
             
             // userPrincipalName을 email로 사용하여 DB에서 사용자 찾기
             User user = userService.findByEmail(userPrincipalName)
@@ -128,8 +123,8 @@ public class AzureOAuthController {
             if (user.getMicrosoftId() == null) {
                 user = userService.linkOAuth(
                     user.getId(),
-                    graphUser.getId(),
-                    graphUser.getUserPrincipalName()
+                    graphUser.id(),
+                    graphUser.userPrincipalName()
                 );
             }
             
@@ -207,20 +202,15 @@ public class AzureOAuthController {
             graphClientPort.initializeGraphClient(accessToken);
             
             // Microsoft Graph API로 사용자 정보 가져오기
-            GraphServiceClient graphClient = graphClientPort.getGraphClient();
-            com.microsoft.graph.models.User graphUser = graphClient.me().get(requestConfiguration -> {
-                requestConfiguration.queryParameters.select = new String[]{
-                    "id", "displayName", "mail", "userPrincipalName"
-                };
-            });
+            MicrosoftIdentity graphUser = resolveIdentity();
             
             // userPrincipalName으로 DB의 email과 매핑
-            String userPrincipalName = graphUser.getUserPrincipalName();
+            String userPrincipalName = graphUser.userPrincipalName();
             if (userPrincipalName == null || userPrincipalName.isEmpty()) {
                 throw new UnauthorizedException("userPrincipalName 정보가 없습니다.");
             }
             
-            log.info("OAuth 로그인 시도: userPrincipalName={}, mail={}", userPrincipalName, graphUser.getMail());
+            log.info("OAuth 로그인 시도: userPrincipalName={}, mail={}", userPrincipalName, graphUser.mail());
             
             // userPrincipalName을 email로 사용하여 DB에서 사용자 찾기
             User user = userService.findByEmail(userPrincipalName)
@@ -231,8 +221,8 @@ public class AzureOAuthController {
             if (user.getMicrosoftId() == null) {
                 user = userService.linkOAuth(
                     user.getId(),
-                    graphUser.getId(),
-                    graphUser.getUserPrincipalName()
+                    graphUser.id(),
+                    graphUser.userPrincipalName()
                 );
             }
             
@@ -323,18 +313,13 @@ public class AzureOAuthController {
             graphClientPort.initializeGraphClient(accessToken);
             
             // Microsoft Graph API로 사용자 정보 가져오기
-            GraphServiceClient graphClient = graphClientPort.getGraphClient();
-            com.microsoft.graph.models.User graphUser = graphClient.me().get(requestConfiguration -> {
-                requestConfiguration.queryParameters.select = new String[]{
-                    "id", "userPrincipalName"
-                };
-            });
+            MicrosoftIdentity graphUser = resolveIdentity();
             
             // OAuth 연동
             User user = userService.linkOAuth(
                 userId,
-                graphUser.getId(),
-                graphUser.getUserPrincipalName()
+                graphUser.id(),
+                graphUser.userPrincipalName()
             );
             
             // Refresh Token 저장 (Access Token은 세션에만 저장)
@@ -357,5 +342,25 @@ public class AzureOAuthController {
             return "redirect:/home";
         }
     }
+    
+    /**
+     * 로그인한 Microsoft 사용자 식별 (Graph me())
+     * 로그인/연동의 기준이 되므로 디렉터리 미러(동기화 지연, 삭제/변경된 계정)가 아니라 항상 Graph에서 확인합니다.
+     * (Graph Client는 호출 전에 초기화되어 있어야 함)
+     */
+    private MicrosoftIdentity resolveIdentity() {
+        GraphServiceClient graphClient = graphClientPort.getGraphClient();
+        com.microsoft.graph.models.User graphUser = graphClient.me().get(requestConfiguration -> {
+            requestConfiguration.queryParameters.select = new String[]{
+                "id", "displayName", "mail", "userPrincipalName"
+            };
+        });
+        return new MicrosoftIdentity(graphUser.getId(), graphUser.getUserPrincipalName(), graphUser.getMail());
+    }
+    
+    /**
+     * Microsoft 사용자 식별 정보
+     */
+    private record MicrosoftIdentity(String id, String userPrincipalName, String mail) {
+    }
 }
-
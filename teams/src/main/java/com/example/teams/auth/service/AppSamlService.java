@@ -5,42 +5,25 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.opensaml.core.xml.config.XMLObjectProviderRegistrySupport;
+import org.opensaml.core.xml.XMLObjectBuilder;
+import org.opensaml.core.xml.io.Marshaller;
 import org.opensaml.saml.common.SAMLVersion;
 import org.opensaml.saml.saml2.core.*;
-import org.opensaml.saml.saml2.core.impl.AttributeBuilder;
-import org.opensaml.saml.saml2.core.impl.ResponseBuilder;
 import org.opensaml.core.xml.schema.XSString;
 import org.opensaml.xmlsec.signature.Signature;
 import org.opensaml.xmlsec.signature.support.SignatureConstants;
-import org.opensaml.xmlsec.signature.support.Signer;
-import org.opensaml.security.credential.Credential;
-import org.opensaml.security.credential.CredentialSupport;
 import org.opensaml.security.x509.X509Credential;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 import org.w3c.dom.Element;
 
 import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.shared.exception.TooManyRequestsException;
 
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
-import java.security.PrivateKey;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.util.Base64;
-import java.util.Scanner;
 import java.util.UUID;
 
+import static com.example.teams.auth.service.SamlObjects.builder;
+import static com.example.teams.auth.service.SamlObjects.marshaller;
+
 /**
  * SAML 2.0 서비스
  * 
@@ -48,36 +31,33 @@ import java.util.UUID;
  * - 우리 포털이 사용자 인증을 담당
  * - Microsoft Entra ID는 Relying Party (RP)로 동작
  * - 사용자가 우리 포털에서 로그인하면 Microsoft Entra ID가 우리 포털의 인증 정보를 받음
+ * 
+ * Response 생성 경로:
+ * - OpenSAML 빌더/마샬러는 스레드 안전하므로 한 번만 조회하여 재사용
+ * - Assertion에 Signature를 붙인 채 Response 전체를 한 번만 마샬링한 뒤 DOM 위에서 서명
+ * - 직렬화는 스레드별 Transformer로 Base64 버퍼에 바로 기록 ({@link SamlXmlWriter})
+ * - 서명은 {@link SamlSigningService}에 위임 (설정 시 서명 전용 스레드 풀에서 수행)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AppSamlService {
     
+    private static final String STATUS_SUCCESS = "urn:oasis:names:tc:SAML:2.0:status:Success";
+    private static final String STATUS_PARTIAL_LOGOUT = "urn:oasis:names:tc:SAML:2.0:status:PartialLogout";
+    private static final String BEARER = "urn:oasis:names:tc:SAML:2.0:cm:bearer";
+    private static final String PASSWORD_PROTECTED_TRANSPORT = "urn:oasis:names:tc:SAML:2.0:ac:classes:PasswordProtectedTransport";
+    private static final String ATTRIBUTE_NAME_FORMAT_URI = "urn:oasis:names:tc:SAML:2.0:attrname-format:uri";
+    private static final String CLAIM_EMAIL = "http://schemas.xmlsoap.org/ws/2005/05/identity/claims/emailaddress";
+    private static final String CLAIM_NAME = "http://schemas.xmlsoap.org/ws/2005/05/identity/claims/name";
+    
     private final AppSamlConfig appSamlConfig;
-    private final ResourceLoader resourceLoader;
+    private final SamlCredentialManager samlCredentialManager;
+    private final SamlXmlWriter samlXmlWriter;
+    private final SamlSigningService samlSigningService;
     
-    /**
-     * SAML 2.0 AuthnRequest 파싱
-     * Microsoft Entra ID로부터 받은 인증 요청을 처리
-     */
-    public AuthnRequest parseAuthnRequest(String samlRequest) {
-        try {
-            // Base64 디코딩 및 압축 해제
-            byte[] decoded = java.util.Base64.getDecoder().decode(samlRequest);
-            // TODO: 실제로는 압축 해제가 필요할 수 있음
-            
-            // XML 파싱
-            // TODO: OpenSAML을 사용한 실제 파싱 구현 필요
-            log.info("SAML AuthnRequest 수신: {}", samlRequest);
-            
-            // 임시로 null 반환 (실제 구현 필요)
-            return null;
-        } catch (Exception e) {
-            log.error("SAML AuthnRequest 파싱 실패", e);
-            throw new RuntimeException("SAML AuthnRequest 파싱 실패", e);
-        }
-    }
+    // OpenSAML 초기화 이후 첫 사용 시 생성
+    private volatile SamlBuilders builders;
     
     /**
      * SAML 2.0 Response 생성
@@ -87,103 +67,137 @@ public class AppSamlService {
      * @param email 사용자 이메일
      * @param name 사용자 이름
      * @param inResponseTo 원본 AuthnRequest의 ID
+     * @param sessionIndex SLO 시 세션을 찾기 위한 SessionIndex
      * @return Base64 인코딩된 SAML Response
      */
-    public String createSamlResponse(Long userId, String email, String name, String inResponseTo) {
+    public String createSamlResponse(Long userId, String email, String name, String inResponseTo, String sessionIndex) {
         try {
+            SamlBuilders b = builders();
+            DateTime now = DateTime.now(DateTimeZone.UTC);
+            
             // Response 생성
-            Response response = new ResponseBuilder().buildObject();
-            response.setID("_" + UUID.randomUUID().toString());
+            Response response = b.response.buildObject(Response.DEFAULT_ELEMENT_NAME);
+            response.setID("_" + UUID.randomUUID());
             response.setVersion(SAMLVersion.VERSION_20);
-            response.setIssueInstant(DateTime.now(DateTimeZone.UTC));
+            response.setIssueInstant(now);
             response.setDestination(appSamlConfig.getAcsUrl());
             response.setInResponseTo(inResponseTo);
-            response.setIssuer(createIssuer());
+            response.setIssuer(createIssuer(b));
             
             // Status 생성 (필수)
-            Status status = new org.opensaml.saml.saml2.core.impl.StatusBuilder().buildObject();
-            StatusCode statusCode = new org.opensaml.saml.saml2.core.impl.StatusCodeBuilder().buildObject();
-            statusCode.setValue("urn:oasis:names:tc:SAML:2.0:status:Success");
+            Status status = b.status.buildObject(Status.DEFAULT_ELEMENT_NAME);
+            StatusCode statusCode = b.statusCode.buildObject(StatusCode.DEFAULT_ELEMENT_NAME);
+            statusCode.setValue(STATUS_SUCCESS);
             status.setStatusCode(statusCode);
             response.setStatus(status);
             
-            // Assertion 생성
-            Assertion assertion = createAssertion(userId, email, name, inResponseTo);
-            
-            // Assertion에 서명 추가 (마샬링 전에 서명 설정)
-            try {
-                signAssertion(assertion);
-                log.info("SAML Assertion 서명 완료");
-            } catch (Exception e) {
-                log.warn("SAML Assertion 서명 실패: {}. 서명 없이 진행합니다.", e.getMessage());
-                // 서명 실패해도 계속 진행 (테스트용)
-            }
-            
+            // Assertion 생성 및 Signature 첨부 (서명은 마샬링 후 수행)
+            Assertion assertion = createAssertion(b, now, email, name, inResponseTo, sessionIndex);
+            Signature signature = attachSignature(b, assertion);
             response.getAssertions().add(assertion);
             
-            // XML로 마샬링
-            var marshallerFactory = XMLObjectProviderRegistrySupport.getMarshallerFactory();
-            if (marshallerFactory == null) {
-                throw new RuntimeException("MarshallerFactory가 null입니다. OpenSAML이 제대로 초기화되지 않았을 수 있습니다.");
-            }
+            // Response 전체를 한 번만 마샬링
+            Element element = b.responseMarshaller.marshall(response);
             
-            var marshaller = marshallerFactory.getMarshaller(response);
-            if (marshaller == null) {
-                throw new RuntimeException("Response에 대한 Marshaller를 찾을 수 없습니다. Response 타입: " + response.getClass().getName());
+            // 마샬링된 DOM 위에서 Assertion 서명
+            if (signature != null) {
+                samlSigningService.sign(signature);
             }
             
-            Element element = marshaller.marshall(response);
-            if (element == null) {
-                throw new RuntimeException("Marshalling 결과가 null입니다.");
+            if (log.isDebugEnabled()) {
+                log.debug("생성된 SAML XML: {}", samlXmlWriter.toXmlString(element));
             }
             
-            // Base64 인코딩
-            String xmlString = elementToString(element);
+            String base64Response = samlXmlWriter.toBase64(element);
+            
+            log.info("SAML Response 생성 완료: ResponseID={}, 서명={}, Base64 길이={}", 
+                response.getID(), signature != null, base64Response.length());
+            return base64Response;
             
-            // XML이 비어있지 않은지 확인
-            if (xmlString == null || xmlString.trim().isEmpty()) {
-                throw new RuntimeException("생성된 SAML XML이 비어있습니다");
+        } catch (TooManyRequestsException e) {
+            // 서명 큐 포화 - 429로 응답하도록 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("SAML Response 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("SAML Response 생성 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * SAML 2.0 LogoutResponse 생성 (HTTP-POST 바인딩)
+     * 
+     * @param inResponseTo 원본 LogoutRequest의 ID
+     * @param partial 일부 세션을 종료하지 못했는지 여부 (PartialLogout 상태로 응답)
+     * @return Base64 인코딩된 LogoutResponse
+     */
+    public String createLogoutResponse(String inResponseTo, boolean partial) {
+        try {
+            SamlBuilders b = builders();
+            
+            LogoutResponse logoutResponse = b.logoutResponse.buildObject(LogoutResponse.DEFAULT_ELEMENT_NAME);
+            logoutResponse.setID("_" + UUID.randomUUID());
+            logoutResponse.setVersion(SAMLVersion.VERSION_20);
+            logoutResponse.setIssueInstant(DateTime.now(DateTimeZone.UTC));
+            logoutResponse.setDestination(appSamlConfig.getSloUrl());
+            logoutResponse.setInResponseTo(inResponseTo);
+            logoutResponse.setIssuer(createIssuer(b));
+            
+            Status status = b.status.buildObject(Status.DEFAULT_ELEMENT_NAME);
+            StatusCode statusCode = b.statusCode.buildObject(StatusCode.DEFAULT_ELEMENT_NAME);
+            statusCode.setValue(STATUS_SUCCESS);
+            if (partial) {
+                StatusCode partialLogout = b.statusCode.buildObject(StatusCode.DEFAULT_ELEMENT_NAME);
+                partialLogout.setValue(STATUS_PARTIAL_LOGOUT);
+                statusCode.setStatusCode(partialLogout);
             }
+            status.setStatusCode(statusCode);
+            logoutResponse.setStatus(status);
             
-            log.info("생성된 SAML XML 길이: {} bytes", xmlString.length());
-            log.debug("생성된 SAML XML: {}", xmlString);
+            // POST 바인딩은 메시지 자체에 서명
+            Signature signature = createSignature(b);
+            logoutResponse.setSignature(signature);
             
-            String base64Response = java.util.Base64.getEncoder()
-                .encodeToString(xmlString.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            Element element = b.logoutResponseMarshaller.marshall(logoutResponse);
+            if (signature != null) {
+                samlSigningService.sign(signature);
+            }
             
-            log.info("SAML Response 생성 완료: ResponseID={}, Base64 길이={}", 
-                response.getID(), base64Response.length());
+            String base64Response = samlXmlWriter.toBase64(element);
+            log.info("SAML LogoutResponse 생성 완료: ResponseID={}, InResponseTo={}, 부분 로그아웃={}",
+                logoutResponse.getID(), inResponseTo, partial);
             return base64Response;
             
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("SAML Response 생성 실패: {}", e.getMessage(), e);
-            e.printStackTrace();
-            throw new RuntimeException("SAML Response 생성 실패: " + e.getMessage(), e);
+            log.error("SAML LogoutResponse 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("SAML LogoutResponse 생성 실패: " + e.getMessage(), e);
         }
     }
     
     /**
      * Assertion 생성
      */
-    private Assertion createAssertion(Long userId, String email, String name, String inResponseTo) {
-        Assertion assertion = new org.opensaml.saml.saml2.core.impl.AssertionBuilder().buildObject();
-        assertion.setID("_" + UUID.randomUUID().toString());
-        assertion.setIssueInstant(DateTime.now(DateTimeZone.UTC));
-        assertion.setIssuer(createIssuer());
+    private Assertion createAssertion(SamlBuilders b, DateTime now, String email, String name, String inResponseTo,
+                                      String sessionIndex) {
+        Assertion assertion = b.assertion.buildObject(Assertion.DEFAULT_ELEMENT_NAME);
+        assertion.setID("_" + UUID.randomUUID());
+        assertion.setIssueInstant(now);
+        assertion.setIssuer(createIssuer(b));
         
         // Subject 생성
-        Subject subject = new org.opensaml.saml.saml2.core.impl.SubjectBuilder().buildObject();
-        NameID nameID = new org.opensaml.saml.saml2.core.impl.NameIDBuilder().buildObject();
+        Subject subject = b.subject.buildObject(Subject.DEFAULT_ELEMENT_NAME);
+        NameID nameID = b.nameId.buildObject(NameID.DEFAULT_ELEMENT_NAME);
         nameID.setValue(email);
         nameID.setFormat(appSamlConfig.getNameIdFormat());
         subject.setNameID(nameID);
         
         // SubjectConfirmation 생성
-        SubjectConfirmation subjectConfirmation = new org.opensaml.saml.saml2.core.impl.SubjectConfirmationBuilder().buildObject();
-        subjectConfirmation.setMethod("urn:oasis:names:tc:SAML:2.0:cm:bearer");
-        SubjectConfirmationData subjectConfirmationData = new org.opensaml.saml.saml2.core.impl.SubjectConfirmationDataBuilder().buildObject();
+        SubjectConfirmation subjectConfirmation = b.subjectConfirmation.buildObject(SubjectConfirmation.DEFAULT_ELEMENT_NAME);
+        subjectConfirmation.setMethod(BEARER);
+        SubjectConfirmationData subjectConfirmationData = b.subjectConfirmationData.buildObject(SubjectConfirmationData.DEFAULT_ELEMENT_NAME);
         subjectConfirmationData.setRecipient(appSamlConfig.getAcsUrl());
-        subjectConfirmationData.setNotOnOrAfter(DateTime.now(DateTimeZone.UTC).plusSeconds(appSamlConfig.getAssertionValiditySeconds()));
+        subjectConfirmationData.setNotOnOrAfter(now.plusSeconds(appSamlConfig.getAssertionValiditySeconds()));
         subjectConfirmationData.setInResponseTo(inResponseTo);
         subjectConfirmation.setSubjectConfirmationData(subjectConfirmationData);
         subject.getSubjectConfirmations().add(subjectConfirmation);
@@ -191,250 +205,110 @@ public class AppSamlService {
         assertion.setSubject(subject);
         
         // AuthnStatement 생성
-        AuthnStatement authnStatement = new org.opensaml.saml.saml2.core.impl.AuthnStatementBuilder().buildObject();
-        authnStatement.setAuthnInstant(DateTime.now(DateTimeZone.UTC));
-        AuthnContext authnContext = new org.opensaml.saml.saml2.core.impl.AuthnContextBuilder().buildObject();
-        AuthnContextClassRef authnContextClassRef = new org.opensaml.saml.saml2.core.impl.AuthnContextClassRefBuilder().buildObject();
-        authnContextClassRef.setAuthnContextClassRef("urn:oasis:names:tc:SAML:2.0:ac:classes:PasswordProtectedTransport");
+        AuthnStatement authnStatement = b.authnStatement.buildObject(AuthnStatement.DEFAULT_ELEMENT_NAME);
+        authnStatement.setAuthnInstant(now);
+        authnStatement.setSessionIndex(sessionIndex);
+        AuthnContext authnContext = b.authnContext.buildObject(AuthnContext.DEFAULT_ELEMENT_NAME);
+        AuthnContextClassRef authnContextClassRef = b.authnContextClassRef.buildObject(AuthnContextClassRef.DEFAULT_ELEMENT_NAME);
+        authnContextClassRef.setAuthnContextClassRef(PASSWORD_PROTECTED_TRANSPORT);
         authnContext.setAuthnContextClassRef(authnContextClassRef);
         authnStatement.setAuthnContext(authnContext);
         assertion.getAuthnStatements().add(authnStatement);
         
-        // AttributeStatement 생성
-        AttributeStatement attributeStatement = new org.opensaml.saml.saml2.core.impl.AttributeStatementBuilder().buildObject();
-        
-        // Email 속성
-        Attribute emailAttr = new AttributeBuilder().buildObject();
-        emailAttr.setName("http://schemas.xmlsoap.org/ws/2005/05/identity/claims/emailaddress");
-        emailAttr.setNameFormat("urn:oasis:names:tc:SAML:2.0:attrname-format:uri");
-        // Use XSString to represent string attribute values correctly in SAML 2.0
-        XSString emailXSString = 
-            (XSString) XMLObjectProviderRegistrySupport
-                .getBuilderFactory()
-                .<XSString>getBuilder(XSString.TYPE_NAME)
-                .buildObject(XSString.TYPE_NAME);
-        emailXSString.setValue(email);
-        emailAttr.getAttributeValues().add(emailXSString);
-        attributeStatement.getAttributes().add(emailAttr);
-        
-        // Name 속성
-        Attribute nameAttr = new AttributeBuilder().buildObject();
-        nameAttr.setName("http://schemas.xmlsoap.org/ws/2005/05/identity/claims/name");
-        nameAttr.setNameFormat("urn:oasis:names:tc:SAML:2.0:attrname-format:uri");
-        // Use XSString to represent string attribute values correctly in SAML 2.0
-        XSString nameXSString = 
-            (XSString) XMLObjectProviderRegistrySupport
-                .getBuilderFactory()
-                .<XSString>getBuilder(XSString.TYPE_NAME)
-                .buildObject(XSString.TYPE_NAME);
-        nameXSString.setValue(name);
-        nameAttr.getAttributeValues().add(nameXSString);
-        attributeStatement.getAttributes().add(nameAttr);
-
+        // AttributeStatement 생성 (Email, Name 속성)
+        AttributeStatement attributeStatement = b.attributeStatement.buildObject(AttributeStatement.DEFAULT_ELEMENT_NAME);
+        attributeStatement.getAttributes().add(createAttribute(b, CLAIM_EMAIL, email));
+        attributeStatement.getAttributes().add(createAttribute(b, CLAIM_NAME, name));
         assertion.getAttributeStatements().add(attributeStatement);
         
         return assertion;
     }
     
     /**
-     * Issuer 생성
-     */
-    private Issuer createIssuer() {
-        Issuer issuer = new org.opensaml.saml.saml2.core.impl.IssuerBuilder().buildObject();
-        issuer.setValue(appSamlConfig.getEntityId());
-        return issuer;
-    }
-    
-    /**
-     * Element를 String으로 변환
+     * 문자열 값 하나를 가진 Attribute 생성
      */
-    private String elementToString(Element element) throws Exception {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
-        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-        StringWriter writer = new StringWriter();
-        transformer.transform(new DOMSource(element), new StreamResult(writer));
-        return writer.toString();
+    private Attribute createAttribute(SamlBuilders b, String attributeName, String value) {
+        Attribute attribute = b.attribute.buildObject(Attribute.DEFAULT_ELEMENT_NAME);
+        attribute.setName(attributeName);
+        attribute.setNameFormat(ATTRIBUTE_NAME_FORMAT_URI);
+        // AttributeValue 요소에 xsi:type="xs:string"으로 기록
+        XSString stringValue = b.xsString.buildObject(AttributeValue.DEFAULT_ELEMENT_NAME, XSString.TYPE_NAME);
+        stringValue.setValue(value);
+        attribute.getAttributeValues().add(stringValue);
+        return attribute;
     }
     
     /**
-     * Assertion에 서명 추가
+     * Issuer 생성
      */
-    private void signAssertion(Assertion assertion) throws Exception {
-        try {
-            // 인증서와 개인 키 로드
-            Credential credential = loadCredential();
-            if (credential == null) {
-                throw new RuntimeException("인증서 또는 개인 키를 로드할 수 없습니다.");
-            }
-            
-            // Signature 생성
-            Signature signature = (Signature) XMLObjectProviderRegistrySupport
-                .getBuilderFactory()
-                .getBuilder(Signature.DEFAULT_ELEMENT_NAME)
-                .buildObject(Signature.DEFAULT_ELEMENT_NAME);
-            
-            // 서명 설정
-            signature.setSigningCredential(credential);
-            signature.setSignatureAlgorithm(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256);
-            signature.setCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
-            
-            // Assertion에 Signature 추가 (마샬링 전에 추가)
-            assertion.setSignature(signature);
-            
-            // Assertion을 마샬링 (Signature가 포함된 상태로 마샬링하여 XMLSignature 인스턴스 생성)
-            var marshallerFactory = XMLObjectProviderRegistrySupport.getMarshallerFactory();
-            var assertionMarshaller = marshallerFactory.getMarshaller(assertion);
-            if (assertionMarshaller == null) {
-                throw new RuntimeException("Assertion에 대한 Marshaller를 찾을 수 없습니다.");
-            }
-            assertionMarshaller.marshall(assertion);
-            
-            // 서명 실행 (마샬링 후 XMLSignature 인스턴스가 생성된 상태에서 서명)
-            Signer.signObject(signature);
-            
-            log.info("SAML Assertion 서명 완료");
-            
-        } catch (Exception e) {
-            log.error("SAML Assertion 서명 실패: {}", e.getMessage(), e);
-            throw e;
-        }
+    private Issuer createIssuer(SamlBuilders b) {
+        Issuer issuer = b.issuer.buildObject(Issuer.DEFAULT_ELEMENT_NAME);
+        issuer.setValue(appSamlConfig.getEntityId());
+        return issuer;
     }
     
     /**
-     * 인증서와 개인 키 로드
+     * Assertion에 Signature 첨부 (실제 서명은 Response 마샬링 후 수행)
+     * 
+     * @return 첨부된 Signature, 서명 키가 없으면 null (서명 없이 진행 - 테스트용)
      */
-    private Credential loadCredential() throws Exception {
-        try {
-            // 인증서 로드
-            Resource certResource = resourceLoader.getResource(appSamlConfig.getCertificatePath());
-            if (!certResource.exists()) {
-                log.warn("인증서 파일을 찾을 수 없습니다: {}", appSamlConfig.getCertificatePath());
-                return null;
-            }
-            
-            X509Certificate certificate = loadCertificate(certResource.getInputStream());
-            
-            // 개인 키 로드
-            Resource keyResource = resourceLoader.getResource(appSamlConfig.getPrivateKeyPath());
-            if (!keyResource.exists()) {
-                log.warn("개인 키 파일을 찾을 수 없습니다: {}", appSamlConfig.getPrivateKeyPath());
-                return null;
-            }
-            
-            PrivateKey privateKey = loadPrivateKey(keyResource.getInputStream());
-            
-            // Credential 생성 (OpenSAML 3.x 방식)
-            X509Credential credential = CredentialSupport.getSimpleCredential(certificate, privateKey);
-            
-            log.info("인증서와 개인 키 로드 완료");
-            return credential;
-            
-        } catch (Exception e) {
-            log.error("인증서 또는 개인 키 로드 실패: {}", e.getMessage(), e);
-            throw e;
-        }
+    private Signature attachSignature(SamlBuilders b, Assertion assertion) {
+        Signature signature = createSignature(b);
+        assertion.setSignature(signature);
+        return signature;
     }
     
     /**
-     * PEM 형식 인증서 로드
+     * 현재 서명 키로 Signature 생성
+     * 
+     * @return Signature, 서명 키가 없으면 null (서명 없이 진행 - 테스트용)
      */
-    private X509Certificate loadCertificate(InputStream inputStream) throws Exception {
-        try (Scanner scanner = new Scanner(inputStream, StandardCharsets.UTF_8.name())) {
-            StringBuilder pemContent = new StringBuilder();
-            boolean inCertificate = false;
-            
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine().trim();
-                if (line.contains("BEGIN CERTIFICATE")) {
-                    inCertificate = true;
-                    continue;
-                }
-                if (line.contains("END CERTIFICATE")) {
-                    break;
-                }
-                if (inCertificate && !line.isEmpty()) {
-                    pemContent.append(line);
-                }
-            }
-            
-            // Base64 디코딩 (공백 제거)
-            String base64Content = pemContent.toString().replaceAll("\\s+", "");
-            if (base64Content == null || base64Content.isEmpty()) {
-                throw new RuntimeException("인증서 내용이 비어있습니다. PEM 파일 형식을 확인하세요.");
-            }
-            
-            byte[] certBytes = Base64.getDecoder().decode(base64Content);
-            if (certBytes == null || certBytes.length == 0) {
-                throw new RuntimeException("인증서 디코딩 실패: Base64 디코딩 결과가 비어있습니다.");
-            }
-            
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-            return (X509Certificate) certFactory.generateCertificate(
-                new java.io.ByteArrayInputStream(certBytes)
-            );
+    private Signature createSignature(SamlBuilders b) {
+        // 캐시된 인증서와 개인 키 사용 (파일 I/O 없음)
+        X509Credential credential = samlCredentialManager.getSigningCredential();
+        if (credential == null) {
+            log.warn("SAML 서명 키가 없습니다. 서명 없이 진행합니다.");
+            return null;
         }
+        
+        Signature signature = b.signature.buildObject(Signature.DEFAULT_ELEMENT_NAME);
+        signature.setSigningCredential(credential);
+        signature.setSignatureAlgorithm(SamlObjects.signatureAlgorithm(credential));
+        signature.setCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
+        return signature;
     }
     
-    /**
-     * PEM 형식 개인 키 로드
-     */
-    private PrivateKey loadPrivateKey(InputStream inputStream) throws Exception {
-        try (Scanner scanner = new Scanner(inputStream, StandardCharsets.UTF_8.name())) {
-            StringBuilder pemContent = new StringBuilder();
-            boolean inPrivateKey = false;
-            
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine().trim();
-                if (line.contains("BEGIN PRIVATE KEY") || line.contains("BEGIN RSA PRIVATE KEY")) {
-                    inPrivateKey = true;
-                    continue;
-                }
-                if (line.contains("END PRIVATE KEY") || line.contains("END RSA PRIVATE KEY")) {
-                    break;
-                }
-                if (inPrivateKey && !line.isEmpty()) {
-                    pemContent.append(line);
-                }
-            }
-            
-            // Base64 디코딩 (공백 제거)
-            String base64Content = pemContent.toString().replaceAll("\\s+", "");
-            if (base64Content == null || base64Content.isEmpty()) {
-                throw new RuntimeException("개인 키 내용이 비어있습니다. PEM 파일 형식을 확인하세요.");
-            }
-            
-            byte[] keyBytes = Base64.getDecoder().decode(base64Content);
-            if (keyBytes == null || keyBytes.length == 0) {
-                throw new RuntimeException("개인 키 디코딩 실패: Base64 디코딩 결과가 비어있습니다.");
-            }
-            
-            // PKCS#8 형식인지 확인하고 적절한 KeySpec 사용
-            try {
-                PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
-                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-                return keyFactory.generatePrivate(keySpec);
-            } catch (Exception e) {
-                // PKCS#8 형식이 아닐 경우, RSA PRIVATE KEY 형식일 수 있음
-                // BouncyCastle을 사용하거나 다른 방법으로 처리
-                log.warn("PKCS#8 형식으로 로드 실패, 다른 방법 시도: {}", e.getMessage());
-                throw new RuntimeException("개인 키 로드 실패: 지원하지 않는 형식일 수 있습니다.", e);
-            }
+    private SamlBuilders builders() {
+        SamlBuilders current = builders;
+        if (current == null) {
+            current = new SamlBuilders();
+            builders = current;
         }
+        return current;
     }
     
     /**
-     * SAML 메타데이터 생성
-     * Microsoft Entra ID에 등록할 우리 포털의 메타데이터
+     * 재사용하는 OpenSAML 빌더/마샬러 (모두 스레드 안전)
      */
-    public String generateMetadata() {
-        // TODO: 실제 메타데이터 생성 구현 필요
-        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
-               "<EntityDescriptor xmlns=\"urn:oasis:names:tc:SAML:2.0:metadata\" entityID=\"" + appSamlConfig.getEntityId() + "\">\n" +
-               "  <IDPSSODescriptor protocolSupportEnumeration=\"urn:oasis:names:tc:SAML:2.0:protocol\">\n" +
-               "    <SingleSignOnService Binding=\"urn:oasis:names:tc:SAML:2.0:bindings:HTTP-Redirect\" Location=\"" + appSamlConfig.getSsoUrl() + "\"/>\n" +
-               "  </IDPSSODescriptor>\n" +
-               "</EntityDescriptor>";
+    private static final class SamlBuilders {
+        private final XMLObjectBuilder<Response> response = builder(Response.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Status> status = builder(Status.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<StatusCode> statusCode = builder(StatusCode.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Issuer> issuer = builder(Issuer.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Assertion> assertion = builder(Assertion.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Subject> subject = builder(Subject.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<NameID> nameId = builder(NameID.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<SubjectConfirmation> subjectConfirmation = builder(SubjectConfirmation.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<SubjectConfirmationData> subjectConfirmationData = builder(SubjectConfirmationData.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<AuthnStatement> authnStatement = builder(AuthnStatement.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<AuthnContext> authnContext = builder(AuthnContext.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<AuthnContextClassRef> authnContextClassRef = builder(AuthnContextClassRef.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<AttributeStatement> attributeStatement = builder(AttributeStatement.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Attribute> attribute = builder(Attribute.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<XSString> xsString = builder(XSString.TYPE_NAME);
+        private final XMLObjectBuilder<Signature> signature = builder(Signature.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<LogoutResponse> logoutResponse = builder(LogoutResponse.DEFAULT_ELEMENT_NAME);
+        private final Marshaller responseMarshaller = marshaller(Response.DEFAULT_ELEMENT_NAME);
+        private final Marshaller logoutResponseMarshaller = marshaller(LogoutResponse.DEFAULT_ELEMENT_NAME);
     }
 }
-
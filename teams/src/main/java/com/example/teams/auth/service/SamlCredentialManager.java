@@ -0,0 +1,227 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.opensaml.security.credential.CredentialSupport;
+import org.opensaml.security.x509.BasicX509Credential;
+import org.opensaml.security.x509.X509Credential;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SAML 서명용 인증서/개인키 관리
+ *
+ * 키 파일은 시작 시 한 번 읽어 X509Credential로 캐시하고, 로그인 경로에서는 파일 I/O나 키 파싱을 하지 않습니다.
+ * - 주기적으로 파일 내용(SHA-256)을 비교하여 바뀐 경우에만 다시 파싱 후 원자적으로 교체
+ * - 인증서와 개인키가 쌍을 이루지 않으면(파일 교체 도중 등) 기존 키를 유지
+ * - 다음 인증서(next-certificate-path)를 함께 로드하여 메타데이터로 미리 게시 (키 롤오버)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SamlCredentialManager {
+
+    private final AppSamlConfig appSamlConfig;
+    private final ResourceLoader resourceLoader;
+
+    private final AtomicReference<CredentialSet> current = new AtomicReference<>(new CredentialSet(null, null, 0));
+
+    @PostConstruct
+    public void initialize() {
+        reload(true);
+    }
+
+    /**
+     * 현재 서명용 인증서/개인키 (설정되지 않았으면 null)
+     */
+    public X509Credential getSigningCredential() {
+        LoadedCredential active = current.get().active();
+        return active != null ? active.credential() : null;
+    }
+
+    /**
+     * 롤오버 예정 인증서/개인키 (설정되지 않았으면 null)
+     */
+    public X509Credential getNextCredential() {
+        LoadedCredential next = current.get().next();
+        return next != null ? next.credential() : null;
+    }
+
+    /**
+     * 키가 교체될 때마다 증가하는 버전 (메타데이터 캐시 무효화 등에 사용)
+     */
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    /**
+     * 키 파일 변경 확인
+     */
+    @Scheduled(initialDelayString = "${saml.idp.credential-refresh-seconds:30}",
+               fixedDelayString = "${saml.idp.credential-refresh-seconds:30}",
+               timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        reload(false);
+    }
+
+    private synchronized void reload(boolean initial) {
+        CredentialSet previous = current.get();
+        LoadedCredential active = load("서명", appSamlConfig.getCertificatePath(),
+            appSamlConfig.getPrivateKeyPath(), previous.active(), initial);
+        LoadedCredential next = load("다음(롤오버)", appSamlConfig.getNextCertificatePath(),
+            appSamlConfig.getNextPrivateKeyPath(), previous.next(), initial);
+
+        if (active == previous.active() && next == previous.next()) {
+            return;
+        }
+        current.set(new CredentialSet(active, next, previous.version() + 1));
+        if (!initial) {
+            log.info("SAML 서명 키 교체 완료: version={}", previous.version() + 1);
+        }
+    }
+
+    /**
+     * 파일이 바뀐 경우에만 다시 파싱 (실패 시 이전 값 유지)
+     */
+    private LoadedCredential load(String label, String certificatePath, String privateKeyPath,
+                                  LoadedCredential previous, boolean initial) {
+        if (!StringUtils.hasText(certificatePath) || !StringUtils.hasText(privateKeyPath)) {
+            return null;
+        }
+
+        try {
+            Resource certificateResource = resourceLoader.getResource(certificatePath);
+            Resource privateKeyResource = resourceLoader.getResource(privateKeyPath);
+            if (!certificateResource.exists() || !privateKeyResource.exists()) {
+                if (initial) {
+                    log.warn("SAML {} 인증서 또는 개인 키 파일을 찾을 수 없습니다: {}, {}", label, certificatePath, privateKeyPath);
+                }
+                return previous;
+            }
+
+            byte[] certificatePem = readAll(certificateResource);
+            byte[] privateKeyPem = readAll(privateKeyResource);
+            byte[] fingerprint = fingerprint(certificatePem, privateKeyPem);
+            if (previous != null && Arrays.equals(previous.fingerprint(), fingerprint)) {
+                return previous;
+            }
+
+            X509Certificate certificate = parseCertificate(certificatePem);
+            PrivateKey privateKey = parsePrivateKey(privateKeyPem);
+            if (!isKeyPair(certificate, privateKey)) {
+                log.warn("SAML {} 인증서와 개인 키가 쌍을 이루지 않습니다. 기존 키를 유지합니다.", label);
+                return previous;
+            }
+            try {
+                certificate.checkValidity();
+            } catch (CertificateException e) {
+                log.warn("SAML {} 인증서 유효 기간을 확인하세요: {}", label, e.getMessage());
+            }
+
+            BasicX509Credential credential = CredentialSupport.getSimpleCredential(certificate, privateKey);
+            log.info("SAML {} 인증서와 개인 키 로드 완료: subject={}, notAfter={}",
+                label, certificate.getSubjectX500Principal().getName(), certificate.getNotAfter());
+            return new LoadedCredential(credential, fingerprint);
+
+        } catch (Exception e) {
+            log.error("SAML {} 인증서 또는 개인 키 로드 실패: {}", label, e.getMessage(), e);
+            return previous;
+        }
+    }
+
+    private static byte[] readAll(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static byte[] fingerprint(byte[] certificatePem, byte[] privateKeyPem) throws GeneralSecurityException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(certificatePem);
+        digest.update(privateKeyPem);
+        return digest.digest();
+    }
+
+    /**
+     * PEM 형식 인증서 파싱
+     */
+    private static X509Certificate parseCertificate(byte[] pem) throws IOException, CertificateException {
+        try (PEMParser parser = new PEMParser(new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.UTF_8))) {
+            for (Object object = parser.readObject(); object != null; object = parser.readObject()) {
+                if (object instanceof X509CertificateHolder holder) {
+                    return new JcaX509CertificateConverter().getCertificate(holder);
+                }
+            }
+        }
+        throw new IllegalArgumentException("인증서 내용이 비어있습니다. PEM 파일 형식을 확인하세요.");
+    }
+
+    /**
+     * PEM 형식 개인 키 파싱 (PKCS#8, PKCS#1 RSA, SEC1 EC)
+     */
+    private static PrivateKey parsePrivateKey(byte[] pem) throws IOException {
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        try (PEMParser parser = new PEMParser(new InputStreamReader(new ByteArrayInputStream(pem), StandardCharsets.UTF_8))) {
+            for (Object object = parser.readObject(); object != null; object = parser.readObject()) {
+                if (object instanceof PrivateKeyInfo privateKeyInfo) {
+                    return converter.getPrivateKey(privateKeyInfo);
+                }
+                if (object instanceof PEMKeyPair keyPair) {
+                    return converter.getKeyPair(keyPair).getPrivate();
+                }
+            }
+        }
+        throw new IllegalArgumentException("개인 키 내용이 비어있습니다. PEM 파일 형식을 확인하세요.");
+    }
+
+    /**
+     * 개인 키로 서명한 값을 인증서 공개 키로 검증하여 쌍 여부 확인
+     */
+    private static boolean isKeyPair(X509Certificate certificate, PrivateKey privateKey) throws GeneralSecurityException {
+        String algorithm = "EC".equals(privateKey.getAlgorithm()) ? "SHA256withECDSA" : "SHA256withRSA";
+        byte[] probe = certificate.getSerialNumber().toByteArray();
+
+        Signature signer = Signature.getInstance(algorithm);
+        signer.initSign(privateKey);
+        signer.update(probe);
+        byte[] signature = signer.sign();
+
+        Signature verifier = Signature.getInstance(algorithm);
+        verifier.initVerify(certificate.getPublicKey());
+        verifier.update(probe);
+        return verifier.verify(signature);
+    }
+
+    private record LoadedCredential(X509Credential credential, byte[] fingerprint) {
+    }
+
+    private record CredentialSet(LoadedCredential active, LoadedCredential next, long version) {
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensaml.core.xml.XMLObjectBuilder;
+import org.opensaml.core.xml.io.Marshaller;
+import org.opensaml.saml.common.xml.SAMLConstants;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.opensaml.saml.saml2.metadata.IDPSSODescriptor;
+import org.opensaml.saml.saml2.metadata.KeyDescriptor;
+import org.opensaml.saml.saml2.metadata.NameIDFormat;
+import org.opensaml.saml.saml2.metadata.SingleLogoutService;
+import org.opensaml.saml.saml2.metadata.SingleSignOnService;
+import org.opensaml.security.credential.UsageType;
+import org.opensaml.security.x509.X509Credential;
+import org.opensaml.xmlsec.keyinfo.KeyInfoGenerator;
+import org.opensaml.xmlsec.keyinfo.impl.X509KeyInfoGeneratorFactory;
+import org.opensaml.xmlsec.signature.Signature;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.opensaml.xmlsec.signature.support.Signer;
+import org.springframework.stereotype.Service;
+import org.w3c.dom.Element;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static com.example.teams.auth.service.SamlObjects.builder;
+import static com.example.teams.auth.service.SamlObjects.marshaller;
+
+/**
+ * SAML IdP 메타데이터 생성/캐시
+ *
+ * AppSamlConfig와 현재 서명 인증서(및 롤오버 예정 인증서)로 EntityDescriptor를 만들어 서명한 뒤
+ * 바이트로 캐시합니다. 설정 값이나 키 버전이 바뀐 경우에만 다시 생성하므로
+ * 메타데이터를 주기적으로 가져가는 Entra ID/모니터링 요청은 캐시된 바이트만 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SamlMetadataService {
+
+    private final AppSamlConfig appSamlConfig;
+    private final SamlCredentialManager samlCredentialManager;
+    private final SamlXmlWriter samlXmlWriter;
+
+    private volatile CachedMetadata cached;
+
+    /**
+     * 캐시된 메타데이터 반환 (설정/키 변경 시에만 재생성)
+     */
+    public Metadata getMetadata() {
+        String cacheKey = cacheKey();
+        CachedMetadata current = cached;
+        if (current != null && current.cacheKey().equals(cacheKey)) {
+            return current.metadata();
+        }
+
+        synchronized (this) {
+            current = cached;
+            if (current == null || !current.cacheKey().equals(cacheKey)) {
+                current = new CachedMetadata(cacheKey, generate());
+                cached = current;
+                log.info("SAML 메타데이터 생성 완료: ETag={}, {} bytes",
+                    current.metadata().eTag(), current.metadata().body().length);
+            }
+            return current.metadata();
+        }
+    }
+
+    private String cacheKey() {
+        return String.join("|",
+            String.valueOf(samlCredentialManager.getVersion()),
+            appSamlConfig.getEntityId(),
+            appSamlConfig.getSsoUrl(),
+            appSamlConfig.getIdpSloUrl(),
+            appSamlConfig.getNameIdFormat());
+    }
+
+    private Metadata generate() {
+        try {
+            X509Credential signingCredential = samlCredentialManager.getSigningCredential();
+            X509Credential nextCredential = samlCredentialManager.getNextCredential();
+
+            EntityDescriptor entityDescriptor = MetadataBuilders.INSTANCE.entityDescriptor
+                .buildObject(EntityDescriptor.DEFAULT_ELEMENT_NAME);
+            entityDescriptor.setEntityID(appSamlConfig.getEntityId());
+
+            IDPSSODescriptor idpDescriptor = MetadataBuilders.INSTANCE.idpDescriptor
+                .buildObject(IDPSSODescriptor.DEFAULT_ELEMENT_NAME);
+            idpDescriptor.addSupportedProtocol(SAMLConstants.SAML20P_NS);
+            idpDescriptor.setWantAuthnRequestsSigned(false);
+
+            // 서명 인증서 (롤오버 예정 인증서도 함께 게시하여 RP가 미리 신뢰하도록 함)
+            if (signingCredential != null) {
+                idpDescriptor.getKeyDescriptors().add(signingKeyDescriptor(signingCredential));
+            } else {
+                log.warn("SAML 서명 키가 없어 인증서 없이 메타데이터를 생성합니다.");
+            }
+            if (nextCredential != null) {
+                idpDescriptor.getKeyDescriptors().add(signingKeyDescriptor(nextCredential));
+            }
+
+            idpDescriptor.getSingleLogoutServices().add(
+                singleLogoutService(SAMLConstants.SAML2_REDIRECT_BINDING_URI, appSamlConfig.getIdpSloUrl()));
+            idpDescriptor.getSingleLogoutServices().add(
+                singleLogoutService(SAMLConstants.SAML2_POST_BINDING_URI, appSamlConfig.getIdpSloUrl()));
+            
+            NameIDFormat nameIdFormat = MetadataBuilders.INSTANCE.nameIdFormat.buildObject(NameIDFormat.DEFAULT_ELEMENT_NAME);
+            nameIdFormat.setFormat(appSamlConfig.getNameIdFormat());
+            idpDescriptor.getNameIDFormats().add(nameIdFormat);
+
+            idpDescriptor.getSingleSignOnServices().add(
+                singleSignOnService(SAMLConstants.SAML2_REDIRECT_BINDING_URI, appSamlConfig.getSsoUrl()));
+            idpDescriptor.getSingleSignOnServices().add(
+                singleSignOnService(SAMLConstants.SAML2_POST_BINDING_URI, appSamlConfig.getSsoUrl()));
+
+            entityDescriptor.getRoleDescriptors().add(idpDescriptor);
+
+            Signature signature = null;
+            if (signingCredential != null) {
+                signature = MetadataBuilders.INSTANCE.signature.buildObject(Signature.DEFAULT_ELEMENT_NAME);
+                signature.setSigningCredential(signingCredential);
+                signature.setSignatureAlgorithm(SamlObjects.signatureAlgorithm(signingCredential));
+                signature.setCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
+                entityDescriptor.setSignature(signature);
+            }
+
+            Element element = MetadataBuilders.INSTANCE.entityDescriptorMarshaller.marshall(entityDescriptor);
+            if (signature != null) {
+                Signer.signObject(signature);
+            }
+
+            byte[] body = samlXmlWriter.toBytes(element);
+            return new Metadata(body, eTag(signingCredential, nextCredential));
+
+        } catch (Exception e) {
+            log.error("SAML 메타데이터 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("SAML 메타데이터 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private KeyDescriptor signingKeyDescriptor(X509Credential credential) throws Exception {
+        X509KeyInfoGeneratorFactory keyInfoGeneratorFactory = new X509KeyInfoGeneratorFactory();
+        keyInfoGeneratorFactory.setEmitEntityCertificate(true);
+        KeyInfoGenerator keyInfoGenerator = keyInfoGeneratorFactory.newInstance();
+
+        KeyDescriptor keyDescriptor = MetadataBuilders.INSTANCE.keyDescriptor.buildObject(KeyDescriptor.DEFAULT_ELEMENT_NAME);
+        keyDescriptor.setUse(UsageType.SIGNING);
+        keyDescriptor.setKeyInfo(keyInfoGenerator.generate(credential));
+        return keyDescriptor;
+    }
+
+    private SingleSignOnService singleSignOnService(String binding, String location) {
+        SingleSignOnService service = MetadataBuilders.INSTANCE.singleSignOnService
+            .buildObject(SingleSignOnService.DEFAULT_ELEMENT_NAME);
+        service.setBinding(binding);
+        service.setLocation(location);
+        return service;
+    }
+
+    private SingleLogoutService singleLogoutService(String binding, String location) {
+        SingleLogoutService service = MetadataBuilders.INSTANCE.singleLogoutService
+            .buildObject(SingleLogoutService.DEFAULT_ELEMENT_NAME);
+        service.setBinding(binding);
+        service.setLocation(location);
+        return service;
+    }
+
+    /**
+     * 메타데이터 입력(설정 + 인증서)으로 ETag 계산
+     * 서명 값(ECDSA는 매번 다름)이 아닌 입력 기준이므로 여러 노드에서 같은 ETag를 반환합니다.
+     */
+    private String eTag(X509Credential signingCredential, X509Credential nextCredential) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(String.join("|", appSamlConfig.getEntityId(), appSamlConfig.getSsoUrl(),
+            appSamlConfig.getIdpSloUrl(), appSamlConfig.getNameIdFormat()).getBytes(StandardCharsets.UTF_8));
+        if (signingCredential != null) {
+            digest.update(signingCredential.getEntityCertificate().getEncoded());
+        }
+        if (nextCredential != null) {
+            digest.update(nextCredential.getEntityCertificate().getEncoded());
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    /**
+     * 직렬화된 메타데이터
+     *
+     * @param body UTF-8 XML
+     * @param eTag 따옴표 없는 ETag 값
+     */
+    public record Metadata(byte[] body, String eTag) {
+    }
+
+    private record CachedMetadata(String cacheKey, Metadata metadata) {
+    }
+
+    /**
+     * 메타데이터 빌더/마샬러 (첫 사용 시 생성, OpenSAML 초기화 이후)
+     */
+    private static final class MetadataBuilders {
+        private static final MetadataBuilders INSTANCE = new MetadataBuilders();
+
+        private final XMLObjectBuilder<EntityDescriptor> entityDescriptor = builder(EntityDescriptor.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<IDPSSODescriptor> idpDescriptor = builder(IDPSSODescriptor.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<KeyDescriptor> keyDescriptor = builder(KeyDescriptor.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<NameIDFormat> nameIdFormat = builder(NameIDFormat.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<SingleLogoutService> singleLogoutService = builder(SingleLogoutService.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<SingleSignOnService> singleSignOnService = builder(SingleSignOnService.DEFAULT_ELEMENT_NAME);
+        private final XMLObjectBuilder<Signature> signature = builder(Signature.DEFAULT_ELEMENT_NAME);
+        private final Marshaller entityDescriptorMarshaller = marshaller(EntityDescriptor.DEFAULT_ELEMENT_NAME);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlInitializer;
+
+import org.opensaml.core.xml.XMLObject;
+import org.opensaml.core.xml.XMLObjectBuilder;
+import org.opensaml.core.xml.XMLObjectBuilderFactory;
+import org.opensaml.core.xml.config.XMLObjectProviderRegistrySupport;
+import org.opensaml.core.xml.io.Marshaller;
+import org.opensaml.core.xml.io.MarshallerFactory;
+import org.opensaml.security.x509.X509Credential;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+
+import javax.xml.namespace.QName;
+
+/**
+ * OpenSAML 빌더/마샬러 조회
+ *
+ * 빌더와 마샬러는 스레드 안전하므로 호출 측에서 한 번만 조회하여 필드로 재사용합니다.
+ * 조회 전에 OpenSAML 초기화를 확인합니다. (AppSamlInitializer, 최초 사용 시 초기화)
+ */
+final class SamlObjects {
+
+    private SamlObjects() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends XMLObject> XMLObjectBuilder<T> builder(QName name) {
+        AppSamlInitializer.ensureInitialized();
+        XMLObjectBuilderFactory builderFactory = XMLObjectProviderRegistrySupport.getBuilderFactory();
+        if (builderFactory == null) {
+            throw new IllegalStateException("BuilderFactory가 null입니다. OpenSAML이 제대로 초기화되지 않았을 수 있습니다.");
+        }
+        XMLObjectBuilder<T> builder = (XMLObjectBuilder<T>) builderFactory.getBuilder(name);
+        if (builder == null) {
+            throw new IllegalStateException("OpenSAML 빌더를 찾을 수 없습니다: " + name);
+        }
+        return builder;
+    }
+
+    static Marshaller marshaller(QName name) {
+        AppSamlInitializer.ensureInitialized();
+        MarshallerFactory marshallerFactory = XMLObjectProviderRegistrySupport.getMarshallerFactory();
+        if (marshallerFactory == null) {
+            throw new IllegalStateException("MarshallerFactory가 null입니다. OpenSAML이 제대로 초기화되지 않았을 수 있습니다.");
+        }
+        Marshaller marshaller = marshallerFactory.getMarshaller(name);
+        if (marshaller == null) {
+            throw new IllegalStateException("Marshaller를 찾을 수 없습니다: " + name);
+        }
+        return marshaller;
+    }
+
+    /**
+     * 키 종류에 맞는 서명 알고리즘 (RSA-SHA256 / ECDSA-SHA256)
+     */
+    static String signatureAlgorithm(X509Credential credential) {
+        return "EC".equals(credential.getPrivateKey().getAlgorithm())
+            ? SignatureConstants.ALGO_ID_SIGNATURE_ECDSA_SHA256
+            : SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256;
+    }
+}
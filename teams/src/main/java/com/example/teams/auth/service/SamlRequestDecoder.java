@@ -0,0 +1,239 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.config.AppSamlInitializer;
+
+import net.shibboleth.utilities.java.support.component.ComponentInitializationException;
+import net.shibboleth.utilities.java.support.xml.BasicParserPool;
+import org.opensaml.core.xml.XMLObject;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.saml2.core.AuthnRequest;
+import org.opensaml.saml.saml2.core.LogoutRequest;
+import org.opensaml.saml.saml2.core.SessionIndex;
+import org.springframework.stereotype.Component;
+
+import javax.xml.XMLConstants;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * SAML AuthnRequest/LogoutRequest 디코더
+ *
+ * - HTTP-Redirect 바인딩: Base64 → DEFLATE 압축 해제 → XML (스트리밍 처리)
+ * - HTTP-POST 바인딩: Base64 → XML
+ * 압축 해제 크기를 제한하고(압축 폭탄 방지), DTD를 허용하지 않는 파서 풀을 재사용합니다.
+ * LogoutRequest는 세션을 종료하므로 RP 서명을 검증한 경우에만 반환합니다. (SamlSignatureVerifier)
+ */
+@Component
+public class SamlRequestDecoder {
+
+    private final AppSamlConfig appSamlConfig;
+    private final SamlSignatureVerifier samlSignatureVerifier;
+    private final BasicParserPool parserPool;
+
+    public SamlRequestDecoder(AppSamlConfig appSamlConfig, SamlSignatureVerifier samlSignatureVerifier) {
+        this.appSamlConfig = appSamlConfig;
+        this.samlSignatureVerifier = samlSignatureVerifier;
+        this.parserPool = createParserPool();
+    }
+
+    /**
+     * AuthnRequest 디코딩
+     *
+     * @param samlRequest SAMLRequest 파라미터 값
+     * @param deflated HTTP-Redirect 바인딩 여부 (DEFLATE 압축)
+     * @return 요청 정보
+     * @throws IllegalArgumentException 형식이 잘못되었거나 크기 제한을 넘은 경우
+     */
+    public AuthnRequestInfo decode(String samlRequest, boolean deflated) {
+        XMLObject xmlObject = unmarshall(samlRequest, deflated);
+        if (!(xmlObject instanceof AuthnRequest authnRequest)) {
+            throw new IllegalArgumentException("AuthnRequest가 아닙니다");
+        }
+        if (authnRequest.getID() == null || authnRequest.getID().isBlank()) {
+            throw new IllegalArgumentException("AuthnRequest ID가 없습니다");
+        }
+
+        return new AuthnRequestInfo(
+            authnRequest.getID(),
+            authnRequest.getIssuer() != null ? authnRequest.getIssuer().getValue() : null,
+            authnRequest.getAssertionConsumerServiceURL()
+        );
+    }
+
+    /**
+     * HTTP-Redirect 바인딩 LogoutRequest 서명 검증 후 디코딩
+     * 서명(SigAlg/Signature)은 압축 해제 전에 검증합니다.
+     *
+     * @param queryString 요청의 원본 쿼리 문자열 (URL 인코딩 그대로)
+     * @return 요청 정보
+     * @throws IllegalArgumentException 서명이 없거나 올바르지 않은 경우, 형식이 잘못되었거나 크기 제한을 넘은 경우
+     */
+    public LogoutRequestInfo decodeRedirectLogoutRequest(String queryString) {
+        String samlRequest = samlSignatureVerifier.verifyRedirect(queryString);
+        return toLogoutRequestInfo(unmarshall(samlRequest, true));
+    }
+
+    /**
+     * HTTP-POST 바인딩 LogoutRequest 디코딩 후 XML 서명 검증
+     *
+     * @param samlRequest SAMLRequest 파라미터 값
+     * @return 요청 정보
+     * @throws IllegalArgumentException 서명이 없거나 올바르지 않은 경우, 형식이 잘못되었거나 크기 제한을 넘은 경우
+     */
+    public LogoutRequestInfo decodePostLogoutRequest(String samlRequest) {
+        XMLObject xmlObject = unmarshall(samlRequest, false);
+        if (!(xmlObject instanceof LogoutRequest logoutRequest)) {
+            throw new IllegalArgumentException("LogoutRequest가 아닙니다");
+        }
+        samlSignatureVerifier.verify(logoutRequest);
+        return toLogoutRequestInfo(logoutRequest);
+    }
+
+    private static LogoutRequestInfo toLogoutRequestInfo(XMLObject xmlObject) {
+        if (!(xmlObject instanceof LogoutRequest logoutRequest)) {
+            throw new IllegalArgumentException("LogoutRequest가 아닙니다");
+        }
+        if (logoutRequest.getID() == null || logoutRequest.getID().isBlank()) {
+            throw new IllegalArgumentException("LogoutRequest ID가 없습니다");
+        }
+        if (logoutRequest.getNameID() == null || logoutRequest.getNameID().getValue() == null) {
+            throw new IllegalArgumentException("LogoutRequest NameID가 없습니다");
+        }
+
+        List<String> sessionIndexes = new ArrayList<>(logoutRequest.getSessionIndexes().size());
+        for (SessionIndex sessionIndex : logoutRequest.getSessionIndexes()) {
+            if (sessionIndex.getSessionIndex() != null) {
+                sessionIndexes.add(sessionIndex.getSessionIndex());
+            }
+        }
+
+        return new LogoutRequestInfo(
+            logoutRequest.getID(),
+            logoutRequest.getIssuer() != null ? logoutRequest.getIssuer().getValue() : null,
+            logoutRequest.getNameID().getValue(),
+            List.copyOf(sessionIndexes)
+        );
+    }
+
+    private XMLObject unmarshall(String samlRequest, boolean deflated) {
+        AppSamlInitializer.ensureInitialized();
+        int maxBytes = appSamlConfig.getMaxRequestBytes();
+        // Base64는 원본보다 약 4/3 크므로 디코딩 전에 길이로 먼저 거절
+        if (samlRequest.length() > maxBytes * 4 / 3 + 4) {
+            throw new IllegalArgumentException("SAMLRequest가 너무 큽니다");
+        }
+
+        byte[] encoded;
+        try {
+            encoded = Base64.getMimeDecoder().decode(samlRequest);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("SAMLRequest Base64 형식이 올바르지 않습니다", e);
+        }
+
+        Inflater inflater = deflated ? new Inflater(true) : null;
+        try (InputStream in = new SizeLimitedInputStream(
+                deflated ? new InflaterInputStream(new ByteArrayInputStream(encoded), inflater)
+                         : new ByteArrayInputStream(encoded),
+                maxBytes)) {
+
+            return XMLObjectSupport.unmarshallFromInputStream(parserPool, in);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("SAMLRequest 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private static BasicParserPool createParserPool() {
+        BasicParserPool pool = new BasicParserPool();
+        pool.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        pool.setNamespaceAware(true);
+        pool.setIgnoreComments(true);
+        pool.setExpandEntityReferences(false);
+        pool.setXincludeAware(false);
+        pool.setBuilderFeatures(Map.of(
+            XMLConstants.FEATURE_SECURE_PROCESSING, true,
+            "http://apache.org/xml/features/disallow-doctype-decl", true,
+            "http://xml.org/sax/features/external-general-entities", false,
+            "http://xml.org/sax/features/external-parameter-entities", false
+        ));
+        try {
+            pool.initialize();
+        } catch (ComponentInitializationException e) {
+            throw new IllegalStateException("SAML 파서 풀 초기화 실패", e);
+        }
+        return pool;
+    }
+
+    /**
+     * AuthnRequest에서 응답 생성에 필요한 값만 추출한 정보 (세션 저장용)
+     *
+     * @param id 요청 ID (Response의 InResponseTo)
+     * @param issuer 요청한 SP Entity ID
+     * @param assertionConsumerServiceUrl 요청에 포함된 ACS URL (없을 수 있음)
+     */
+    public record AuthnRequestInfo(String id, String issuer, String assertionConsumerServiceUrl) implements Serializable {
+    }
+
+    /**
+     * LogoutRequest에서 세션 종료에 필요한 값만 추출한 정보
+     *
+     * @param id 요청 ID (LogoutResponse의 InResponseTo)
+     * @param issuer 요청한 SP Entity ID
+     * @param nameId 로그아웃할 사용자 NameID
+     * @param sessionIndexes 종료할 SessionIndex 목록 (비어 있으면 NameID의 모든 세션)
+     */
+    public record LogoutRequestInfo(String id, String issuer, String nameId, List<String> sessionIndexes) {
+    }
+
+    /**
+     * 읽은 바이트 수가 제한을 넘으면 예외를 던지는 스트림
+     */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        private SizeLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                checkLimit(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                checkLimit(n);
+            }
+            return n;
+        }
+
+        private void checkLimit(int n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException("SAMLRequest 크기 제한 초과 (" + limit + " bytes)");
+            }
+        }
+    }
+}
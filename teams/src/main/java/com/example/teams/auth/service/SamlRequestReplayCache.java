@@ -0,0 +1,66 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * AuthnRequest ID 재사용(replay) 확인 캐시
+ *
+ * ID 조회/등록은 ConcurrentHashMap으로 O(1), 만료 처리는 등록 순서 큐로 수행합니다.
+ * 유효 시간이 모두 같으므로 큐의 앞쪽이 항상 가장 먼저 만료됩니다.
+ * 최대 개수를 넘으면 가장 오래된 ID부터 제거하여 메모리 사용량을 제한합니다. (노드별 캐시)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SamlRequestReplayCache {
+
+    private final AppSamlConfig appSamlConfig;
+
+    private final ConcurrentHashMap<String, Long> expiresAtById = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 처음 보는 ID이면 등록 후 true, 유효 시간 안에 이미 사용된 ID이면 false
+     */
+    public boolean markIfNew(String requestId) {
+        long now = System.currentTimeMillis();
+        evict(now);
+
+        long expiresAt = now + appSamlConfig.getRequestReplayTtlSeconds() * 1000L;
+        Long previous = expiresAtById.putIfAbsent(requestId, expiresAt);
+        if (previous != null) {
+            if (previous > now) {
+                log.warn("재사용된 SAML AuthnRequest ID: {}", requestId);
+                return false;
+            }
+            // 만료되었지만 아직 정리되지 않은 항목은 새로 등록
+            if (!expiresAtById.replace(requestId, previous, expiresAt)) {
+                return false;
+            }
+        }
+        insertionOrder.add(new Entry(requestId, expiresAt));
+        return true;
+    }
+
+    private void evict(long now) {
+        int maxSize = appSamlConfig.getRequestReplayCacheSize();
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (head.expiresAt() <= now || expiresAtById.size() >= maxSize)) {
+            if (insertionOrder.remove(head)) {
+                // 같은 ID가 다시 등록된 경우(만료 시각이 다름)는 유지
+                expiresAtById.remove(head.requestId(), head.expiresAt());
+            }
+        }
+    }
+
+    private record Entry(String requestId, long expiresAt) {
+    }
+}
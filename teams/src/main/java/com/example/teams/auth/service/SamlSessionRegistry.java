@@ -0,0 +1,170 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.shared.config.SessionConfig;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SAML 로그인 세션 인덱스 (Single Logout용)
+ *
+ * LogoutRequest의 NameID/SessionIndex로 종료할 세션을 전체 세션 순회 없이 찾습니다.
+ * - MEMORY: NameID → (SessionIndex → HttpSession) 메모리 인덱스, 세션 종료 이벤트로 정리
+ * - JDBC: 세션의 principal name 컬럼(인덱스)으로 조회 후 SessionIndex 속성으로 필터링 (모든 노드 공통)
+ * - STATELESS: 서버에 세션이 없어 다른 브라우저의 쿠키를 무효화할 수 없음 (부분 로그아웃)
+ */
+@Component
+@Slf4j
+public class SamlSessionRegistry implements HttpSessionListener {
+
+    /**
+     * 세션에 저장하는 SAML NameID / SessionIndex 속성
+     */
+    public static final String NAME_ID_ATTRIBUTE = "samlNameId";
+    public static final String SESSION_INDEX_ATTRIBUTE = "samlSessionIndex";
+
+    private final SessionConfig sessionConfig;
+    private final ObjectProvider<FindByIndexNameSessionRepository<? extends Session>> indexedSessionRepository;
+
+    // MEMORY 모드 인덱스
+    private final ConcurrentHashMap<String, Map<String, HttpSession>> sessionsByNameId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Registration> registrationsBySessionId = new ConcurrentHashMap<>();
+
+    public SamlSessionRegistry(SessionConfig sessionConfig,
+                               ObjectProvider<FindByIndexNameSessionRepository<? extends Session>> indexedSessionRepository) {
+        this.sessionConfig = sessionConfig;
+        this.indexedSessionRepository = indexedSessionRepository;
+    }
+
+    /**
+     * SAML Response 발급 시 세션 등록
+     */
+    public void register(HttpSession session, String nameId, String sessionIndex) {
+        session.setAttribute(NAME_ID_ATTRIBUTE, nameId);
+        session.setAttribute(SESSION_INDEX_ATTRIBUTE, sessionIndex);
+
+        switch (sessionConfig.getMode()) {
+            case MEMORY -> {
+                unregister(session.getId());
+                sessionsByNameId.compute(nameId, (key, sessions) -> {
+                    Map<String, HttpSession> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+                    target.put(sessionIndex, session);
+                    return target;
+                });
+                registrationsBySessionId.put(session.getId(), new Registration(nameId, sessionIndex));
+            }
+            // principal name 컬럼에 기록되어 findByPrincipalName으로 조회 가능
+            case JDBC -> session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, nameId);
+            case STATELESS -> log.debug("STATELESS 세션 모드는 SLO 세션 인덱스를 지원하지 않습니다.");
+        }
+    }
+
+    /**
+     * NameID의 세션 종료
+     *
+     * @param nameId 로그아웃할 사용자 NameID
+     * @param sessionIndexes 종료할 SessionIndex 목록 (비어 있으면 NameID의 모든 세션)
+     * @return 종료 결과
+     */
+    public LogoutResult terminate(String nameId, Collection<String> sessionIndexes) {
+        return switch (sessionConfig.getMode()) {
+            case MEMORY -> new LogoutResult(terminateInMemory(nameId, sessionIndexes), false);
+            case JDBC -> new LogoutResult(terminateInRepository(nameId, sessionIndexes), false);
+            case STATELESS -> {
+                log.warn("STATELESS 세션 모드에서는 다른 브라우저의 세션을 종료할 수 없습니다: NameID={}", nameId);
+                yield new LogoutResult(0, true);
+            }
+        };
+    }
+
+    private int terminateInMemory(String nameId, Collection<String> sessionIndexes) {
+        Map<String, HttpSession> sessions = sessionsByNameId.get(nameId);
+        if (sessions == null) {
+            return 0;
+        }
+
+        List<HttpSession> targets = new ArrayList<>();
+        if (sessionIndexes.isEmpty()) {
+            targets.addAll(sessions.values());
+        } else {
+            for (String sessionIndex : sessionIndexes) {
+                HttpSession session = sessions.get(sessionIndex);
+                if (session != null) {
+                    targets.add(session);
+                }
+            }
+        }
+
+        int terminated = 0;
+        for (HttpSession session : targets) {
+            String sessionId = session.getId();
+            try {
+                // sessionDestroyed 이벤트에서 인덱스 정리
+                session.invalidate();
+                terminated++;
+            } catch (IllegalStateException e) {
+                // 이미 만료/무효화된 세션
+            }
+            unregister(sessionId);
+        }
+        return terminated;
+    }
+
+    private int terminateInRepository(String nameId, Collection<String> sessionIndexes) {
+        FindByIndexNameSessionRepository<? extends Session> repository = indexedSessionRepository.getIfAvailable();
+        if (repository == null) {
+            log.warn("세션 저장소를 찾을 수 없어 SLO 세션 종료를 건너뜁니다.");
+            return 0;
+        }
+
+        int terminated = 0;
+        for (Map.Entry<String, ? extends Session> entry : repository.findByPrincipalName(nameId).entrySet()) {
+            String sessionIndex = entry.getValue().getAttribute(SESSION_INDEX_ATTRIBUTE);
+            if (sessionIndexes.isEmpty() || sessionIndexes.contains(sessionIndex)) {
+                repository.deleteById(entry.getKey());
+                terminated++;
+            }
+        }
+        return terminated;
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        unregister(event.getSession().getId());
+    }
+
+    private void unregister(String sessionId) {
+        Registration registration = registrationsBySessionId.remove(sessionId);
+        if (registration == null) {
+            return;
+        }
+        sessionsByNameId.computeIfPresent(registration.nameId(), (nameId, sessions) -> {
+            sessions.remove(registration.sessionIndex());
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * 세션 종료 결과
+     *
+     * @param terminated 종료한 세션 수
+     * @param partial 세션 모드 제약으로 일부 세션을 종료하지 못했을 수 있는지 여부
+     */
+    public record LogoutResult(int terminated, boolean partial) {
+    }
+
+    private record Registration(String nameId, String sessionIndex) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.config.AppSamlInitializer;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensaml.saml.common.SignableSAMLObject;
+import org.opensaml.saml.security.impl.SAMLSignatureProfileValidator;
+import org.opensaml.security.x509.BasicX509Credential;
+import org.opensaml.xmlsec.signature.Signature;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.opensaml.xmlsec.signature.support.SignatureException;
+import org.opensaml.xmlsec.signature.support.SignatureValidator;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RP(Microsoft Entra ID)가 보낸 SAML 요청의 서명 검증
+ *
+ * - HTTP-Redirect 바인딩: 쿼리 문자열의 SigAlg/Signature (SAMLRequest, RelayState, SigAlg 원본 인코딩 그대로 검증)
+ * - HTTP-POST 바인딩: 메시지 자체의 enveloped XML 서명 (SAML 서명 프로필 확인 후 검증)
+ *
+ * 신뢰하는 인증서는 saml.idp.relying-party-certificate-path의 PEM 파일이며, 여러 개를 넣으면 모두 신뢰합니다. (RP 키 롤오버)
+ * 인증서가 설정되지 않았으면 모든 요청을 거절합니다.
+ * RSA-SHA1 등 약한 알고리즘은 허용하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SamlSignatureVerifier {
+
+    /**
+     * 허용하는 서명 알고리즘 (XML 서명 URI → JCA 이름)
+     */
+    private static final Map<String, String> ALGORITHMS = Map.of(
+        SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256, "SHA256withRSA",
+        SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA384, "SHA384withRSA",
+        SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA512, "SHA512withRSA"
+    );
+
+    private final AppSamlConfig appSamlConfig;
+    private final ResourceLoader resourceLoader;
+
+    private volatile TrustedCertificates trusted = new TrustedCertificates(List.of(), null);
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * RP 인증서 파일 변경 확인
+     */
+    @Scheduled(initialDelayString = "${saml.idp.credential-refresh-seconds:30}",
+               fixedDelayString = "${saml.idp.credential-refresh-seconds:30}",
+               timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * HTTP-Redirect 바인딩 서명 검증
+     *
+     * @param queryString 요청의 원본 쿼리 문자열 (URL 인코딩 그대로)
+     * @return 검증된 SAMLRequest 값 (URL 디코딩 후)
+     * @throws IllegalArgumentException 서명이 없거나 올바르지 않은 경우
+     */
+    public String verifyRedirect(String queryString) {
+        Map<String, String> parameters = rawParameters(queryString);
+        String samlRequest = parameters.get("SAMLRequest");
+        String relayState = parameters.get("RelayState");
+        String sigAlg = parameters.get("SigAlg");
+        String signature = parameters.get("Signature");
+        if (samlRequest == null) {
+            throw new IllegalArgumentException("SAMLRequest 파라미터가 없습니다");
+        }
+        if (sigAlg == null || signature == null) {
+            throw new IllegalArgumentException("서명되지 않은 SAML 요청입니다");
+        }
+
+        String algorithm = ALGORITHMS.get(urlDecode(sigAlg));
+        if (algorithm == null) {
+            throw new IllegalArgumentException("허용되지 않은 서명 알고리즘입니다: " + urlDecode(sigAlg));
+        }
+
+        // 서명 대상: 수신한 인코딩 그대로의 SAMLRequest[&RelayState]&SigAlg (SAML Bindings 3.4.4.1)
+        StringBuilder signed = new StringBuilder("SAMLRequest=").append(samlRequest);
+        if (relayState != null) {
+            signed.append("&RelayState=").append(relayState);
+        }
+        signed.append("&SigAlg=").append(sigAlg);
+
+        byte[] signatureBytes;
+        try {
+            signatureBytes = Base64.getMimeDecoder().decode(urlDecode(signature));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("SAML 요청 서명 형식이 올바르지 않습니다", e);
+        }
+
+        byte[] content = signed.toString().getBytes(StandardCharsets.UTF_8);
+        for (X509Certificate certificate : certificates()) {
+            if (verify(algorithm, certificate, content, signatureBytes)) {
+                return urlDecode(samlRequest);
+            }
+        }
+        throw new IllegalArgumentException("SAML 요청 서명이 올바르지 않습니다");
+    }
+
+    /**
+     * HTTP-POST 바인딩 (enveloped XML 서명) 검증
+     *
+     * @throws IllegalArgumentException 서명이 없거나 올바르지 않은 경우
+     */
+    public void verify(SignableSAMLObject samlObject) {
+        Signature signature = samlObject.getSignature();
+        if (!samlObject.isSigned() || signature == null) {
+            throw new IllegalArgumentException("서명되지 않은 SAML 요청입니다");
+        }
+        if (!ALGORITHMS.containsKey(signature.getSignatureAlgorithm())) {
+            throw new IllegalArgumentException("허용되지 않은 서명 알고리즘입니다: " + signature.getSignatureAlgorithm());
+        }
+
+        AppSamlInitializer.ensureInitialized();
+        try {
+            // 서명이 이 메시지 자체(ID 참조, enveloped)를 가리키는지 확인 (서명 감싸기 공격 방지)
+            new SAMLSignatureProfileValidator().validate(signature);
+        } catch (SignatureException e) {
+            throw new IllegalArgumentException("SAML 요청 서명 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+
+        for (X509Certificate certificate : certificates()) {
+            try {
+                SignatureValidator.validate(signature, new BasicX509Credential(certificate));
+                return;
+            } catch (SignatureException e) {
+                // 다음 인증서로 확인
+            }
+        }
+        throw new IllegalArgumentException("SAML 요청 서명이 올바르지 않습니다");
+    }
+
+    private List<X509Certificate> certificates() {
+        List<X509Certificate> certificates = trusted.certificates();
+        if (certificates.isEmpty()) {
+            throw new IllegalArgumentException("RP 서명 인증서가 설정되지 않아 SAML 요청을 검증할 수 없습니다");
+        }
+        return certificates;
+    }
+
+    private static boolean verify(String algorithm, X509Certificate certificate, byte[] content, byte[] signature) {
+        try {
+            java.security.Signature verifier = java.security.Signature.getInstance(algorithm);
+            verifier.initVerify(certificate.getPublicKey());
+            verifier.update(content);
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 쿼리 문자열을 디코딩하지 않은 값으로 분리 (같은 이름이 두 번 나오면 거절)
+     */
+    private static Map<String, String> rawParameters(String queryString) {
+        Map<String, String> parameters = new HashMap<>();
+        if (queryString == null) {
+            return parameters;
+        }
+        for (String pair : queryString.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            if (parameters.putIfAbsent(name, value) != null) {
+                throw new IllegalArgumentException("중복된 SAML 요청 파라미터입니다: " + name);
+            }
+        }
+        return parameters;
+    }
+
+    private static String urlDecode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 파일이 바뀐 경우에만 다시 파싱 (실패 시 이전 값 유지)
+     */
+    private synchronized void reload() {
+        String path = appSamlConfig.getRelyingPartyCertificatePath();
+        if (!StringUtils.hasText(path)) {
+            if (trusted.source() == null) {
+                log.warn("saml.idp.relying-party-certificate-path가 설정되지 않아 SAML LogoutRequest를 모두 거절합니다.");
+            }
+            trusted = new TrustedCertificates(List.of(), new byte[0]);
+            return;
+        }
+
+        try {
+            Resource resource = resourceLoader.getResource(path);
+            if (!resource.exists()) {
+                log.warn("RP 서명 인증서 파일을 찾을 수 없습니다: {}", path);
+                return;
+            }
+            byte[] pem;
+            try (InputStream in = resource.getInputStream()) {
+                pem = in.readAllBytes();
+            }
+            if (trusted.source() != null && Arrays.equals(trusted.source(), pem)) {
+                return;
+            }
+
+            List<X509Certificate> certificates = new ArrayList<>();
+            for (Certificate certificate : CertificateFactory.getInstance("X.509")
+                    .generateCertificates(new ByteArrayInputStream(pem))) {
+                certificates.add((X509Certificate) certificate);
+            }
+            if (certificates.isEmpty()) {
+                log.warn("RP 서명 인증서 파일에 인증서가 없습니다: {}", path);
+                return;
+            }
+            trusted = new TrustedCertificates(List.copyOf(certificates), pem);
+            log.info("RP 서명 인증서 로드 완료: {} 개", certificates.size());
+        } catch (IOException | GeneralSecurityException e) {
+            log.error("RP 서명 인증서 로드 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param certificates 신뢰하는 RP 인증서
+     * @param source 로드한 파일 내용 (변경 확인용, 아직 로드하지 않았으면 null)
+     */
+    private record TrustedCertificates(List<X509Certificate> certificates, byte[] source) {
+    }
+}
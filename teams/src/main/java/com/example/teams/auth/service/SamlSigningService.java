@@ -0,0 +1,89 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.shared.util.BoundedExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.opensaml.xmlsec.signature.Signature;
+import org.opensaml.xmlsec.signature.support.SignatureException;
+import org.opensaml.xmlsec.signature.support.Signer;
+import org.springframework.stereotype.Service;
+
+/**
+ * SAML 서명 서비스
+ *
+ * RSA/ECDSA 서명은 SAML IdP 로그인에서 가장 CPU를 많이 쓰는 단계입니다.
+ * 풀을 사용하면 CPU 코어 수만큼의 전용 스레드({@link BoundedExecutor})에서 서명하여 동시 서명 수를 제한하고,
+ * 큐가 가득 차면 Tomcat 스레드를 붙잡지 않고 즉시 429로 거절합니다.
+ * 풀을 사용하지 않으면 요청 스레드에서 바로 서명합니다. (기본)
+ */
+@Service
+@Slf4j
+public class SamlSigningService {
+
+    private final BoundedExecutor executor;
+    private final Timer signTimer;
+
+    public SamlSigningService(AppSamlConfig appSamlConfig, MeterRegistry meterRegistry) {
+        AppSamlConfig.SigningConfig config = appSamlConfig.getSigning();
+
+        this.signTimer = Timer.builder("saml.sign.duration")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+
+        this.executor = config.isPoolEnabled()
+            ? new BoundedExecutor("saml.sign", "SAML 서명", config.resolvePoolSize(), config.getQueueCapacity(),
+                config.getTimeoutMillis(), meterRegistry).prestart()
+            : null;
+    }
+
+    /**
+     * 마샬링된 XMLObject의 Signature 서명
+     */
+    public void sign(Signature signature) throws SignatureException {
+        try {
+            if (executor == null) {
+                signTimer.record(() -> signInline(signature));
+            } else {
+                executor.execute(() -> {
+                    signTimer.record(() -> signInline(signature));
+                    return null;
+                });
+            }
+        } catch (SignatureFailure failure) {
+            throw failure.getCause();
+        }
+    }
+
+    private static void signInline(Signature signature) {
+        try {
+            Signer.signObject(signature);
+        } catch (SignatureException e) {
+            throw new SignatureFailure(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runnable 안에서 SignatureException을 전달하기 위한 래퍼
+     */
+    private static class SignatureFailure extends RuntimeException {
+        private SignatureFailure(SignatureException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SignatureException getCause() {
+            return (SignatureException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.teams.auth.service;
+
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Element;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SAML DOM 직렬화
+ *
+ * Transformer는 스레드 안전하지 않으므로 스레드별로 하나씩 만들어 재사용하고,
+ * Base64 인코딩은 중간 문자열 없이 바이트 버퍼에 바로 기록합니다.
+ */
+@Component
+public class SamlXmlWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final ThreadLocal<Transformer> transformers = ThreadLocal.withInitial(this::newTransformer);
+
+    /**
+     * Element를 UTF-8 XML로 직렬화한 뒤 Base64 문자열로 변환
+     */
+    public String toBase64(Element element) throws TransformerException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (OutputStream base64 = Base64.getEncoder().wrap(buffer)) {
+            transformers.get().transform(new DOMSource(element), new StreamResult(base64));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Element를 UTF-8 XML 바이트로 직렬화
+     */
+    public byte[] toBytes(Element element) throws TransformerException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        transformers.get().transform(new DOMSource(element), new StreamResult(buffer));
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Element를 XML 문자열로 변환 (디버그 로그용)
+     */
+    public String toXmlString(Element element) throws TransformerException {
+        StringWriter writer = new StringWriter();
+        transformers.get().transform(new DOMSource(element), new StreamResult(writer));
+        return writer.toString();
+    }
+
+    private Transformer newTransformer() {
+        try {
+            // TransformerFactory는 스레드 안전하지 않음 (스레드당 한 번만 호출됨)
+            Transformer transformer;
+            synchronized (transformerFactory) {
+                transformer = transformerFactory.newTransformer();
+            }
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+            return transformer;
+        } catch (TransformerConfigurationException e) {
+            throw new IllegalStateException("XML Transformer 생성 실패", e);
+        }
+    }
+}
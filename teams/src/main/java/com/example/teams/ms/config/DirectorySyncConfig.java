@@ -0,0 +1,38 @@
+package com.example.teams.ms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 디렉터리 사용자 미러 동기화 설정
+ *
+ * 애플리케이션 권한(User.Read.All, azure.client-id/client-secret/tenant-id)으로
+ * Graph users delta를 주기적으로 조회하여 로컬 directory_users 테이블에 반영합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.directory.sync")
+@Getter
+@Setter
+public class DirectorySyncConfig {
+    /**
+     * 동기화 사용 여부 (애플리케이션 권한 동의가 필요하므로 기본 비활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 동기화 주기 (밀리초, 이전 동기화 완료 후 기준)
+     */
+    private long intervalMillis = 300_000;
+
+    /**
+     * 애플리케이션 시작 후 첫 동기화까지 대기 시간 (밀리초)
+     */
+    private long initialDelayMillis = 10_000;
+
+    /**
+     * delta 페이지 크기 (Prefer: odata.maxpagesize, 최대 999)
+     */
+    private int pageSize = 999;
+}
@@ -0,0 +1,38 @@
+package com.example.teams.ms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청별 Graph 호출량 집계 설정
+ *
+ * /api/** 요청마다 Graph 호출 횟수, 수신 바이트, 대기 시간을 집계하여
+ * Server-Timing 응답 헤더로 내보내고 기준을 넘는 요청은 로그로 남깁니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.graph.budget")
+@Getter
+@Setter
+public class GraphBudgetConfig {
+    /**
+     * 집계 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청당 최대 Graph 호출 횟수 (0이면 제한 없음, 초과 시 해당 Graph 호출을 보내지 않고 요청 실패)
+     */
+    private int maxCalls = 0;
+
+    /**
+     * 경고 로그 기준: 요청당 Graph 호출 횟수
+     */
+    private int warnCalls = 10;
+
+    /**
+     * 경고 로그 기준: 요청당 Graph 대기 시간 합계 (밀리초)
+     */
+    private long warnWaitMillis = 2_000;
+}
@@ -0,0 +1,39 @@
+package com.example.teams.ms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Graph 병렬 호출 설정 (GraphFanOut)
+ *
+ * 요청 하나가 항목별 Graph 호출을 여러 번 해야 할 때(채널 메시지별 답글 조회 등)
+ * 공유 스레드 풀에서 동시에 호출하되 요청당 동시 호출 수와 전체 대기 시간을 제한합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.graph.fan-out")
+@Getter
+@Setter
+public class GraphFanOutConfig {
+    /**
+     * 공유 스레드 풀 크기 (모든 요청 합계 동시 호출 수)
+     */
+    private int threads = 32;
+
+    /**
+     * 공유 스레드 풀 대기 큐 크기, 가득 차면 대기하지 않고 해당 항목을 결과 없이 반환
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 요청당 최대 동시 호출 수
+     */
+    private int maxParallel = 8;
+
+    /**
+     * 요청당 전체 대기 시간 (밀리초), 넘으면 시작하지 않은 호출은 취소하고 끝나지 않은 항목은 결과 없이 반환
+     * 실행 중인 Graph 호출도 이 시간까지만 HTTP 응답을 기다립니다. (GraphDeadlineInterceptor)
+     */
+    private long deadlineMillis = 3_000;
+}
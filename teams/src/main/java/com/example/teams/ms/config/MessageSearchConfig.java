@@ -0,0 +1,54 @@
+package com.example.teams.ms.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메시지 전문 검색 색인 설정 (MessageSearchService)
+ *
+ * 사용자가 조회한 채팅/채널 메시지를 로컬 Lucene 색인에 저장하여 Graph 호출 없이 검색합니다.
+ * 메시지를 조회한 사용자마다 따로 저장하므로 기본값은 사용하지 않음이며, 사용할 때는 디스크 색인(indexPath)을 지정합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class MessageSearchConfig {
+    /**
+     * 색인 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 색인 디렉터리 (비어 있으면 힙 메모리 색인, 재시작 시 비워짐 - 개발/테스트용)
+     * 여러 노드가 같은 디렉터리를 공유할 수 없으므로 노드마다 로컬 경로를 지정합니다.
+     */
+    private String indexPath;
+
+    /**
+     * 디스크 반영(commit) 주기 (밀리초), 검색 결과에는 commit 전 변경도 바로 반영됨
+     */
+    private long commitIntervalMillis = 30_000;
+
+    /**
+     * 색인 대기 큐 크기 (조회 1회 = 작업 1개), 가득 차면 해당 조회분은 색인하지 않음
+     */
+    private int indexQueueCapacity = 1_000;
+
+    /**
+     * 검색 결과 최대 개수
+     */
+    private int maxResults = 50;
+
+    /**
+     * 색인 보존 기간 (일), 마지막으로 조회한 지 이 기간이 지난 문서는 삭제 (0 이하면 삭제하지 않음)
+     */
+    private int retentionDays = 30;
+
+    /**
+     * 보존 기간이 지난 문서 정리 주기 (밀리초)
+     */
+    private long purgeIntervalMillis = 3_600_000;
+}
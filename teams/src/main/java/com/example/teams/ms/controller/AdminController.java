@@ -2,10 +2,10 @@ package com.example.teams.ms.controller;
 
 import com.example.teams.ms.dto.UserDto;
 import com.example.teams.shared.exception.ForbiddenException;
+import com.example.teams.ms.service.DirectoryUserService;
 import com.example.teams.ms.service.GraphClientService;
-import com.example.teams.shared.util.AuthUtil;
+import com.example.teams.shared.web.AuthPrincipal;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -27,19 +27,17 @@ import java.util.Map;
 @RequestMapping("/api/admin")
 public class AdminController {
     
-    private final AuthUtil authUtil;
     private final GraphClientService graphClientService;
+    private final DirectoryUserService directoryUserService;
     
     /**
      * 관리자 권한 확인 API
      */
     @GetMapping("/check")
     @ResponseBody
-    public Map<String, Object> checkAdmin(HttpSession session) {
-        authUtil.checkAuthentication(session);
-        
-        boolean isAdmin = authUtil.isAdmin(session);
-        String accessToken = (String) session.getAttribute("accessToken");
+    public Map<String, Object> checkAdmin(AuthPrincipal principal) {
+        boolean isAdmin = principal.admin();
+        String accessToken = principal.accessToken();
         
         Map<String, Object> result = new java.util.HashMap<>();
         result.put("isAdmin", isAdmin);
@@ -75,15 +73,13 @@ public class AdminController {
      */
     @GetMapping("/token-info")
     @ResponseBody
-    public Map<String, Object> getTokenInfo(HttpSession session) {
-        authUtil.checkAuthentication(session);
-        
+    public Map<String, Object> getTokenInfo(AuthPrincipal principal) {
         // 관리자 권한 확인
-        if (!authUtil.isAdmin(session)) {
+        if (!principal.admin()) {
             throw new ForbiddenException("관리자 권한이 필요합니다");
         }
         
-        String accessToken = (String) session.getAttribute("accessToken");
+        String accessToken = principal.accessToken();
         Map<String, Object> result = new java.util.HashMap<>();
         
         try {
@@ -122,14 +118,17 @@ public class AdminController {
      */
     @GetMapping("/users")
     @ResponseBody
-    public List<UserDto> searchUsers(@RequestParam(required = false) String search, HttpSession session) {
-        authUtil.checkAuthentication(session);
-        
+    public List<UserDto> searchUsers(@RequestParam(required = false) String search, AuthPrincipal principal) {
         // 관리자 권한 확인
-        if (!authUtil.isAdmin(session)) {
+        if (!principal.admin()) {
             throw new ForbiddenException("관리자 권한이 필요합니다");
         }
         
+        // 디렉터리 미러가 동기화되어 있으면 로컬 인덱스로 검색 (Graph 호출 없음)
+        if (directoryUserService.isAvailable()) {
+            return directoryUserService.search(search);
+        }
+        
         try {
             com.microsoft.graph.serviceclient.GraphServiceClient graphClient = 
                 graphClientService.getGraphClient();
@@ -3,9 +3,7 @@ package com.example.teams.ms.controller;
 import com.example.teams.ms.dto.EventCreateRequest;
 import com.example.teams.ms.dto.EventDto;
 import com.example.teams.ms.service.CalendarService;
-import com.example.teams.shared.util.AuthUtil;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -23,19 +21,16 @@ import java.util.List;
 public class CalendarController {
     
     private final CalendarService calendarService;
-    private final AuthUtil authUtil;
     
     @GetMapping
     @ResponseBody
-    public List<EventDto> getMyEvents(HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<EventDto> getMyEvents() {
         return calendarService.getMyEvents();
     }
     
     @PostMapping
     @ResponseBody
-    public EventDto createEvent(@RequestBody EventCreateRequest request, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public EventDto createEvent(@RequestBody EventCreateRequest request) {
         return calendarService.createEvent(request);
     }
 }
@@ -2,9 +2,7 @@ package com.example.teams.ms.controller;
 
 import com.example.teams.ms.dto.*;
 import com.example.teams.ms.service.ChatService;
-import com.example.teams.shared.util.AuthUtil;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -22,19 +20,16 @@ import java.util.List;
 public class ChatController {
     
     private final ChatService chatService;
-    private final AuthUtil authUtil;
     
     @GetMapping
     @ResponseBody
-    public List<ChatDto> getChats(HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<ChatDto> getChats() {
         return chatService.getChats();
     }
     
     @GetMapping("/{chatId}/messages")
     @ResponseBody
-    public List<ChatMessageDto> getChatMessages(@PathVariable String chatId, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<ChatMessageDto> getChatMessages(@PathVariable String chatId) {
         return chatService.getChatMessages(chatId);
     }
     
@@ -42,23 +37,19 @@ public class ChatController {
     @ResponseBody
     public ChatMessageDto sendChatMessage(
             @PathVariable String chatId,
-            @RequestBody ChatMessageSendRequest request,
-            HttpSession session) {
-        authUtil.checkAuthentication(session);
+            @RequestBody ChatMessageSendRequest request) {
         return chatService.sendChatMessage(chatId, request);
     }
     
     @GetMapping("/{chatId}/members")
     @ResponseBody
-    public List<ChatMemberDto> getChatMembers(@PathVariable String chatId, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<ChatMemberDto> getChatMembers(@PathVariable String chatId) {
         return chatService.getChatMembers(chatId);
     }
     
     @PostMapping
     @ResponseBody
-    public ChatDto createChat(@RequestBody ChatCreateRequest request, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public ChatDto createChat(@RequestBody ChatCreateRequest request) {
         return chatService.createChat(request);
     }
 }
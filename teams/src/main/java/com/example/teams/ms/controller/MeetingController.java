@@ -3,9 +3,7 @@ package com.example.teams.ms.controller;
 import com.example.teams.ms.dto.MeetingCreateRequest;
 import com.example.teams.ms.dto.MeetingDto;
 import com.example.teams.ms.service.MeetingService;
-import com.example.teams.shared.util.AuthUtil;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -23,19 +21,16 @@ import java.util.List;
 public class MeetingController {
     
     private final MeetingService meetingService;
-    private final AuthUtil authUtil;
     
     @GetMapping
     @ResponseBody
-    public List<MeetingDto> getMyMeetings(HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<MeetingDto> getMyMeetings() {
         return meetingService.getMyMeetings();
     }
     
     @PostMapping
     @ResponseBody
-    public MeetingDto createMeeting(@RequestBody MeetingCreateRequest request, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public MeetingDto createMeeting(@RequestBody MeetingCreateRequest request) {
         return meetingService.createMeeting(request);
     }
 }
@@ -0,0 +1,34 @@
+package com.example.teams.ms.controller;
+
+import com.example.teams.ms.dto.MessageSearchResultDto;
+import com.example.teams.ms.service.MessageSearchService;
+import com.example.teams.shared.web.AuthPrincipal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 메시지 검색 API 컨트롤러
+ * 본인이 앱에서 조회한 채팅/채널 메시지를 로컬 색인에서 검색합니다. (Graph 호출 없음)
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/search")
+public class SearchController {
+    
+    private final MessageSearchService messageSearchService;
+    
+    @GetMapping("/messages")
+    @ResponseBody
+    public List<MessageSearchResultDto> searchMessages(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            AuthPrincipal principal) {
+        return messageSearchService.search(principal.objectId(), q, limit);
+    }
+}
@@ -2,9 +2,7 @@ package com.example.teams.ms.controller;
 
 import com.example.teams.ms.dto.*;
 import com.example.teams.ms.service.TeamsService;
-import com.example.teams.shared.util.AuthUtil;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -22,35 +20,30 @@ import java.util.List;
 public class TeamsController {
     
     private final TeamsService teamsService;
-    private final AuthUtil authUtil;
     
     // ==================== 사용자 정보 (MS Graph API) ====================
     @GetMapping("/me")
     @ResponseBody
-    public UserDto getCurrentUser(HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public UserDto getCurrentUser() {
         return teamsService.getCurrentUser();
     }
     
     @PutMapping("/me")
     @ResponseBody
-    public UserDto updateCurrentUser(@RequestBody UserUpdateRequest request, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public UserDto updateCurrentUser(@RequestBody UserUpdateRequest request) {
         return teamsService.updateCurrentUser(request);
     }
     
     // ==================== Teams & Channels ====================
     @GetMapping("/teams")
     @ResponseBody
-    public List<TeamDto> getUserTeams(HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<TeamDto> getUserTeams() {
         return teamsService.getUserTeams();
     }
     
     @GetMapping("/teams/{teamId}/channels")
     @ResponseBody
-    public List<ChannelDto> getTeamChannels(@PathVariable String teamId, HttpSession session) {
-        authUtil.checkAuthentication(session);
+    public List<ChannelDto> getTeamChannels(@PathVariable String teamId) {
         return teamsService.getTeamChannels(teamId);
     }
     
@@ -58,9 +51,7 @@ public class TeamsController {
     @ResponseBody
     public ChannelDto createChannel(
             @PathVariable String teamId,
-            @RequestBody ChannelCreateRequest request,
-            HttpSession session) {
-        authUtil.checkAuthentication(session);
+            @RequestBody ChannelCreateRequest request) {
         return teamsService.createChannel(teamId, request);
     }
     
@@ -69,9 +60,8 @@ public class TeamsController {
     public List<MessageDto> getChannelMessages(
             @PathVariable String teamId,
             @PathVariable String channelId,
-            HttpSession session) {
-        authUtil.checkAuthentication(session);
-        return teamsService.getChannelMessages(teamId, channelId);
+            @RequestParam(defaultValue = "false") boolean includeReplies) {
+        return teamsService.getChannelMessages(teamId, channelId, includeReplies);
     }
 }
 
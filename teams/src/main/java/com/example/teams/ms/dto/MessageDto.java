@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -18,5 +19,7 @@ public class MessageDto {
     private String webUrl;
     private OffsetDateTime createdDateTime;
     private String messageType;
+    // 답글 (includeReplies=true로 조회한 경우만, 답글 조회 실패/시간 초과 시 null)
+    private List<MessageDto> replies;
 }
 
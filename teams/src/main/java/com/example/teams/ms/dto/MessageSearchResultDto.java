@@ -0,0 +1,28 @@
+package com.example.teams.ms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.OffsetDateTime;
+
+/**
+ * 메시지 검색 결과
+ * 채팅 메시지는 chatId, 채널 메시지는 teamId/channelId가 채워집니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchResultDto {
+    private String id;
+    private String source; // chat, channel
+    private String chatId;
+    private String teamId;
+    private String channelId;
+    private String from;
+    private OffsetDateTime createdDateTime;
+    private String webUrl;
+    private String snippet; // 검색어를 <mark>로 감싼 본문 일부 (HTML 이스케이프됨)
+    private float score;
+}
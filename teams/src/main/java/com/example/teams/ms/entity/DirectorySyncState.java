@@ -0,0 +1,50 @@
+package com.example.teams.ms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 디렉터리 동기화 상태 (다음 delta 조회에 사용할 deltaLink)
+ * 여러 노드가 같은 DB를 쓰면 동기화 상태도 공유됩니다.
+ */
+@Entity
+@Table(name = "directory_sync_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectorySyncState {
+
+    public static final String USERS = "users";
+
+    /**
+     * 동기화 대상 (현재는 users만 사용)
+     */
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    /**
+     * 마지막 동기화 완료 시 받은 deltaLink (없으면 전체 동기화)
+     */
+    @Column(length = 4096)
+    private String deltaLink;
+
+    /**
+     * 마지막 동기화 완료 시간
+     */
+    private LocalDateTime lastSyncedAt;
+
+    /**
+     * 마지막 전체 동기화 완료 시간
+     */
+    private LocalDateTime lastFullSyncAt;
+}
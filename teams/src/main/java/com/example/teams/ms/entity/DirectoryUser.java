@@ -0,0 +1,75 @@
+package com.example.teams.ms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 디렉터리(Entra ID) 사용자 미러
+ * Graph users delta로 동기화되며, 계정 매칭/관리자 검색/이름 표시를 Graph 호출 없이 처리합니다.
+ *
+ * 검색용 *Key 컬럼은 소문자로 저장하여 대소문자 무시 접두어 검색에 인덱스를 사용합니다.
+ */
+@Entity
+@Table(name = "directory_users", indexes = {
+    @Index(name = "idx_directory_users_upn_key", columnList = "userPrincipalNameKey"),
+    @Index(name = "idx_directory_users_mail_key", columnList = "mailKey"),
+    @Index(name = "idx_directory_users_display_name_key", columnList = "displayNameKey"),
+    @Index(name = "idx_directory_users_synced_at", columnList = "syncedAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectoryUser {
+
+    /**
+     * Entra ID 객체 ID (Graph user id, 토큰의 oid 클레임)
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    private String userPrincipalName;
+
+    private String mail;
+
+    private String displayName;
+
+    private String department;
+
+    // 검색용 소문자 값
+    private String userPrincipalNameKey;
+
+    private String mailKey;
+
+    private String displayNameKey;
+
+    /**
+     * 마지막으로 delta에서 받은 시간 (전체 재동기화 후 남은 이전 행 정리에 사용)
+     */
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    /**
+     * 값 변경 후 검색용 소문자 값 갱신
+     */
+    public void refreshKeys() {
+        this.userPrincipalNameKey = toKey(userPrincipalName);
+        this.mailKey = toKey(mail);
+        this.displayNameKey = toKey(displayName);
+    }
+
+    public static String toKey(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+}
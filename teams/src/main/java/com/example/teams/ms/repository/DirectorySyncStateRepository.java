@@ -0,0 +1,13 @@
+package com.example.teams.ms.repository;
+
+import com.example.teams.ms.entity.DirectorySyncState;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 디렉터리 동기화 상태 Repository
+ */
+@Repository
+public interface DirectorySyncStateRepository extends JpaRepository<DirectorySyncState, String> {
+}
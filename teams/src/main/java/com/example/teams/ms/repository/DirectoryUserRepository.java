@@ -0,0 +1,43 @@
+package com.example.teams.ms.repository;
+
+import com.example.teams.ms.entity.DirectoryUser;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 디렉터리 사용자 미러 Repository
+ */
+@Repository
+public interface DirectoryUserRepository extends JpaRepository<DirectoryUser, String> {
+
+    /**
+     * 이름/메일/UPN 접두어 검색 (prefix는 소문자, LIKE 특수문자는 '\'로 이스케이프)
+     */
+    @Query("""
+        select u from DirectoryUser u
+        where u.displayNameKey like :prefix escape '\\'
+           or u.mailKey like :prefix escape '\\'
+           or u.userPrincipalNameKey like :prefix escape '\\'
+        order by u.displayNameKey
+        """)
+    List<DirectoryUser> searchByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    List<DirectoryUser> findAllByOrderByDisplayNameKey(Pageable pageable);
+
+    /**
+     * 전체 동기화에서 받지 못한(삭제된) 사용자 정리
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from DirectoryUser u where u.syncedAt < :before")
+    int deleteBySyncedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,263 @@
+package com.example.teams.ms.service;
+
+import com.azure.identity.ClientSecretCredential;
+import com.azure.identity.ClientSecretCredentialBuilder;
+import com.example.teams.auth.config.AzureOAuthConfig;
+import com.example.teams.ms.config.DirectorySyncConfig;
+import com.example.teams.ms.entity.DirectorySyncState;
+import com.example.teams.ms.entity.DirectoryUser;
+import com.example.teams.ms.repository.DirectorySyncStateRepository;
+import com.example.teams.ms.repository.DirectoryUserRepository;
+import com.microsoft.graph.models.User;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.delta.DeltaGetResponse;
+import com.microsoft.kiota.ApiException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 디렉터리 사용자 미러 동기화 (Graph users delta)
+ *
+ * 첫 동기화는 전체 사용자를 받고, 이후에는 저장해 둔 deltaLink로 변경분(추가/수정/삭제)만 받습니다.
+ * 페이지마다 한 트랜잭션으로 반영하며, deltaLink는 모든 페이지를 반영한 뒤에만 저장합니다.
+ * (중간에 실패하면 다음 주기에 이전 deltaLink부터 다시 받음, 같은 변경을 다시 반영해도 결과는 같음)
+ *
+ * deltaLink가 만료되면(410) 전체 동기화를 다시 하고, 그동안 받지 못한 사용자(삭제됨)를 정리합니다.
+ * 여러 노드가 같은 DB를 쓰는 경우 한 노드에서만 app.directory.sync.enabled=true로 설정합니다.
+ */
+@Service
+@Slf4j
+public class DirectorySyncService {
+
+    private static final String[] SELECT = {"id", "userPrincipalName", "mail", "displayName", "department"};
+    private static final String REMOVED = "@removed";
+
+    private final DirectorySyncConfig config;
+    private final AzureOAuthConfig azureOAuthConfig;
+    private final GraphServiceClientFactory graphServiceClientFactory;
+    private final DirectoryUserRepository directoryUserRepository;
+    private final DirectorySyncStateRepository directorySyncStateRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer syncTimer;
+    private final Counter upsertedCounter;
+    private final Counter removedCounter;
+
+    private GraphServiceClient appClient;
+
+    public DirectorySyncService(DirectorySyncConfig config,
+                                AzureOAuthConfig azureOAuthConfig,
+                                GraphServiceClientFactory graphServiceClientFactory,
+                                DirectoryUserRepository directoryUserRepository,
+                                DirectorySyncStateRepository directorySyncStateRepository,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.config = config;
+        this.azureOAuthConfig = azureOAuthConfig;
+        this.graphServiceClientFactory = graphServiceClientFactory;
+        this.directoryUserRepository = directoryUserRepository;
+        this.directorySyncStateRepository = directorySyncStateRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.syncTimer = Timer.builder("directory.sync.duration")
+            .register(meterRegistry);
+        this.upsertedCounter = Counter.builder("directory.sync.users")
+            .tag("result", "upserted")
+            .register(meterRegistry);
+        this.removedCounter = Counter.builder("directory.sync.users")
+            .tag("result", "removed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 주기 동기화 (이전 동기화 완료 후 interval-millis 뒤 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.directory.sync.interval-millis:300000}",
+               initialDelayString = "${app.directory.sync.initial-delay-millis:10000}")
+    public void scheduledSync() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            syncTimer.record(() -> {
+                sync();
+            });
+        } catch (RuntimeException e) {
+            log.error("디렉터리 사용자 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 동기화 한 번 실행
+     */
+    void sync() {
+        DirectorySyncState state = directorySyncStateRepository.findById(DirectorySyncState.USERS)
+            .orElseGet(() -> DirectorySyncState.builder().name(DirectorySyncState.USERS).build());
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        boolean full = state.getDeltaLink() == null;
+        SyncResult result;
+        try {
+            result = pullChanges(state.getDeltaLink(), startedAt);
+        } catch (ApiException e) {
+            if (full || e.getResponseStatusCode() != 410) {
+                throw e;
+            }
+            // deltaLink 만료 (resyncRequired): 처음부터 전체 동기화
+            log.warn("디렉터리 deltaLink가 만료되어 전체 동기화를 다시 시작합니다.");
+            full = true;
+            result = pullChanges(null, startedAt);
+        }
+
+        long cleaned = 0;
+        if (full) {
+            // 전체 동기화에서 받지 못한 사용자는 그 사이 삭제된 사용자
+            cleaned = directoryUserRepository.deleteBySyncedAtBefore(startedAt);
+            removedCounter.increment(cleaned);
+            state.setLastFullSyncAt(startedAt);
+        }
+
+        state.setDeltaLink(result.deltaLink());
+        state.setLastSyncedAt(startedAt);
+        directorySyncStateRepository.save(state);
+
+        log.info("디렉터리 사용자 동기화 완료 ({}): 반영={}, 삭제={}",
+            full ? "전체" : "변경분", result.upserted(), result.removed() + cleaned);
+    }
+
+    /**
+     * delta 페이지를 끝까지 받아 반영하고 다음 deltaLink 반환
+     */
+    private SyncResult pullChanges(String deltaLink, LocalDateTime syncedAt) {
+        GraphServiceClient client = appClient();
+        String preferPageSize = "odata.maxpagesize=" + config.getPageSize();
+
+        DeltaGetResponse page = deltaLink != null
+            ? client.users().delta().withUrl(deltaLink).get(requestConfiguration ->
+                requestConfiguration.headers.add("Prefer", preferPageSize))
+            : client.users().delta().get(requestConfiguration -> {
+                requestConfiguration.queryParameters.select = SELECT;
+                requestConfiguration.headers.add("Prefer", preferPageSize);
+            });
+
+        long upserted = 0;
+        long removed = 0;
+        while (page != null) {
+            List<User> users = page.getValue() != null ? page.getValue() : List.of();
+            PageResult pageResult = transactionTemplate.execute(status -> applyPage(users, syncedAt));
+            upserted += pageResult.upserted();
+            removed += pageResult.removed();
+
+            if (page.getOdataNextLink() == null) {
+                return new SyncResult(page.getOdataDeltaLink(), upserted, removed);
+            }
+            page = client.users().delta().withUrl(page.getOdataNextLink()).get(requestConfiguration ->
+                requestConfiguration.headers.add("Prefer", preferPageSize));
+        }
+        throw new IllegalStateException("디렉터리 delta 응답이 비어 있습니다.");
+    }
+
+    /**
+     * delta 페이지 하나 반영 (트랜잭션 안에서 호출)
+     * 기존 행은 ID 목록 한 번으로 조회하고, 새 행은 persist로 바로 INSERT합니다.
+     */
+    private PageResult applyPage(List<User> users, LocalDateTime syncedAt) {
+        if (users.isEmpty()) {
+            return new PageResult(0, 0);
+        }
+
+        Map<String, DirectoryUser> existing = directoryUserRepository
+            .findAllById(users.stream().map(User::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(DirectoryUser::getId, Function.identity()));
+
+        long upserted = 0;
+        long removed = 0;
+        for (User user : users) {
+            DirectoryUser target = existing.get(user.getId());
+
+            if (user.getAdditionalData() != null && user.getAdditionalData().containsKey(REMOVED)) {
+                if (target != null) {
+                    entityManager.remove(target);
+                    removed++;
+                }
+                continue;
+            }
+
+            boolean isNew = target == null;
+            if (isNew) {
+                target = DirectoryUser.builder().id(user.getId()).build();
+            }
+            apply(user, target);
+            target.setSyncedAt(syncedAt);
+            if (isNew) {
+                entityManager.persist(target);
+            }
+            upserted++;
+        }
+
+        upsertedCounter.increment(upserted);
+        removedCounter.increment(removed);
+        return new PageResult(upserted, removed);
+    }
+
+    /**
+     * 변경분에는 바뀐 속성만 포함되므로, 값이 있거나 명시적으로 null이 된 속성만 반영
+     */
+    private static void apply(User user, DirectoryUser target) {
+        Set<String> cleared = new HashSet<>();
+        user.getBackingStore().enumerateKeysForValuesChangedToNull().forEach(cleared::add);
+
+        target.setUserPrincipalName(merge(user.getUserPrincipalName(), target.getUserPrincipalName(), cleared.contains("userPrincipalName")));
+        target.setMail(merge(user.getMail(), target.getMail(), cleared.contains("mail")));
+        target.setDisplayName(merge(user.getDisplayName(), target.getDisplayName(), cleared.contains("displayName")));
+        target.setDepartment(merge(user.getDepartment(), target.getDepartment(), cleared.contains("department")));
+        target.refreshKeys();
+    }
+
+    private static String merge(String received, String current, boolean cleared) {
+        if (received != null) {
+            return received;
+        }
+        return cleared ? null : current;
+    }
+
+    /**
+     * 애플리케이션 권한(client credentials) Graph Client (동기화 스레드에서만 사용)
+     */
+    private GraphServiceClient appClient() {
+        if (appClient == null) {
+            ClientSecretCredential credential = new ClientSecretCredentialBuilder()
+                .clientId(azureOAuthConfig.getClientId())
+                .clientSecret(azureOAuthConfig.getClientSecret())
+                .tenantId(azureOAuthConfig.getTenantId())
+                .build();
+            appClient = graphServiceClientFactory.create(credential, "https://graph.microsoft.com/.default");
+        }
+        return appClient;
+    }
+
+    private record SyncResult(String deltaLink, long upserted, long removed) {
+    }
+
+    private record PageResult(long upserted, long removed) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.teams.ms.service;
+
+import com.example.teams.ms.dto.UserDto;
+import com.example.teams.ms.entity.DirectorySyncState;
+import com.example.teams.ms.entity.DirectoryUser;
+import com.example.teams.ms.repository.DirectorySyncStateRepository;
+import com.example.teams.ms.repository.DirectoryUserRepository;
+
+import com.microsoft.graph.models.ChatMessage;
+import com.microsoft.graph.models.Identity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 디렉터리 사용자 미러 조회 서비스
+ * {@link DirectorySyncService}가 동기화한 로컬 테이블에서 사용자를 조회합니다. (Graph 호출 없음)
+ * 미러는 동기화 주기만큼 늦을 수 있으므로 표시 이름 보완과 관리자 검색에만 사용하고,
+ * 로그인 사용자 식별에는 사용하지 않습니다. (OAuth 콜백은 Graph me() 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DirectoryUserService {
+
+    private static final int SEARCH_LIMIT = 20;
+
+    private final DirectoryUserRepository directoryUserRepository;
+    private final DirectorySyncStateRepository directorySyncStateRepository;
+
+    /**
+     * 미러 사용 가능 여부 (동기화가 한 번 이상 완료된 경우)
+     */
+    public boolean isAvailable() {
+        return directorySyncStateRepository.findById(DirectorySyncState.USERS)
+                .map(state -> state.getLastSyncedAt() != null)
+                .orElse(false);
+    }
+
+    /**
+     * 이름/메일/UPN 접두어 검색 (대소문자 무시, 최대 20명)
+     * 검색어가 없으면 이름순 20명
+     */
+    public List<UserDto> search(String query) {
+        PageRequest page = PageRequest.of(0, SEARCH_LIMIT);
+        List<DirectoryUser> users = query == null || query.isBlank()
+                ? directoryUserRepository.findAllByOrderByDisplayNameKey(page)
+                : directoryUserRepository.searchByPrefix(toPrefixPattern(query), page);
+        return users.stream().map(DirectoryUserService::toDto).toList();
+    }
+
+    /**
+     * 사용자 ID 목록의 표시 이름 조회 (미러에 없는 ID는 결과에 포함되지 않음)
+     */
+    public Map<String, String> resolveDisplayNames(Collection<String> userIds) {
+        Map<String, String> names = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return names;
+        }
+        for (DirectoryUser user : directoryUserRepository.findAllById(userIds)) {
+            if (user.getDisplayName() != null) {
+                names.put(user.getId(), user.getDisplayName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 사용자 ID 목록의 표시 이름과 메일을 한 번에 조회 (메일이 없으면 UPN, 미러에 없는 ID는 결과에 포함되지 않음)
+     */
+    public Map<String, DirectoryContact> resolveContacts(Collection<String> userIds) {
+        Map<String, DirectoryContact> contacts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return contacts;
+        }
+        for (DirectoryUser user : directoryUserRepository.findAllById(userIds)) {
+            String mail = user.getMail() != null ? user.getMail() : user.getUserPrincipalName();
+            contacts.put(user.getId(), new DirectoryContact(user.getDisplayName(), mail));
+        }
+        return contacts;
+    }
+
+    /**
+     * 메시지 작성자 표시 이름 확인 함수
+     * Graph 응답에 이름이 없는 작성자만 모아 미러를 한 번 조회하고, 둘 다 없으면 "Unknown"을 반환합니다.
+     */
+    public Function<ChatMessage, String> senderNames(List<ChatMessage> messages) {
+        Set<String> missing = messages.stream()
+                .map(DirectoryUserService::sender)
+                .filter(user -> user != null && user.getDisplayName() == null && user.getId() != null)
+                .map(Identity::getId)
+                .collect(Collectors.toSet());
+        Map<String, String> names = resolveDisplayNames(missing);
+
+        return message -> {
+            Identity user = sender(message);
+            if (user == null) {
+                return "Unknown";
+            }
+            if (user.getDisplayName() != null) {
+                return user.getDisplayName();
+            }
+            return names.getOrDefault(user.getId(), "Unknown");
+        };
+    }
+
+    private static Identity sender(ChatMessage message) {
+        return message.getFrom() != null ? message.getFrom().getUser() : null;
+    }
+
+    private static String toPrefixPattern(String query) {
+        String key = DirectoryUser.toKey(query.trim());
+        return key.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static UserDto toDto(DirectoryUser user) {
+        return UserDto.builder()
+                .id(user.getId())
+                .displayName(user.getDisplayName())
+                .mail(user.getMail())
+                .userPrincipalName(user.getUserPrincipalName())
+                .department(user.getDepartment())
+                .build();
+    }
+
+    /**
+     * 미러에서 확인한 표시 이름/메일 (없으면 null)
+     */
+    public record DirectoryContact(String displayName, String mail) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.teams.ms.service;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.OnBehalfOfCredential;
+import com.azure.identity.OnBehalfOfCredentialBuilder;
+import com.example.teams.auth.config.AzureOAuthConfig;
+import com.example.teams.shared.util.TokenHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * 노드별 GraphServiceClient 캐시
+ *
+ * STATELESS/JDBC 세션 모드에서는 요청마다 GraphClientService가 새로 만들어지거나 세션 저장소에서 복원되므로,
+ * Client를 세션 빈에만 두면 요청마다 Client와 OnBehalfOfCredential을 다시 만들게 됩니다.
+ * (SSO 사용자는 API 호출마다 Entra OBO 토큰 교환 발생)
+ * 같은 토큰의 Client는 이 캐시에서 재사용하므로 노드별로 토큰당 한 번만 생성되고,
+ * OBO Credential이 교환한 토큰도 만료 전까지 재사용됩니다.
+ *
+ * 키는 토큰의 SHA-256 해시이며, 크기와 미사용 시간으로 제한합니다.
+ */
+@Component
+@Slf4j
+public class GraphClientCache {
+
+    // 최대 Client 수 및 미사용 만료 시간 (Access Token 유효 시간 기준)
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(60);
+
+    private final AzureOAuthConfig azureOAuthConfig;
+    private final GraphServiceClientFactory graphServiceClientFactory;
+    private final Cache<String, GraphServiceClient> clients;
+
+    public GraphClientCache(AzureOAuthConfig azureOAuthConfig,
+                            GraphServiceClientFactory graphServiceClientFactory,
+                            MeterRegistry meterRegistry) {
+        this.azureOAuthConfig = azureOAuthConfig;
+        this.graphServiceClientFactory = graphServiceClientFactory;
+        this.clients = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, clients, "graph.clients");
+    }
+
+    /**
+     * Access Token을 사용하는 Client (없으면 생성)
+     */
+    public GraphServiceClient tokenClient(String accessToken) {
+        return clients.get(TokenHash.of("access", accessToken), key -> createTokenClient(accessToken));
+    }
+
+    /**
+     * SSO 토큰으로 OBO 교환하는 Client (없으면 생성)
+     */
+    public GraphServiceClient oboClient(String ssoToken) {
+        return clients.get(TokenHash.of("sso", ssoToken), key -> createOboClient(ssoToken));
+    }
+
+    /**
+     * 이미 만들어진 Client만 조회 (세션 복원 시, 없으면 null)
+     */
+    public GraphServiceClient find(String accessToken, String ssoToken) {
+        if (ssoToken != null) {
+            return clients.getIfPresent(TokenHash.of("sso", ssoToken));
+        }
+        if (accessToken != null) {
+            return clients.getIfPresent(TokenHash.of("access", accessToken));
+        }
+        return null;
+    }
+
+    /**
+     * Access Token을 사용하는 GraphServiceClient 생성
+     */
+    private GraphServiceClient createTokenClient(String accessToken) {
+        // Access Token을 사용하는 커스텀 TokenCredential 생성
+        // *obo 방식은 OnBehalfOfCredential 사용
+        final String token = accessToken;
+        TokenCredential tokenCredential = new TokenCredential() {
+            @Override
+            public Mono<AccessToken> getToken(TokenRequestContext request) {
+                // 1시간 후 만료 설정 (실제로는 토큰의 만료 시간을 사용해야 함)
+                OffsetDateTime expiresAt = OffsetDateTime.now().plusHours(1);
+                return Mono.just(new AccessToken(token, expiresAt));
+            }
+        };
+
+        log.debug("Graph Client 생성 (Access Token)");
+        return graphServiceClientFactory.create(tokenCredential);
+    }
+
+    /**
+     * OnBehalfOfCredential을 사용하는 GraphServiceClient 생성 (자동 토큰 교환 및 갱신)
+     */
+    private GraphServiceClient createOboClient(String ssoToken) {
+        // OAuth 설정 사용
+        var oauth = azureOAuthConfig.getOauth();
+
+        // OnBehalfOfCredential 생성 (OBO Flow 핵심)
+        OnBehalfOfCredential oboCredential = new OnBehalfOfCredentialBuilder()
+                .clientId(oauth.getClientId())
+                .clientSecret(oauth.getClientSecret())
+                .tenantId(oauth.getTenantId())
+                .userAssertion(ssoToken)  // Teams에서 받은 사용자 JWT
+                .build();
+
+        log.debug("Graph Client 생성 (OBO)");
+        return graphServiceClientFactory.create(oboCredential);
+    }
+}
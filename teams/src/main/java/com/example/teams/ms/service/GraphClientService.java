@@ -1,54 +1,83 @@
 package com.example.teams.ms.service;
 
-import com.azure.core.credential.AccessToken;
-import com.azure.core.credential.TokenCredential;
-import com.azure.core.credential.TokenRequestContext;
-import com.azure.identity.OnBehalfOfCredential;
-import com.azure.identity.OnBehalfOfCredentialBuilder;
-import com.example.teams.auth.config.AzureOAuthConfig;
 import com.example.teams.shared.port.GraphClientPort;
+import com.example.teams.shared.session.CompactSessionState;
+import com.example.teams.shared.web.AuthPrincipal;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Mono;
 
-import java.time.OffsetDateTime;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * GraphServiceClient 초기화 및 관리를 담당하는 구현체
  * GraphClientPort 인터페이스의 구현체입니다.
  * 세션별로 독립적인 인스턴스를 생성하여 사용자별로 분리합니다.
+ *
+ * 같은 세션의 요청이 동시에 들어올 수 있으므로(chats.js의 메시지/멤버 병렬 조회 등)
+ * 토큰과 Client는 불변 {@link ClientState} 하나로 묶어 AtomicReference에 compare-and-set으로만 교체합니다.
+ * 다른 요청이 먼저 같은 토큰으로 교체했으면 그 Client를 그대로 사용하므로, 설치된 Client가 중복 생성으로
+ * 바뀌거나 토큰과 Client가 서로 다른 상태가 보이는 일은 없습니다.
+ *
+ * JDBC 세션 모드에서는 토큰만 세션 저장소에 기록되며({@link CompactSessionState}), 요청마다 세션에서 복원됩니다.
+ *
+ * Client 자체는 노드별 {@link GraphClientCache}에서 토큰 기준으로 가져오므로,
+ * 요청마다 세션 빈이 새로 만들어지거나 복원되는 STATELESS/JDBC 모드에서도 같은 토큰이면 Client/OBO Credential을 재사용합니다.
+ * (노드별로 토큰당 첫 사용 시에만 생성)
  */
 @Service
 @Scope(value = "session", proxyMode = ScopedProxyMode.TARGET_CLASS)
 @Slf4j
 @RequiredArgsConstructor
-public class GraphClientService implements GraphClientPort {
+public class GraphClientService implements GraphClientPort, CompactSessionState {
     
-    private final AzureOAuthConfig azureOAuthConfig;
+    private final GraphClientCache graphClientCache;
     
-    private GraphServiceClient graphClient;
-    private String currentAccessToken; // OAuth 로그인에서 accessToken이 갱신될 수 있어 토큰 비교가 필요.
-    private String currentSsoToken; // OBO 방식 사용 시 SSO 토큰 추적
+    private final AtomicReference<ClientState> state = new AtomicReference<>(ClientState.EMPTY);
+    private volatile boolean sessionStateChanged; // 세션 저장소 쓰기 필요 여부
     
     /**
      * Graph Client 초기화 여부 확인
+     * 세션에서 복원되어 아직 Client를 만들지 않은 경우도 초기화된 것으로 봅니다.
      */
     public boolean isGraphClientInitialized() {
-        return graphClient != null;
+        ClientState current = state.get();
+        return current.client() != null || current.hasToken();
     }
     
     /**
      * Graph Client 가져오기
+     * /api 요청이면 요청 인증 정보({@link AuthPrincipal})의 토큰으로 먼저 초기화합니다. (같은 토큰이면 스킵)
+     * 세션에서 복원된 토큰만 있는 경우 이 시점에 Client를 생성합니다.
      */
     public GraphServiceClient getGraphClient() {
-        if (graphClient == null) {
-            throw new RuntimeException("Graph Client가 초기화되지 않았습니다. 먼저 initializeGraphClient()를 호출하세요.");
+        AuthPrincipal principal = AuthPrincipal.current();
+        if (principal != null) {
+            initialize(principal);
+        }
+        while (true) {
+            ClientState current = state.get();
+            if (current.client() != null) {
+                return current.client();
+            }
+            if (!current.hasToken()) {
+                throw new RuntimeException("Graph Client가 초기화되지 않았습니다. 먼저 initializeGraphClient()를 호출하세요.");
+            }
+            GraphServiceClient client = current.ssoToken() != null
+                ? graphClientCache.oboClient(current.ssoToken())
+                : graphClientCache.tokenClient(current.accessToken());
+            if (state.compareAndSet(current, current.withClient(client))) {
+                log.debug("세션에서 복원된 토큰으로 Graph Client 설정");
+                return client;
+            }
+            // 다른 요청이 먼저 Client를 만들었거나 토큰이 바뀜: 다시 확인
         }
-        return graphClient;
     }
     
     /**
@@ -58,31 +87,21 @@ public class GraphClientService implements GraphClientPort {
     @Override
     public void initializeGraphClient(String accessToken) {
         try {
-            // 같은 토큰으로 이미 초기화되어 있으면 스킵
-            if (graphClient != null && accessToken.equals(currentAccessToken)) {
-                log.debug("이미 같은 토큰으로 Graph Client가 초기화되어 있습니다");
-                return;
-            }
-            
-            // Access Token을 사용하는 커스텀 TokenCredential 생성
-            // *obo 방식은 OnBehalfOfCredential 사용
-            final String token = accessToken;
-            TokenCredential tokenCredential = new TokenCredential() {
-                @Override
-                public Mono<AccessToken> getToken(TokenRequestContext request) {
-                    // 1시간 후 만료 설정 (실제로는 토큰의 만료 시간을 사용해야 함)
-                    OffsetDateTime expiresAt = OffsetDateTime.now().plusHours(1);
-                    return Mono.just(new AccessToken(token, expiresAt));
+            while (true) {
+                ClientState current = state.get();
+                // 같은 토큰으로 이미 초기화되어 있으면 스킵 (세션에서 복원된 경우, 동시 요청이 먼저 초기화한 경우 포함)
+                if (accessToken.equals(current.accessToken())) {
+                    log.debug("이미 같은 토큰으로 Graph Client가 초기화되어 있습니다");
+                    return;
                 }
-            };
-            
-            // GraphServiceClient 생성
-            graphClient = new GraphServiceClient(tokenCredential);
-            
-            log.info("Graph Client 초기화 완료");
-            
-            currentAccessToken = accessToken;
                 
+                ClientState next = new ClientState(accessToken, null, graphClientCache.tokenClient(accessToken));
+                if (state.compareAndSet(current, next)) {
+                    sessionStateChanged = true;
+                    log.info("Graph Client 초기화 완료");
+                    return;
+                }
+            }
         } catch (Exception e) {
             log.error("Graph Client 초기화 실패", e);
             throw new RuntimeException("Graph Client 초기화 실패", e);
@@ -98,50 +117,99 @@ public class GraphClientService implements GraphClientPort {
     @Override
     public void initializeGraphClientWithSSO(String ssoToken) {
         try {
-            // 같은 SSO 토큰으로 이미 초기화되어 있으면 스킵
-            if (graphClient != null && ssoToken.equals(currentSsoToken)) {
-                log.debug("이미 같은 SSO 토큰으로 Graph Client가 초기화되어 있습니다");
-                return;
-            }
-            
-            // OAuth 설정 사용
-            var oauth = azureOAuthConfig.getOauth();
-            String clientId = oauth.getClientId();
-            String clientSecret = oauth.getClientSecret();
-            String tenantId = oauth.getTenantId();
-            
-            // OnBehalfOfCredential 생성 (OBO Flow 핵심)
-            OnBehalfOfCredential oboCredential = new OnBehalfOfCredentialBuilder()
-                    .clientId(clientId)
-                    .clientSecret(clientSecret)
-                    .tenantId(tenantId)
-                    .userAssertion(ssoToken)  // Teams에서 받은 사용자 JWT
-                    .build();
-            
-            // GraphServiceClient 생성 (자동 토큰 교환 및 갱신)
-            graphClient = new GraphServiceClient(oboCredential);
-            
-            log.info("Graph Client 초기화 완료 (OBO 방식 - 자동 토큰 갱신)");
-            
-            currentSsoToken = ssoToken;
-            currentAccessToken = null; // OBO 방식에서는 직접 관리하지 않음
+            while (true) {
+                ClientState current = state.get();
+                // 같은 SSO 토큰으로 이미 초기화되어 있으면 스킵 (세션에서 복원된 경우, 동시 요청이 먼저 초기화한 경우 포함)
+                if (ssoToken.equals(current.ssoToken())) {
+                    log.debug("이미 같은 SSO 토큰으로 Graph Client가 초기화되어 있습니다");
+                    return;
+                }
                 
+                // OBO 방식에서는 Access Token을 직접 관리하지 않음
+                ClientState next = new ClientState(null, ssoToken, graphClientCache.oboClient(ssoToken));
+                if (state.compareAndSet(current, next)) {
+                    sessionStateChanged = true;
+                    log.info("Graph Client 초기화 완료 (OBO 방식 - 자동 토큰 갱신)");
+                    return;
+                }
+            }
         } catch (Exception e) {
             log.error("Graph Client 초기화 실패 (OBO 방식)", e);
             throw new RuntimeException("Graph Client 초기화 실패 (OBO 방식)", e);
         }
     }
     
+    /**
+     * 요청 인증 정보의 토큰으로 초기화 (앱 로그인만 한 경우는 초기화하지 않음)
+     */
+    private void initialize(AuthPrincipal principal) {
+        if (principal.isSso()) {
+            initializeGraphClientWithSSO(principal.ssoToken());
+        } else if (principal.graphAccessToken() != null) {
+            initializeGraphClient(principal.graphAccessToken());
+        }
+    }
+    
     /**
      * Graph Client 초기화 상태 초기화 (테스트용 또는 로그아웃 시)
      */
     public void reset() {
-        graphClient = null;
-        currentAccessToken = null;
-        currentSsoToken = null;
+        state.set(ClientState.EMPTY);
+        sessionStateChanged = true;
         log.info("Graph Client 초기화 상태 리셋");
     }
     
+    /**
+     * 세션 저장소에서 읽은 토큰으로 상태 복원
+     * 이 노드에서 같은 토큰의 Client를 이미 만들었으면 그대로 사용하고, 없으면 첫 사용 시 생성합니다.
+     */
+    void restore(String accessToken, String ssoToken) {
+        state.set(new ClientState(accessToken, ssoToken, graphClientCache.find(accessToken, ssoToken)));
+        sessionStateChanged = false;
+    }
     
+    @Override
+    public boolean isSessionStateChanged() {
+        return sessionStateChanged;
+    }
+    
+    @Override
+    public void writeSessionState(DataOutput out) throws IOException {
+        // 두 토큰을 같은 시점의 상태에서 기록
+        ClientState current = state.get();
+        writeNullable(out, current.accessToken());
+        writeNullable(out, current.ssoToken());
+    }
+    
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    /**
+     * 토큰과 Client 묶음 (불변, 항상 통째로 교체)
+     *
+     * @param accessToken OAuth 로그인 Access Token (갱신될 수 있어 토큰 비교에 사용)
+     * @param ssoToken OBO 방식 사용 시 Teams SSO 토큰
+     * @param client 생성된 Client (세션에서 복원되어 아직 만들지 않은 경우 null)
+     */
+    private record ClientState(String accessToken, String ssoToken, GraphServiceClient client) {
+        
+        static final ClientState EMPTY = new ClientState(null, null, null);
+        
+        boolean hasToken() {
+            return accessToken != null || ssoToken != null;
+        }
+        
+        ClientState withClient(GraphServiceClient client) {
+            return new ClientState(accessToken, ssoToken, client);
+        }
+    }
 }
 
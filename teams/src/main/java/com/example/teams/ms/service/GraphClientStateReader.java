@@ -0,0 +1,34 @@
+package com.example.teams.ms.service;
+
+import com.example.teams.shared.session.CompactSessionState;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * 세션 저장소에서 GraphClientService 상태 복원 (JDBC 세션 모드)
+ *
+ * 요청마다 호출되므로 토큰만 복원하고, GraphServiceClient는 노드별 {@link GraphClientCache}에서 찾습니다.
+ * (이 노드에서 처음 보는 토큰이면 첫 사용 시 생성)
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphClientStateReader implements CompactSessionState.Reader<GraphClientService> {
+
+    private final GraphClientCache graphClientCache;
+
+    @Override
+    public Class<GraphClientService> stateType() {
+        return GraphClientService.class;
+    }
+
+    @Override
+    public GraphClientService readSessionState(DataInput in) throws IOException {
+        GraphClientService graphClientService = new GraphClientService(graphClientCache);
+        graphClientService.restore(GraphClientService.readNullable(in), GraphClientService.readNullable(in));
+        return graphClientService;
+    }
+}
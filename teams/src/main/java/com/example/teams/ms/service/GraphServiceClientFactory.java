@@ -0,0 +1,62 @@
+package com.example.teams.ms.service;
+
+import com.azure.core.credential.TokenCredential;
+import com.example.teams.auth.config.AzureOAuthConfig;
+import com.example.teams.ms.util.GraphDeadlineInterceptor;
+import com.example.teams.ms.util.GraphUsageInterceptor;
+import com.microsoft.graph.core.authentication.AzureIdentityAuthenticationProvider;
+import com.microsoft.graph.core.requests.GraphClientFactory;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * GraphServiceClient 생성
+ *
+ * 모든 GraphServiceClient가 하나의 OkHttpClient(연결 풀)를 공유합니다.
+ * Graph SDK 기본 미들웨어(재시도, 리다이렉트 등) 안쪽에 {@link GraphUsageInterceptor}를 추가하여
+ * 요청별 Graph 호출량을 집계하고 HTTP 왕복마다 지연 시간을 기록합니다.
+ * 병렬 호출({@link com.example.teams.ms.util.GraphFanOut})은 {@link GraphDeadlineInterceptor}가 마감 시간까지 남은 시간으로 제한합니다.
+ *
+ * azure.graph-base-url이 설정되면 모든 Graph 요청을 해당 주소로 보냅니다.
+ * (테스트/부하 테스트에서 로컬 Graph 대역 서버를 사용하는 경우, graphmock 프로필 참고)
+ * Graph 호스트가 아닌 주소에는 SDK가 Access Token을 붙이지 않습니다.
+ */
+@Component
+@Slf4j
+public class GraphServiceClientFactory {
+
+    private final AzureOAuthConfig azureOAuthConfig;
+    private final OkHttpClient httpClient;
+
+    public GraphServiceClientFactory(AzureOAuthConfig azureOAuthConfig, MeterRegistry meterRegistry) {
+        this.azureOAuthConfig = azureOAuthConfig;
+        this.httpClient = GraphClientFactory.create()
+            .addInterceptor(new GraphDeadlineInterceptor())
+            .addInterceptor(new GraphUsageInterceptor(meterRegistry))
+            .build();
+    }
+
+    /**
+     * GraphServiceClient 생성
+     *
+     * @param credential 토큰 발급 Credential
+     * @param scopes 요청 scope (없으면 기본 scope .default)
+     */
+    public GraphServiceClient create(TokenCredential credential, String... scopes) {
+        AzureIdentityAuthenticationProvider authenticationProvider =
+            new AzureIdentityAuthenticationProvider(credential, new String[0], scopes);
+        return configure(new GraphServiceClient(authenticationProvider, httpClient));
+    }
+
+    private GraphServiceClient configure(GraphServiceClient client) {
+        String baseUrl = azureOAuthConfig.getGraphBaseUrl();
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            client.getRequestAdapter().setBaseUrl(baseUrl);
+            log.debug("Graph 기본 주소 변경: {}", baseUrl);
+        }
+        return client;
+    }
+}
@@ -0,0 +1,488 @@
+package com.example.teams.ms.service;
+
+import com.example.teams.ms.config.MessageSearchConfig;
+import com.example.teams.ms.dto.MessageSearchResultDto;
+import com.example.teams.shared.web.AuthPrincipal;
+
+import com.microsoft.graph.models.ChatMessage;
+import com.microsoft.kiota.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 채팅/채널 메시지 전문 검색 (로컬 Lucene 색인)
+ *
+ * ChatService/TeamsService가 Graph에서 받은 메시지를 조회한 사용자(oid) 기준으로 색인합니다.
+ * 같은 메시지라도 사용자마다 따로 저장하므로, 검색은 항상 본인이 조회한 적 있는(접근 권한이 있는) 메시지만 반환합니다.
+ * 대신 색인 크기는 메시지 수가 아니라 (메시지 × 조회한 멤버 수)에 비례합니다.
+ * 예: 멤버 200명인 채널의 메시지 1건을 모두가 조회하면 문서 200개 (본문 포함)
+ * 다시 조회하면 같은 키로 교체하고, Graph에서 삭제된 메시지(deletedDateTime)는 색인에서도 삭제합니다.
+ *
+ * 접근 권한이 없어진 메시지는 다음 두 경우에 색인에서 삭제합니다.
+ * - 채팅/채널 메시지 조회가 403/404로 실패하면 그 사용자의 해당 채팅/채널 문서 전체 삭제 ({@link #forgetIfInaccessible})
+ * - 마지막으로 조회(색인)한 지 retention-days가 지난 문서는 purge-interval-millis마다 삭제 (나갔지만 다시 열지 않는 채팅 등)
+ *
+ * 본문은 한국어 형태소 분석(nori)으로 색인하며, 검색 결과에는 검색어를 강조한 본문 일부를 포함합니다.
+ * 형태소 분석과 색인 쓰기는 요청 스레드가 아니라 전용 색인 스레드 하나가 순서대로 처리합니다.
+ * 대기 큐(index-queue-capacity)가 가득 차면 해당 조회분은 색인하지 않고 버립니다. (다음 조회 때 다시 색인됨)
+ * 색인 변경은 색인 스레드가 처리한 뒤 다음 검색부터 반영되고(NRT), 디스크에는 commit-interval-millis마다 반영합니다.
+ *
+ * 색인 크기가 조회 사용자 수에 비례하므로 기본값은 사용하지 않음(app.search.enabled=false)이며,
+ * 사용할 때는 index-path로 디스크 색인을 지정합니다. (비워 두면 힙 메모리에 저장되고 재시작 시 사라짐)
+ */
+@Service
+@Slf4j
+public class MessageSearchService implements DisposableBean {
+
+    public static final String SOURCE_CHAT = "chat";
+    public static final String SOURCE_CHANNEL = "channel";
+
+    private static final String KEY = "key";
+    private static final String OWNER = "owner";
+    private static final String CONTAINER = "container";
+    private static final String INDEXED = "indexed";
+    private static final String ID = "id";
+    private static final String SOURCE = "source";
+    private static final String CHAT_ID = "chatId";
+    private static final String TEAM_ID = "teamId";
+    private static final String CHANNEL_ID = "channelId";
+    private static final String FROM = "from";
+    private static final String CREATED = "created";
+    private static final String WEB_URL = "webUrl";
+    private static final String TEXT = "text";
+
+    private static final int SNIPPET_FALLBACK_LENGTH = 200;
+
+    // 강조 표시가 본문을 다시 분석하지 않도록 위치(offset)까지 색인
+    private static final FieldType TEXT_TYPE = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        TEXT_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_TYPE.freeze();
+    }
+
+    private final MessageSearchConfig config;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ThreadPoolExecutor indexer;
+    private final Timer searchTimer;
+    private final Counter droppedCounter;
+
+    public MessageSearchService(MessageSearchConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.searchTimer = Timer.builder("message.search.duration")
+            .description("메시지 전문 검색 소요 시간")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("message.search.index.dropped")
+            .description("색인 대기 큐가 가득 차 색인하지 않은 조회 수")
+            .register(meterRegistry);
+
+        if (!config.isEnabled()) {
+            this.directory = null;
+            this.writer = null;
+            this.searcherManager = null;
+            this.indexer = null;
+            return;
+        }
+
+        try {
+            this.directory = StringUtils.hasText(config.getIndexPath())
+                ? FSDirectory.open(Path.of(config.getIndexPath()))
+                : new ByteBuffersDirectory();
+            IndexWriterConfig writerConfig = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(directory, writerConfig);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new IllegalStateException("메시지 검색 색인을 열 수 없습니다: " + config.getIndexPath(), e);
+        }
+
+        this.indexer = new ThreadPoolExecutor(
+            1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getIndexQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "message-index");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("message.search.index.queue.size", indexer, e -> e.getQueue().size())
+            .description("메시지 색인 대기 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("message.search.documents", writer, w -> w.getDocStats().numDocs)
+            .description("메시지 검색 색인 문서 수 (사용자별 저장)")
+            .register(meterRegistry);
+        log.info("메시지 검색 색인 열기: {} (문서 {} 개)",
+            StringUtils.hasText(config.getIndexPath()) ? config.getIndexPath() : "메모리",
+            writer.getDocStats().numDocs);
+    }
+
+    /**
+     * 현재 요청 사용자가 조회한 메시지를 색인 대기 큐에 추가 (사용자 oid를 알 수 없으면 무시)
+     * 색인은 색인 스레드에서 처리하며, 실패하거나 큐가 가득 차도 조회 응답에는 영향을 주지 않습니다.
+     *
+     * @param location 메시지 위치 (채팅 또는 채널)
+     * @param messages Graph에서 받은 메시지
+     * @param senderNames 작성자 표시 이름 확인 함수 (DirectoryUserService.senderNames, 색인 스레드에서 호출)
+     */
+    public void index(Location location, List<ChatMessage> messages, Function<ChatMessage, String> senderNames) {
+        if (writer == null || messages.isEmpty()) {
+            return;
+        }
+        AuthPrincipal principal = AuthPrincipal.current();
+        if (principal == null || principal.objectId() == null) {
+            return;
+        }
+        String owner = principal.objectId();
+        long now = System.currentTimeMillis();
+        List<ChatMessage> snapshot = List.copyOf(messages);
+
+        enqueue(() -> write(owner, location, snapshot, senderNames, now));
+    }
+
+    private void write(String owner, Location location, List<ChatMessage> messages,
+                       Function<ChatMessage, String> senderNames, long now) {
+        try {
+            for (ChatMessage message : messages) {
+                if (message.getId() == null) {
+                    continue;
+                }
+                Term key = new Term(KEY, owner + "|" + message.getId());
+                String text = plainText(message);
+                if (message.getDeletedDateTime() != null || text.isEmpty()) {
+                    writer.deleteDocuments(key);
+                    continue;
+                }
+                writer.updateDocument(key,
+                    document(key, owner, location, message, text, senderNames.apply(message), now));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("메시지 색인 실패 ({} 개): {}", messages.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅/채널 메시지 조회가 403/404로 실패한 경우 현재 요청 사용자의 해당 위치 문서 삭제
+     * (채팅에서 나갔거나 채널/팀에서 제외된 사용자가 이전에 색인된 메시지를 계속 검색하지 않도록)
+     * 그 밖의 실패(일시적 오류 등)는 색인을 유지합니다.
+     *
+     * @param location 조회에 실패한 메시지 위치
+     * @param e Graph 호출에서 발생한 예외 (GraphApiErrorHandler로 변환하기 전)
+     */
+    public void forgetIfInaccessible(Location location, Exception e) {
+        if (writer == null || !(e instanceof ApiException apiException)) {
+            return;
+        }
+        int status = apiException.getResponseStatusCode();
+        if (status != 403 && status != 404) {
+            return;
+        }
+        AuthPrincipal principal = AuthPrincipal.current();
+        if (principal == null || principal.objectId() == null) {
+            return;
+        }
+
+        // 앞서 대기 중인 같은 위치의 색인 작업 뒤에 삭제되도록 같은 큐로 처리
+        // (큐가 가득 차도 삭제는 버리지 않고 바로 처리, 형태소 분석이 없어 가벼움)
+        Term container = new Term(CONTAINER, location.container(principal.objectId()));
+        Runnable delete = () -> {
+            try {
+                writer.deleteDocuments(container);
+                log.info("접근할 수 없는 메시지 색인 삭제 ({}): {}", status, location);
+            } catch (IOException | RuntimeException ex) {
+                log.warn("메시지 색인 삭제 실패: {}", ex.getMessage());
+            }
+        };
+        if (!enqueue(delete)) {
+            delete.run();
+        }
+    }
+
+    /**
+     * 색인 대기 큐에 작업 추가 (큐가 가득 차면 false)
+     */
+    private boolean enqueue(Runnable task) {
+        try {
+            indexer.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.debug("메시지 색인 대기 큐가 가득 차 색인하지 않음");
+            return false;
+        }
+    }
+
+    /**
+     * 지금까지 대기 큐에 넣은 색인 작업이 끝날 때까지 대기
+     */
+    void awaitIndexing(long timeout, TimeUnit unit) throws InterruptedException {
+        if (indexer == null) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        indexer.execute(done::countDown);
+        done.await(timeout, unit);
+    }
+
+    /**
+     * 사용자 본인이 조회한 메시지에서 검색 (관련도순)
+     *
+     * @param owner 사용자 oid
+     * @param queryText 검색어 (공백은 AND, "구문", -제외, 접두어* 지원)
+     * @param limit 최대 결과 수 (max-results 이하)
+     */
+    public List<MessageSearchResultDto> search(String owner, String queryText, int limit) {
+        if (searcherManager == null || owner == null || !StringUtils.hasText(queryText)) {
+            return List.of();
+        }
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText.trim());
+        if (textQuery == null || textQuery instanceof MatchNoDocsQuery) {
+            return List.of();
+        }
+        Query query = new BooleanQuery.Builder()
+            .add(textQuery, BooleanClause.Occur.MUST)
+            .add(new TermQuery(new Term(OWNER, owner)), BooleanClause.Occur.FILTER)
+            .build();
+        int size = Math.max(1, Math.min(limit, config.getMaxResults()));
+
+        return searchTimer.record(() -> {
+            try {
+                searcherManager.maybeRefresh();
+                IndexSearcher searcher = searcherManager.acquire();
+                try {
+                    return toResults(searcher, query, searcher.search(query, size));
+                } finally {
+                    searcherManager.release(searcher);
+                }
+            } catch (IOException e) {
+                log.error("메시지 검색 실패: {}", e.getMessage(), e);
+                throw new IllegalStateException("메시지 검색 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 색인 변경 디스크 반영
+     */
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-millis:30000}")
+    public void commit() {
+        if (writer == null || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        } catch (IOException | RuntimeException e) {
+            log.warn("메시지 검색 색인 commit 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보존 기간(retention-days) 동안 다시 조회되지 않은 문서 삭제
+     */
+    @Scheduled(initialDelayString = "${app.search.purge-interval-millis:3600000}",
+               fixedDelayString = "${app.search.purge-interval-millis:3600000}")
+    public void purgeExpired() {
+        if (writer == null || config.getRetentionDays() <= 0) {
+            return;
+        }
+        purgeIndexedBefore(System.currentTimeMillis() - Duration.ofDays(config.getRetentionDays()).toMillis());
+    }
+
+    /**
+     * 지정한 시각 이전에 마지막으로 색인된 문서 삭제
+     */
+    void purgeIndexedBefore(long cutoff) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(INDEXED, Long.MIN_VALUE, cutoff - 1));
+        } catch (IOException | RuntimeException e) {
+            log.warn("메시지 검색 색인 보존 기간 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        indexer.shutdown();
+        try {
+            // 대기 중인 색인 작업을 마친 뒤 닫음
+            if (!indexer.awaitTermination(10, TimeUnit.SECONDS)) {
+                indexer.shutdownNow();
+                log.warn("메시지 색인 대기 작업을 모두 처리하지 못하고 종료합니다.");
+            }
+        } catch (InterruptedException e) {
+            indexer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        searcherManager.close();
+        writer.close(); // 남은 변경 commit 포함
+        directory.close();
+    }
+
+    private List<MessageSearchResultDto> toResults(IndexSearcher searcher, Query query, TopDocs topDocs)
+            throws IOException {
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+            .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", "... ", true))
+            .build();
+        String[] snippets = highlighter.highlight(TEXT, query, topDocs, 1);
+        StoredFields storedFields = searcher.storedFields();
+
+        List<MessageSearchResultDto> results = new ArrayList<>(topDocs.scoreDocs.length);
+        for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+            Document doc = storedFields.document(topDocs.scoreDocs[i].doc);
+            String snippet = snippets[i] != null ? snippets[i] : fallbackSnippet(doc.get(TEXT));
+            Number created = doc.getField(CREATED) != null ? doc.getField(CREATED).numericValue() : null;
+
+            results.add(MessageSearchResultDto.builder()
+                .id(doc.get(ID))
+                .source(doc.get(SOURCE))
+                .chatId(doc.get(CHAT_ID))
+                .teamId(doc.get(TEAM_ID))
+                .channelId(doc.get(CHANNEL_ID))
+                .from(doc.get(FROM))
+                .createdDateTime(created != null
+                    ? OffsetDateTime.ofInstant(Instant.ofEpochMilli(created.longValue()), ZoneOffset.UTC)
+                    : null)
+                .webUrl(doc.get(WEB_URL))
+                .snippet(snippet)
+                .score(topDocs.scoreDocs[i].score)
+                .build());
+        }
+        return results;
+    }
+
+    private static List<Field> document(Term key, String owner, Location location, ChatMessage message,
+                                        String text, String from, long indexedAt) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new StringField(KEY, key.text(), Field.Store.NO));
+        fields.add(new StringField(OWNER, owner, Field.Store.NO));
+        fields.add(new StringField(CONTAINER, location.container(owner), Field.Store.NO));
+        fields.add(new LongPoint(INDEXED, indexedAt));
+        fields.add(new StoredField(ID, message.getId()));
+        fields.add(new StoredField(SOURCE, location.source()));
+        addStored(fields, CHAT_ID, location.chatId());
+        addStored(fields, TEAM_ID, location.teamId());
+        addStored(fields, CHANNEL_ID, location.channelId());
+        addStored(fields, FROM, from);
+        addStored(fields, WEB_URL, message.getWebUrl());
+        if (message.getCreatedDateTime() != null) {
+            fields.add(new StoredField(CREATED, message.getCreatedDateTime().toInstant().toEpochMilli()));
+        }
+        fields.add(new Field(TEXT, text, TEXT_TYPE));
+        return fields;
+    }
+
+    private static void addStored(List<Field> fields, String name, String value) {
+        if (value != null) {
+            fields.add(new StoredField(name, value));
+        }
+    }
+
+    /**
+     * 제목 + 본문 (HTML 태그 제거, 공백 정리)
+     */
+    static String plainText(ChatMessage message) {
+        StringBuilder text = new StringBuilder();
+        if (StringUtils.hasText(message.getSubject())) {
+            text.append(message.getSubject()).append('\n');
+        }
+        if (message.getBody() != null && message.getBody().getContent() != null) {
+            String content = message.getBody().getContent()
+                .replaceAll("(?i)<br\\s*/?>|</p>|</div>", "\n")
+                .replaceAll("<[^>]*>", " ");
+            text.append(HtmlUtils.htmlUnescape(content));
+        }
+        return text.toString().replaceAll("[ \\t\\x0B\\f\\r]+", " ").strip();
+    }
+
+    private static String fallbackSnippet(String text) {
+        if (text == null) {
+            return "";
+        }
+        String head = text.length() > SNIPPET_FALLBACK_LENGTH ? text.substring(0, SNIPPET_FALLBACK_LENGTH) + "... " : text;
+        return HtmlUtils.htmlEscape(head);
+    }
+
+    /**
+     * 메시지 위치 (채팅이면 chatId, 채널이면 teamId/channelId)
+     */
+    public record Location(String source, String chatId, String teamId, String channelId) {
+
+        public static Location chat(String chatId) {
+            return new Location(SOURCE_CHAT, chatId, null, null);
+        }
+
+        public static Location channel(String teamId, String channelId) {
+            return new Location(SOURCE_CHANNEL, null, teamId, channelId);
+        }
+
+        /**
+         * 사용자별 위치 키 (접근 권한이 없어졌을 때 한 번에 삭제하는 단위)
+         */
+        String container(String owner) {
+            return SOURCE_CHAT.equals(source)
+                ? owner + "|" + SOURCE_CHAT + "|" + chatId
+                : owner + "|" + SOURCE_CHANNEL + "|" + teamId + "|" + channelId;
+        }
+    }
+}
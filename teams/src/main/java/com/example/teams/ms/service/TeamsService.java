@@ -2,14 +2,20 @@ package com.example.teams.ms.service;
 
 import com.example.teams.ms.dto.*;
 import com.example.teams.ms.util.GraphApiErrorHandler;
+import com.example.teams.ms.util.GraphFanOut;
+import com.example.teams.ms.util.GraphOperationMetrics;
+import com.microsoft.graph.models.ChatMessage;
 import com.microsoft.graph.models.User;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.teams.item.channels.item.messages.MessagesRequestBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Microsoft Teams 관련 API를 처리하는 서비스
@@ -20,234 +26,301 @@ import java.util.List;
 @Slf4j
 public class TeamsService {
     
+    private static final int MESSAGES_TOP = 20;
+    private static final int REPLIES_TOP = 50;
+    
     private final GraphClientService graphClientService;
     private final GraphApiErrorHandler errorHandler;
+    private final GraphOperationMetrics graphOperationMetrics;
+    private final DirectoryUserService directoryUserService;
+    private final GraphFanOut graphFanOut;
+    private final MessageSearchService messageSearchService;
     
     /**
      * 현재 사용자 정보 조회 (공통 기능)
      */
     public UserDto getCurrentUser() {
-        try {
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            // 필요한 필드만 명시적으로 선택
-            User user = graphClient.me().get(requestConfiguration -> {
-                requestConfiguration.queryParameters.select = new String[]{
-                    "id", "displayName", "mail", "userPrincipalName", 
-                    "jobTitle", "department", "officeLocation", "businessPhones"
-                };
-            });
-            
-            return UserDto.builder()
-                .id(user.getId())
-                .displayName(user.getDisplayName())
-                .mail(user.getMail())
-                .userPrincipalName(user.getUserPrincipalName())
-                .jobTitle(user.getJobTitle())
-                .department(user.getDepartment())
-                .officeLocation(user.getOfficeLocation())
-                .businessPhones(user.getBusinessPhones())
-                .build();
-        } catch (Exception e) {
-            errorHandler.handle(e, "사용자 정보 조회");
-            return null; // 도달하지 않음
-        }
+        return graphOperationMetrics.record("getCurrentUser", () -> {
+            try {
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                // 필요한 필드만 명시적으로 선택
+                User user = graphClient.me().get(requestConfiguration -> {
+                    requestConfiguration.queryParameters.select = new String[]{
+                        "id", "displayName", "mail", "userPrincipalName", 
+                        "jobTitle", "department", "officeLocation", "businessPhones"
+                    };
+                });
+                
+                return UserDto.builder()
+                    .id(user.getId())
+                    .displayName(user.getDisplayName())
+                    .mail(user.getMail())
+                    .userPrincipalName(user.getUserPrincipalName())
+                    .jobTitle(user.getJobTitle())
+                    .department(user.getDepartment())
+                    .officeLocation(user.getOfficeLocation())
+                    .businessPhones(user.getBusinessPhones())
+                    .build();
+            } catch (Exception e) {
+                errorHandler.handle(e, "사용자 정보 조회");
+                return null; // 도달하지 않음
+            }
+        });
     }
     
     /**
      * 현재 사용자 정보 수정
      */
     public UserDto updateCurrentUser(UserUpdateRequest request) {
-        try {
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            
-            User user = new User();
-            // boolean hasUpdate = false;
-            
-            // if (request.getDisplayName() != null && !request.getDisplayName().trim().isEmpty()) {
-            //     user.setDisplayName(request.getDisplayName().trim());
-            //     hasUpdate = true;
-            // }
-            
-            // if (request.getJobTitle() != null && !request.getJobTitle().trim().isEmpty()) {
-            //     user.setJobTitle(request.getJobTitle().trim());
-            //     log.info("직책 수정: {}", request.getJobTitle().trim());
-            //     hasUpdate = true;
-            // }
-            
-            // if (request.getDepartment() != null && !request.getDepartment().trim().isEmpty()) {
-            //     user.setDepartment(request.getDepartment().trim());
-            //     hasUpdate = true;
-            // }
-            
-            // if (request.getOfficeLocation() != null && !request.getOfficeLocation().trim().isEmpty()) {
-            //     user.setOfficeLocation(request.getOfficeLocation().trim());
-            //     hasUpdate = true;
-            // }
-            
-            // if (request.getBusinessPhone() != null && !request.getBusinessPhone().trim().isEmpty()) {
-            //     user.setBusinessPhones(List.of(request.getBusinessPhone().trim()));
-            //     hasUpdate = true;
-            // }
-            
-            // if (!hasUpdate) {
-            //     return getCurrentUser();
-            // }
-            
-            graphClient.me().patch(user);
-            
-            User updatedUser = graphClient.me().get(requestConfiguration -> {
-                requestConfiguration.queryParameters.select = new String[]{
-                    "id", "displayName", "mail", "userPrincipalName", 
-                    "jobTitle", "department", "officeLocation", "businessPhones"
-                };
-            });
-            
-            return UserDto.builder()
-                .id(updatedUser.getId())
-                .displayName(updatedUser.getDisplayName())
-                .mail(updatedUser.getMail())
-                .userPrincipalName(updatedUser.getUserPrincipalName())
-                .jobTitle(updatedUser.getJobTitle())
-                .department(updatedUser.getDepartment())
-                .officeLocation(updatedUser.getOfficeLocation())
-                .businessPhones(updatedUser.getBusinessPhones())
-                .build();
-        } catch (Exception e) {
-            errorHandler.handle(e, "사용자 정보 수정");
-            return null; // 도달하지 않음
-        }
+        return graphOperationMetrics.record("updateCurrentUser", () -> {
+            try {
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                
+                User user = new User();
+                // boolean hasUpdate = false;
+                
+                // if (request.getDisplayName() != null && !request.getDisplayName().trim().isEmpty()) {
+                //     user.setDisplayName(request.getDisplayName().trim());
+                //     hasUpdate = true;
+                // }
+                
+                // if (request.getJobTitle() != null && !request.getJobTitle().trim().isEmpty()) {
+                //     user.setJobTitle(request.getJobTitle().trim());
+                //     log.info("직책 수정: {}", request.getJobTitle().trim());
+                //     hasUpdate = true;
+                // }
+                
+                // if (request.getDepartment() != null && !request.getDepartment().trim().isEmpty()) {
+                //     user.setDepartment(request.getDepartment().trim());
+                //     hasUpdate = true;
+                // }
+                
+                // if (request.getOfficeLocation() != null && !request.getOfficeLocation().trim().isEmpty()) {
+                //     user.setOfficeLocation(request.getOfficeLocation().trim());
+                //     hasUpdate = true;
+                // }
+                
+                // if (request.getBusinessPhone() != null && !request.getBusinessPhone().trim().isEmpty()) {
+                //     user.setBusinessPhones(List.of(request.getBusinessPhone().trim()));
+                //     hasUpdate = true;
+                // }
+                
+                // if (!hasUpdate) {
+                //     return getCurrentUser();
+                // }
+                
+                graphClient.me().patch(user);
+                
+                User updatedUser = graphClient.me().get(requestConfiguration -> {
+                    requestConfiguration.queryParameters.select = new String[]{
+                        "id", "displayName", "mail", "userPrincipalName", 
+                        "jobTitle", "department", "officeLocation", "businessPhones"
+                    };
+                });
+                
+                return UserDto.builder()
+                    .id(updatedUser.getId())
+                    .displayName(updatedUser.getDisplayName())
+                    .mail(updatedUser.getMail())
+                    .userPrincipalName(updatedUser.getUserPrincipalName())
+                    .jobTitle(updatedUser.getJobTitle())
+                    .department(updatedUser.getDepartment())
+                    .officeLocation(updatedUser.getOfficeLocation())
+                    .businessPhones(updatedUser.getBusinessPhones())
+                    .build();
+            } catch (Exception e) {
+                errorHandler.handle(e, "사용자 정보 수정");
+                return null; // 도달하지 않음
+            }
+        });
     }
     
     /**
      * 사용자가 속한 모든 Teams 조회
      */
     public List<TeamDto> getUserTeams() {
-        try {
-            log.info("Teams 목록 조회 시작...");
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            var teams = graphClient.me().joinedTeams().get();
-            
-            List<TeamDto> teamList = new ArrayList<>();
-            if (teams != null && teams.getValue() != null) {
-                teams.getValue().forEach(team -> {
-                    teamList.add(TeamDto.builder()
-                        .id(team.getId())
-                        .displayName(team.getDisplayName())
-                        .description(team.getDescription())
-                        .isArchived(team.getIsArchived() != null ? team.getIsArchived() : false)
-                        .webUrl(team.getWebUrl())
-                        .build());
-                });
+        return graphOperationMetrics.record("getUserTeams", () -> {
+            try {
+                log.info("Teams 목록 조회 시작...");
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                var teams = graphClient.me().joinedTeams().get();
+                
+                List<TeamDto> teamList = new ArrayList<>();
+                if (teams != null && teams.getValue() != null) {
+                    teams.getValue().forEach(team -> {
+                        teamList.add(TeamDto.builder()
+                            .id(team.getId())
+                            .displayName(team.getDisplayName())
+                            .description(team.getDescription())
+                            .isArchived(team.getIsArchived() != null ? team.getIsArchived() : false)
+                            .webUrl(team.getWebUrl())
+                            .build());
+                    });
+                }
+                
+                log.info("Teams 조회 완료: {} 개", teamList.size());
+                return teamList;
+            } catch (Exception e) {
+                errorHandler.handle(e, "Teams 조회");
+                return new ArrayList<>(); // 도달하지 않음
             }
-            
-            log.info("Teams 조회 완료: {} 개", teamList.size());
-            return teamList;
-        } catch (Exception e) {
-            errorHandler.handle(e, "Teams 조회");
-            return new ArrayList<>(); // 도달하지 않음
-        }
+        });
     }
     
     /**
      * 특정 Team의 채널 목록 조회
      */
     public List<ChannelDto> getTeamChannels(String teamId) {
-        try {
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            var channels = graphClient.teams().byTeamId(teamId).channels().get();
-            
-            List<ChannelDto> channelList = new ArrayList<>();
-            if (channels != null && channels.getValue() != null) {
-                channels.getValue().forEach(channel -> {
-                    channelList.add(ChannelDto.builder()
-                        .id(channel.getId())
-                        .displayName(channel.getDisplayName())
-                        .description(channel.getDescription())
-                        .webUrl(channel.getWebUrl())
-                        .membershipType(channel.getMembershipType() != null ? 
-                            channel.getMembershipType().toString() : "standard")
-                        .build());
-                });
+        return graphOperationMetrics.record("getTeamChannels", () -> {
+            try {
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                var channels = graphClient.teams().byTeamId(teamId).channels().get();
+                
+                List<ChannelDto> channelList = new ArrayList<>();
+                if (channels != null && channels.getValue() != null) {
+                    channels.getValue().forEach(channel -> {
+                        channelList.add(ChannelDto.builder()
+                            .id(channel.getId())
+                            .displayName(channel.getDisplayName())
+                            .description(channel.getDescription())
+                            .webUrl(channel.getWebUrl())
+                            .membershipType(channel.getMembershipType() != null ? 
+                                channel.getMembershipType().toString() : "standard")
+                            .build());
+                    });
+                }
+                
+                log.info("Team {} 의 채널 조회 완료: {} 개", teamId, channelList.size());
+                return channelList;
+            } catch (Exception e) {
+                errorHandler.handle(e, "채널 조회");
+                return new ArrayList<>(); // 도달하지 않음
             }
-            
-            log.info("Team {} 의 채널 조회 완료: {} 개", teamId, channelList.size());
-            return channelList;
-        } catch (Exception e) {
-            errorHandler.handle(e, "채널 조회");
-            return new ArrayList<>(); // 도달하지 않음
-        }
+        });
     }
     
     /**
-     * 특정 채널의 메시지 조회
+     * 특정 채널의 메시지 조회 (최근 20개)
+     *
+     * @param includeReplies true이면 메시지별 답글(최대 50개)을 병렬로 함께 조회 ({@link GraphFanOut})
+     *                       답글 조회가 실패하거나 마감 시간을 넘긴 메시지는 replies가 null
      */
-    public List<MessageDto> getChannelMessages(String teamId, String channelId) {
-        try {
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            var messages = graphClient.teams().byTeamId(teamId)
-                .channels().byChannelId(channelId)
-                .messages()
-                .get(requestConfiguration -> {
-                    requestConfiguration.queryParameters.top = 20;
+    public List<MessageDto> getChannelMessages(String teamId, String channelId, boolean includeReplies) {
+        return graphOperationMetrics.record("getChannelMessages", () -> {
+            try {
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                var messagesRequest = graphClient.teams().byTeamId(teamId)
+                    .channels().byChannelId(channelId)
+                    .messages();
+                var messages = messagesRequest.get(requestConfiguration -> {
+                    requestConfiguration.queryParameters.top = MESSAGES_TOP;
                 });
-            
-            List<MessageDto> messageList = new ArrayList<>();
-            if (messages != null && messages.getValue() != null) {
-                messages.getValue().forEach(message -> {
-                    if(message.getFrom() == null) {
-                        return;
+                
+                List<ChatMessage> received = messages != null && messages.getValue() != null
+                    ? messages.getValue()
+                    : List.of();
+                List<ChatMessage> posts = received.stream()
+                    .filter(message -> message.getFrom() != null)
+                    .toList();
+                
+                // 답글은 작업 스레드에서 메시지별로 동시에 조회 (이름 확인과 DTO 변환은 요청 스레드에서)
+                List<List<ChatMessage>> replies = includeReplies
+                    ? graphFanOut.map("getChannelMessageReplies", posts,
+                        post -> getReplies(messagesRequest, post.getId()))
+                    : null;
+                
+                // 작성자 이름이 없는 메시지는 디렉터리 미러에서 이름 확인 (답글 포함 한 번에 조회)
+                List<ChatMessage> allMessages = new ArrayList<>(received);
+                if (replies != null) {
+                    replies.stream().filter(Objects::nonNull).forEach(allMessages::addAll);
+                }
+                var senderNames = directoryUserService.senderNames(allMessages);
+                // 조회한 메시지/답글은 검색 색인에 반영 (색인 스레드에서 처리, 삭제된 메시지는 색인에서 삭제)
+                messageSearchService.index(MessageSearchService.Location.channel(teamId, channelId),
+                    allMessages, senderNames);
+                
+                List<MessageDto> messageList = new ArrayList<>();
+                for (int i = 0; i < posts.size(); i++) {
+                    MessageDto dto = toMessageDto(posts.get(i), senderNames);
+                    if (replies != null && replies.get(i) != null) {
+                        dto.setReplies(replies.get(i).stream()
+                            .filter(reply -> reply.getFrom() != null)
+                            .map(reply -> toMessageDto(reply, senderNames))
+                            .toList());
                     }
-                    String userName = message.getFrom().getUser() != null ? 
-                        message.getFrom().getUser().getDisplayName() : "Unknown";
-                    String body = message.getBody() != null ? message.getBody().getContent() : "";
-                    String subject = message.getSubject();
-                    String webUrl = message.getWebUrl();
-                    
-                    messageList.add(MessageDto.builder()
-                        .id(message.getId())
-                        .subject(subject)
-                        .body(body)
-                        .userName(userName)
-                        .webUrl(webUrl)
-                        .createdDateTime(message.getCreatedDateTime())
-                        .messageType(message.getMessageType() != null ? 
-                            message.getMessageType().toString() : "message")
-                        .build());
-                });
+                    messageList.add(dto);
+                }
+                
+                log.info("채널 메시지 조회 완료: {} 개{}", messageList.size(), includeReplies ? " (답글 포함)" : "");
+                return messageList;
+            } catch (Exception e) {
+                // 팀/채널에서 제외되었거나 삭제된 채널이면 이전에 색인된 메시지도 검색되지 않도록 삭제
+                messageSearchService.forgetIfInaccessible(MessageSearchService.Location.channel(teamId, channelId), e);
+                errorHandler.handle(e, "채널 메시지 조회");
+                return new ArrayList<>(); // 도달하지 않음
             }
-            
-            log.info("채널 메시지 조회 완료: {} 개", messageList.size());
-            return messageList;
-        } catch (Exception e) {
-            errorHandler.handle(e, "채널 메시지 조회");
-            return new ArrayList<>(); // 도달하지 않음
-        }
+        });
+    }
+    
+    /**
+     * 채널 메시지 답글 조회 (GraphFanOut 작업 스레드에서 실행)
+     */
+    private List<ChatMessage> getReplies(MessagesRequestBuilder messagesRequest, String messageId) {
+        return graphOperationMetrics.record("getChannelMessageReplies", () -> {
+            try {
+                var replies = messagesRequest.byChatMessageId(messageId).replies()
+                    .get(requestConfiguration -> {
+                        requestConfiguration.queryParameters.top = REPLIES_TOP;
+                    });
+                return replies != null && replies.getValue() != null
+                    ? replies.getValue()
+                    : List.<ChatMessage>of();
+            } catch (Exception e) {
+                errorHandler.handle(e, "채널 메시지 답글 조회");
+                return List.<ChatMessage>of(); // 도달하지 않음
+            }
+        });
+    }
+    
+    private static MessageDto toMessageDto(ChatMessage message, Function<ChatMessage, String> senderNames) {
+        return MessageDto.builder()
+            .id(message.getId())
+            .subject(message.getSubject())
+            .body(message.getBody() != null ? message.getBody().getContent() : "")
+            .userName(senderNames.apply(message))
+            .webUrl(message.getWebUrl())
+            .createdDateTime(message.getCreatedDateTime())
+            .messageType(message.getMessageType() != null ? 
+                message.getMessageType().toString() : "message")
+            .build();
     }
     
     /**
      * 채널 생성
      */
     public ChannelDto createChannel(String teamId, ChannelCreateRequest request) {
-        try {
-            GraphServiceClient graphClient = graphClientService.getGraphClient();
-            com.microsoft.graph.models.Channel channel = new com.microsoft.graph.models.Channel();
-            channel.setDisplayName(request.getDisplayName());
-            channel.setDescription(request.getDescription());
-            
-            var createdChannel = graphClient.teams().byTeamId(teamId).channels()
-                .post(channel);
-            
-            return ChannelDto.builder()
-                .id(createdChannel.getId())
-                .displayName(createdChannel.getDisplayName())
-                .description(createdChannel.getDescription())
-                .webUrl(createdChannel.getWebUrl())
-                .membershipType(createdChannel.getMembershipType() != null ? 
-                    createdChannel.getMembershipType().toString() : "standard")
-                .build();
-        } catch (Exception e) {
-            errorHandler.handle(e, "채널 생성");
-            return null; // 도달하지 않음
-        }
-    }   
+        return graphOperationMetrics.record("createChannel", () -> {
+            try {
+                GraphServiceClient graphClient = graphClientService.getGraphClient();
+                com.microsoft.graph.models.Channel channel = new com.microsoft.graph.models.Channel();
+                channel.setDisplayName(request.getDisplayName());
+                channel.setDescription(request.getDescription());
+                
+                var createdChannel = graphClient.teams().byTeamId(teamId).channels()
+                    .post(channel);
+                
+                return ChannelDto.builder()
+                    .id(createdChannel.getId())
+                    .displayName(createdChannel.getDisplayName())
+                    .description(createdChannel.getDescription())
+                    .webUrl(createdChannel.getWebUrl())
+                    .membershipType(createdChannel.getMembershipType() != null ? 
+                        createdChannel.getMembershipType().toString() : "standard")
+                    .build();
+            } catch (Exception e) {
+                errorHandler.handle(e, "채널 생성");
+                return null; // 도달하지 않음
+            }
+        });
+    }
 }
@@ -45,6 +45,17 @@ public class GraphApiErrorHandler {
                 e
             );
         }
+        
+        // ODataError는 SDK가 응답 본문을 이미 파싱했으므로 에러 코드/메시지를 그대로 사용
+        String errorMessage = e.getError().getMessage();
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            errorMessage = e.getMessage();
+        }
+        
+        log.error("{} 실패 - OData 에러: 상태 코드={}, 에러 코드={}, 메시지={}", 
+            operation, e.getResponseStatusCode(), e.getError().getCode(), errorMessage, e);
+        
+        throwForStatus(e.getResponseStatusCode(), e.getError().getCode(), errorMessage, operation, e);
     }
     
     /**
@@ -81,6 +92,19 @@ public class GraphApiErrorHandler {
         log.error("{} 실패 - API 예외: 상태 코드={}, 에러 코드={}, 메시지={}", 
             operation, statusCode, errorCode, errorMessage, e);
         
+        throwForStatus(statusCode, errorCode, errorMessage, operation, e);
+    }
+    
+    /**
+     * HTTP 상태 코드에 맞는 예외를 던집니다.
+     */
+    private void throwForStatus(
+            int statusCode,
+            String errorCode,
+            String errorMessage,
+            String operation,
+            com.microsoft.kiota.ApiException e) {
+        
         switch (statusCode) {
             case 401 -> throw new UnauthorizedException(
                 "인증 실패 (401): " + errorMessage,
@@ -219,7 +243,10 @@ public class GraphApiErrorHandler {
      * @throws GraphApiException 기타 Graph API 에러
      */
     public void handle(Exception e, String operation) {
-        if (e instanceof com.microsoft.graph.models.odataerrors.ODataError) {
+        if (e instanceof GraphApiException) {
+            // 이미 변환된 예외 (예: 요청당 Graph 호출 한도 초과)
+            throw (GraphApiException) e;
+        } else if (e instanceof com.microsoft.graph.models.odataerrors.ODataError) {
             handleODataError((com.microsoft.graph.models.odataerrors.ODataError) e, operation);
         } else if (e instanceof com.microsoft.kiota.ApiException) {
             handleApiException((com.microsoft.kiota.ApiException) e, operation);
@@ -0,0 +1,64 @@
+package com.example.teams.ms.util;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 마감 시간이 지정된 Graph 호출의 HTTP 제한 시간 적용 인터셉터
+ *
+ * {@link GraphFanOut}은 마감 시간을 넘긴 작업을 기다리지 않지만, 이미 실행 중인 작업은
+ * CompletableFuture 취소로 중단되지 않아 OkHttp 기본 제한 시간까지 공유 스레드를 붙잡습니다.
+ * 이 인터셉터는 작업 스레드에 지정된 마감 시간까지 남은 시간을 연결/읽기/쓰기 제한 시간으로 설정하여
+ * 마감 시간이 지나면 호출이 실패하고 스레드가 바로 반환되도록 합니다.
+ * Graph SDK 재시도 미들웨어 안쪽에 등록되므로 재시도마다 남은 시간을 다시 계산하며, 남은 시간이 없으면 호출하지 않습니다.
+ * 마감 시간이 지정되지 않은 호출(요청 스레드의 일반 호출)은 그대로 진행합니다.
+ */
+public class GraphDeadlineInterceptor implements Interceptor {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return chain.proceed(chain.request());
+        }
+
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new InterruptedIOException("Graph 호출 마감 시간 초과: " + chain.request().url().encodedPath());
+        }
+        int timeout = (int) Math.min(remainingMillis, Integer.MAX_VALUE);
+        return chain
+            .withConnectTimeout(timeout, TimeUnit.MILLISECONDS)
+            .withReadTimeout(timeout, TimeUnit.MILLISECONDS)
+            .withWriteTimeout(timeout, TimeUnit.MILLISECONDS)
+            .proceed(chain.request());
+    }
+
+    /**
+     * 마감 시간을 지정하여 작업 실행 (작업 안의 Graph 호출에 적용)
+     *
+     * @param deadlineNanos System.nanoTime() 기준 마감 시각
+     */
+    static <T> Supplier<T> withDeadline(long deadlineNanos, Supplier<T> task) {
+        return () -> {
+            Long previous = DEADLINE.get();
+            DEADLINE.set(deadlineNanos);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    DEADLINE.set(previous);
+                } else {
+                    DEADLINE.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.teams.ms.util;
+
+import com.example.teams.ms.config.GraphFanOutConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 항목별 Graph 호출 병렬 실행 (요청당 동시 호출 수 / 마감 시간 제한)
+ *
+ * 직렬 N+1 호출 대신 공유 스레드 풀에서 동시에 호출하여 전체 시간을 대략 호출 한 번 수준으로 줄입니다.
+ * 요청 스레드는 세마포어로 동시 호출 수를 maxParallel 이하로 유지하며 작업을 넘기고,
+ * 마감 시간(deadlineMillis)까지 결과를 기다립니다.
+ *
+ * 실패하거나 마감 시간을 넘긴 항목은 null로 반환하고 경고 로그만 남깁니다. (부분 결과 허용)
+ * 공유 풀의 대기 큐는 크기가 정해져 있으며, 가득 차면 기다리지 않고 해당 항목부터 결과 없이 반환합니다.
+ * (다른 요청의 느린 호출 때문에 큐에서 마감 시간을 다 쓰지 않도록)
+ * 실행 중인 작업은 취소해도 중단되지 않으므로, 작업 안의 Graph HTTP 호출은 {@link GraphDeadlineInterceptor}가
+ * 마감 시간까지 남은 시간으로 제한하여 스레드를 제때 반환합니다.
+ * 요청별 Graph 호출량 집계({@link GraphRequestUsage})와 작업 이름({@link GraphOperationMetrics})은 작업 스레드로 넘어갑니다.
+ * 작업 스레드에는 요청/세션 컨텍스트가 없으므로 GraphServiceClient는 요청 스레드에서 가져와 넘겨야 합니다.
+ */
+@Component
+@Slf4j
+public class GraphFanOut implements DisposableBean {
+
+    private final GraphFanOutConfig config;
+    private final ThreadPoolExecutor executor;
+
+    public GraphFanOut(GraphFanOutConfig config) {
+        this.config = config;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            config.getThreads(), config.getThreads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "graph-fan-out-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 항목마다 call을 병렬 실행하여 같은 순서로 결과 반환
+     *
+     * @param operation 로그용 작업 이름
+     * @param items 호출할 항목
+     * @param call 항목별 Graph 호출 (작업 스레드에서 실행)
+     * @return 항목별 결과 (실패, 마감 시간 초과, 풀 포화는 null)
+     */
+    public <T, R> List<R> map(String operation, List<T> items, Function<T, R> call) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getDeadlineMillis());
+        Semaphore permits = new Semaphore(Math.max(1, config.getMaxParallel()));
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        int rejected = 0;
+
+        try {
+            for (T item : items) {
+                if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                try {
+                    futures.add(CompletableFuture.supplyAsync(GraphRequestUsage.propagate(GraphOperationMetrics.propagate(
+                        GraphDeadlineInterceptor.withDeadline(deadline, () -> {
+                            try {
+                                return call.apply(item);
+                            } finally {
+                                permits.release();
+                            }
+                        }))), executor));
+                } catch (RejectedExecutionException e) {
+                    // 공유 풀 포화: 큐에서 기다리지 않고 나머지 항목은 결과 없이 반환
+                    permits.release();
+                    rejected = items.size() - futures.size();
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        int failed = 0;
+        int timedOut = items.size() - futures.size() - rejected;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results.add(null);
+                timedOut++;
+            } catch (ExecutionException e) {
+                results.add(null);
+                failed++;
+                log.warn("{} 병렬 호출 실패: {}", operation, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                results.add(null);
+                timedOut++;
+            }
+        }
+        while (results.size() < items.size()) {
+            results.add(null);
+        }
+
+        if (timedOut > 0) {
+            log.warn("{} 병렬 호출 마감 시간({}ms) 초과: {}/{} 개 결과 없음",
+                operation, config.getDeadlineMillis(), timedOut, items.size());
+        }
+        if (rejected > 0) {
+            log.warn("{} 병렬 호출 스레드 풀 포화: {}/{} 개 결과 없음", operation, rejected, items.size());
+        }
+        if (failed > 0) {
+            log.warn("{} 병렬 호출 {}/{} 개 실패", operation, failed, items.size());
+        }
+        return results;
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.teams.ms.util;
+
+import com.example.teams.ms.exception.GraphApiException;
+import com.example.teams.shared.exception.ForbiddenException;
+import com.example.teams.shared.exception.UnauthorizedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Graph API 작업 이름 지정 및 실패 집계
+ *
+ * 지연 시간은 작업 전체(DTO 변환, 미러/DB 조회 포함)가 아니라 Graph HTTP 왕복마다
+ * {@link GraphUsageInterceptor}가 graph.request.duration 타이머로 기록하며,
+ * 이 클래스는 그 타이머의 operation 태그로 쓸 작업 이름을 현재 스레드에 지정합니다.
+ * 작업이 실패하면 graph.operation.failures 카운터에 status(HTTP 상태), error(GraphApiException 에러 코드)와 함께 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphOperationMetrics {
+
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 작업 이름을 지정하여 Graph 작업 실행
+     * 예외는 실패 카운터만 기록하고 그대로 다시 던집니다.
+     *
+     * @param operation 작업 이름 (예: getChats, createEvent)
+     * @param call Graph 호출 (GraphApiErrorHandler로 변환된 예외 포함)
+     */
+    public <T> T record(String operation, Supplier<T> call) {
+        try {
+            return withOperation(operation, call);
+        } catch (RuntimeException e) {
+            Counter.builder("graph.operation.failures")
+                .description("Microsoft Graph API 작업 실패 수")
+                .tag("operation", operation)
+                .tag("status", status(e))
+                .tag("error", errorCode(e))
+                .register(meterRegistry)
+                .increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 스레드의 작업 이름 (지정되지 않았으면 none)
+     */
+    static String currentOperation() {
+        String operation = CURRENT_OPERATION.get();
+        return operation != null ? operation : NONE;
+    }
+
+    /**
+     * 현재 스레드의 작업 이름을 다른 스레드에서 실행할 작업에 넘김 (지정되지 않았으면 작업 그대로 반환)
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        String operation = CURRENT_OPERATION.get();
+        if (operation == null) {
+            return task;
+        }
+        return () -> withOperation(operation, task);
+    }
+
+    private static <T> T withOperation(String operation, Supplier<T> task) {
+        String previous = CURRENT_OPERATION.get();
+        CURRENT_OPERATION.set(operation);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT_OPERATION.set(previous);
+            } else {
+                CURRENT_OPERATION.remove();
+            }
+        }
+    }
+
+    /**
+     * GraphApiErrorHandler가 변환한 예외에서 HTTP 상태 확인
+     */
+    private static String status(RuntimeException e) {
+        if (e instanceof GraphApiException graphApiException) {
+            return String.valueOf(graphApiException.getStatusCode());
+        }
+        if (e instanceof UnauthorizedException) {
+            return "401";
+        }
+        if (e instanceof ForbiddenException) {
+            return "403";
+        }
+        return "unknown";
+    }
+
+    private static String errorCode(RuntimeException e) {
+        if (e instanceof GraphApiException graphApiException && graphApiException.getErrorCode() != null) {
+            return graphApiException.getErrorCode();
+        }
+        return e instanceof GraphApiException ? NONE : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.teams.ms.util;
+
+import com.example.teams.ms.exception.GraphApiException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 인바운드 요청 하나의 Graph 호출량 (호출 횟수, 수신 바이트, 대기 시간)
+ *
+ * GraphRequestUsageFilter가 요청 스레드에 등록하고, Graph HTTP 클라이언트 인터셉터
+ * ({@link GraphUsageInterceptor})가 호출마다 누적합니다. Graph SDK 호출은 호출한 스레드에서
+ * 동기로 실행되므로 스레드 로컬로 찾습니다. 요청 밖(스케줄러 등)의 호출은 집계하지 않습니다.
+ *
+ * 요청 처리 중 다른 스레드에서 Graph를 호출하는 경우({@link GraphFanOut})는 {@link #propagate}로
+ * 같은 집계를 넘기며, 여러 스레드가 동시에 누적할 수 있습니다. (병렬 호출의 대기 시간은 합산됨)
+ */
+public final class GraphRequestUsage {
+
+    public static final String BUDGET_EXCEEDED = "GraphCallBudgetExceeded";
+
+    private static final ThreadLocal<GraphRequestUsage> CURRENT = new ThreadLocal<>();
+
+    private final int maxCalls;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    private GraphRequestUsage(int maxCalls) {
+        this.maxCalls = maxCalls;
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     *
+     * @param maxCalls 최대 호출 횟수 (0이면 제한 없음)
+     */
+    public static GraphRequestUsage begin(int maxCalls) {
+        GraphRequestUsage usage = new GraphRequestUsage(maxCalls);
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 집계 (요청 밖이면 null)
+     */
+    public static GraphRequestUsage current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 집계를 다른 스레드에서 실행할 작업에 넘김 (요청 밖이면 작업 그대로 반환)
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        GraphRequestUsage usage = current();
+        if (usage == null) {
+            return task;
+        }
+        return () -> {
+            GraphRequestUsage previous = CURRENT.get();
+            CURRENT.set(usage);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Graph 호출 직전 호출 횟수 증가
+     *
+     * @throws GraphApiException 최대 호출 횟수를 넘는 경우
+     */
+    void beforeCall(String path) {
+        int previous = calls.getAndUpdate(count -> maxCalls > 0 && count >= maxCalls ? count : count + 1);
+        if (maxCalls > 0 && previous >= maxCalls) {
+            throw new GraphApiException(
+                "요청당 Graph 호출 한도(" + maxCalls + "회) 초과: " + path,
+                500,
+                BUDGET_EXCEEDED
+            );
+        }
+    }
+
+    void addWaitNanos(long nanos) {
+        waitNanos.add(nanos);
+    }
+
+    void addBytes(long received) {
+        bytes.add(received);
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public double getWaitMillis() {
+        return waitNanos.sum() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.teams.ms.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph HTTP 호출량 집계 및 지연 시간 측정 인터셉터
+ *
+ * Graph SDK 기본 미들웨어(재시도 등) 안쪽에 등록되어 재시도를 포함한 실제 왕복마다
+ * - {@link GraphRequestUsage}에 호출 횟수, 대기 시간(응답 헤더 수신 + 본문 읽기), 수신 바이트를 누적하고 (요청 안에서만)
+ * - graph.request.duration 타이머(백분위 히스토그램)에 응답 헤더 수신까지의 시간을 기록합니다.
+ *   태그: operation({@link GraphOperationMetrics#record}로 지정한 작업 이름, 없으면 none), method,
+ *   status(실제 HTTP 상태, 연결 실패는 IO_ERROR)
+ * Prometheus(/actuator/prometheus)에서 histogram_quantile로 작업별 p95/p99를 계산할 수 있습니다.
+ */
+public class GraphUsageInterceptor implements Interceptor {
+
+    private static final String TIMER_NAME = "graph.request.duration";
+
+    private final MeterRegistry meterRegistry;
+
+    public GraphUsageInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        GraphRequestUsage usage = GraphRequestUsage.current();
+        if (usage != null) {
+            usage.beforeCall(chain.request().url().encodedPath());
+        }
+
+        String status = "IO_ERROR";
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+            status = String.valueOf(response.code());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timer(chain.request().method(), status).record(elapsed, TimeUnit.NANOSECONDS);
+            if (usage != null) {
+                usage.addWaitNanos(elapsed);
+            }
+        }
+
+        ResponseBody body = response.body();
+        if (usage == null || body == null) {
+            return response;
+        }
+        return response.newBuilder()
+            .body(new CountingResponseBody(body, usage))
+            .build();
+    }
+
+    private Timer timer(String method, String status) {
+        return Timer.builder(TIMER_NAME)
+            .description("Microsoft Graph API HTTP 왕복 시간 (응답 헤더 수신까지)")
+            .tag("operation", GraphOperationMetrics.currentOperation())
+            .tag("method", method)
+            .tag("status", status)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(5))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 읽은 만큼 수신 바이트와 읽기 시간을 누적하는 응답 본문
+     */
+    private static final class CountingResponseBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        private CountingResponseBody(ResponseBody delegate, GraphRequestUsage usage) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long start = System.nanoTime();
+                    long read = super.read(sink, byteCount);
+                    usage.addWaitNanos(System.nanoTime() - start);
+                    if (read > 0) {
+                        usage.addBytes(read);
+                    }
+                    return read;
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.teams.ms.web;
+
+import com.example.teams.ms.config.GraphBudgetConfig;
+import com.example.teams.ms.util.GraphRequestUsage;
+import com.example.teams.shared.web.CommitAwareResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * /api/** 요청별 Graph 호출량 집계 필터
+ *
+ * 요청 처리 동안 발생한 Graph 호출 횟수, 수신 바이트, 대기 시간을 집계하여 Server-Timing 헤더로 반환합니다.
+ * (브라우저 개발자 도구의 Timing 탭에서 확인 가능)
+ *   Server-Timing: graph;desc="Graph API";dur=123.4, graph-calls;desc="3", graph-bytes;desc="20480"
+ *
+ * app.graph.budget.warn-calls / warn-wait-millis를 넘는 요청은 경고 로그를 남기고,
+ * app.graph.budget.max-calls가 설정되면 한도를 넘는 Graph 호출을 실패시킵니다. (N+1 호출 조기 발견)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 60)
+@RequiredArgsConstructor
+@Slf4j
+public class GraphRequestUsageFilter extends OncePerRequestFilter {
+
+    private final GraphBudgetConfig config;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        GraphRequestUsage usage = GraphRequestUsage.begin(config.getMaxCalls());
+        CommitAwareResponseWrapper wrappedResponse = new CommitAwareResponseWrapper(
+            response, () -> response.addHeader("Server-Timing", serverTiming(usage)));
+
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+        } finally {
+            wrappedResponse.commit();
+            GraphRequestUsage.end();
+            logIfExceeded(request, usage);
+        }
+    }
+
+    private static String serverTiming(GraphRequestUsage usage) {
+        return String.format(Locale.ROOT, "graph;desc=\"Graph API\";dur=%.1f, graph-calls;desc=\"%d\", graph-bytes;desc=\"%d\"",
+            usage.getWaitMillis(), usage.getCalls(), usage.getBytes());
+    }
+
+    private void logIfExceeded(HttpServletRequest request, GraphRequestUsage usage) {
+        if (usage.getCalls() >= config.getWarnCalls() || usage.getWaitMillis() >= config.getWarnWaitMillis()) {
+            log.warn("Graph 호출 과다 요청: {} {} - 호출 {}회, 수신 {} bytes, 대기 {} ms",
+                request.getMethod(), request.getRequestURI(),
+                usage.getCalls(), usage.getBytes(), Math.round(usage.getWaitMillis()));
+        }
+    }
+}
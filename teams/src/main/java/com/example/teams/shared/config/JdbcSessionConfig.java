@@ -0,0 +1,90 @@
+package com.example.teams.shared.config;
+
+import com.example.teams.shared.session.CompactSessionState;
+import com.example.teams.shared.session.DirtyTrackingSessionRepository;
+import com.example.teams.shared.session.SessionAttributeCodec;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC 세션 모드 설정 (app.session.mode=jdbc)
+ *
+ * Spring Session JDBC로 세션을 DB에 저장하여 노드 재시작/교체 후에도 로그인이 유지됩니다.
+ * - 속성은 {@link SessionAttributeCodec}으로 작게 인코딩 (GraphClientService는 토큰만 저장)
+ * - 변경된 속성만 기록 (Spring Session 델타 저장 + {@link DirtyTrackingSessionRepository})
+ *
+ * 다른 저장소(Redis 등)를 사용하려면 이 설정 대신 해당 Spring Session 모듈을 같은 방식으로 구성합니다.
+ * Spring Boot의 SessionAutoConfiguration은 모드와 관계없이 세션을 교체하므로 application.properties에서 제외합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.session", name = "mode", havingValue = "jdbc")
+@EnableJdbcHttpSession
+public class JdbcSessionConfig {
+
+    /**
+     * 세션 속성 직렬화 (Spring Session이 이름으로 찾는 빈)
+     */
+    @Bean
+    public ConversionService springSessionConversionService(List<CompactSessionState.Reader<?>> stateReaders) {
+        SessionAttributeCodec codec = new SessionAttributeCodec(stateReaders, ClassUtils.getDefaultClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, codec::encode);
+        conversionService.addConverter(byte[].class, Object.class, codec::decode);
+        return conversionService;
+    }
+
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+            SessionConfig sessionConfig) {
+        return repository -> repository.setDefaultMaxInactiveInterval(
+            Duration.ofSeconds(sessionConfig.getJdbc().getTimeoutSeconds()));
+    }
+
+    /**
+     * SessionRepositoryFilter가 사용할 저장소 (JDBC 저장소를 감싸 불필요한 재저장 생략)
+     */
+    @Bean
+    @Primary
+    public DirtyTrackingSessionRepository<Session> dirtyTrackingSessionRepository(
+            @Qualifier("sessionRepository") JdbcIndexedSessionRepository sessionRepository) {
+        return new DirtyTrackingSessionRepository<>(asSessionRepository(sessionRepository));
+    }
+
+    /**
+     * 세션 테이블 생성 (이미 있으면 오류 무시)
+     */
+    @Bean
+    public DataSourceScriptDatabaseInitializer jdbcSessionSchemaInitializer(DataSource dataSource,
+                                                                           SessionConfig sessionConfig) {
+        SessionConfig.JdbcConfig jdbc = sessionConfig.getJdbc();
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of(jdbc.getSchema()));
+        settings.setMode(jdbc.isInitializeSchema() ? DatabaseInitializationMode.ALWAYS : DatabaseInitializationMode.NEVER);
+        settings.setContinueOnError(true);
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionRepository<Session> asSessionRepository(SessionRepository<? extends Session> repository) {
+        return (SessionRepository<Session>) repository;
+    }
+}
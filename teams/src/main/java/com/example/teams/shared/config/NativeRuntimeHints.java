@@ -0,0 +1,40 @@
+package com.example.teams.shared.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * 네이티브 이미지 힌트 (mvn -Pnative native:compile)
+ *
+ * 설정 문자열로만 참조되어 AOT 분석으로 찾을 수 없는 클래스와 리소스를 등록합니다.
+ * 라이브러리 자체 메타데이터(Caffeine, H2, OkHttp, MSAL 등)는 GraalVM reachability metadata 저장소에서 받고,
+ * Graph SDK(Kiota)는 파싱 팩토리를 메서드 참조로 생성하므로 별도 리플렉션 힌트가 필요 없습니다.
+ * OpenSAML 힌트는 SamlRuntimeHints 참고
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Caffeine JCache 설정 (Typesafe Config가 클래스패스에서 읽음)
+        hints.resources().registerPattern("application.conf");
+        hints.resources().registerPattern("reference.conf");
+        // Thymeleaf 템플릿
+        hints.resources().registerPattern("templates/**");
+        // SAML 서명 인증서/개인 키 (saml.idp.certificate-path, saml.idp.private-key-path)
+        hints.resources().registerPattern("saml/*.pem");
+        // JDBC 세션 스키마 (app.session.jdbc.schema)
+        hints.resources().registerPattern("org/springframework/session/jdbc/schema-*.sql");
+        // 메시지 검색 한국어 형태소 사전 (Lucene nori)
+        hints.resources().registerPattern("org/apache/lucene/analysis/ko/dict/*");
+
+        // Hibernate 2차 캐시 (hibernate.cache.region.factory_class=jcache, hibernate.javax.cache.provider)
+        hints.reflection().registerType(
+            TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(
+            TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.teams.shared.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 사용 여부 설정
+ *
+ * 2차 캐시(Caffeine JCache)는 노드별 메모리이며 다른 노드의 변경을 알 수 없습니다.
+ * (다른 노드에서 변경/UserActivityWriter가 제거한 User가 이 노드에서는 만료 전까지 그대로 보임)
+ * 따라서 단일 노드(sticky session) 전제인 MEMORY 모드에서만 사용하고,
+ * 여러 노드로 운영하는 STATELESS/JDBC 모드에서는 설정값과 관계없이 2차 캐시와 쿼리 캐시를 끕니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    private final SessionConfig sessionConfig;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            if (sessionConfig.getMode() == SessionConfig.Mode.MEMORY) {
+                return;
+            }
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            log.info("{} 세션 모드: 노드별 Hibernate 2차 캐시를 사용하지 않습니다.", sessionConfig.getMode());
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.teams.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 세션 저장 방식 설정
+ *
+ * - MEMORY: 기본 서블릿 HttpSession (노드별 메모리, sticky session 필요)
+ * - STATELESS: 인증 정보는 서명/암호화된 쿠키, Graph 토큰은 공유 DB 토큰 저장소
+ *   (sticky session 없이 여러 노드를 라운드로빈으로 운영 가능)
+ * - JDBC: Spring Session JDBC로 전체 세션을 DB에 저장 (노드 재시작 후에도 로그인 유지)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.session")
+@Getter
+@Setter
+public class SessionConfig {
+
+    public enum Mode {
+        MEMORY,
+        STATELESS,
+        JDBC
+    }
+
+    private Mode mode = Mode.MEMORY;
+
+    /**
+     * 쿠키 암호화 키 (STATELESS 모드 필수, 모든 노드가 같은 값을 사용해야 함)
+     */
+    private String secret;
+
+    /**
+     * 흐름 상태(플래시 메시지, SAML IdP 요청/응답) 유효 시간 (초, STATELESS 모드)
+     */
+    private int flowTtlSeconds = 10 * 60;
+
+    // 인증 쿠키 설정
+    private CookieConfig cookie = new CookieConfig();
+
+    // JDBC 세션 저장소 설정
+    private JdbcConfig jdbc = new JdbcConfig();
+
+    @Getter
+    @Setter
+    public static class CookieConfig {
+        private String name = "TEAMS_AUTH";
+
+        /**
+         * 쿠키(및 서버 토큰) 유효 시간 (초)
+         */
+        private int maxAgeSeconds = 8 * 60 * 60;
+
+        private boolean secure = false;
+
+        /**
+         * SameSite 속성 (Teams iframe 안에서 사용할 경우 None + secure=true 필요)
+         */
+        private String sameSite = "Lax";
+    }
+
+    @Getter
+    @Setter
+    public static class JdbcConfig {
+        /**
+         * 세션 유효 시간 (초, 마지막 접근 기준)
+         */
+        private int timeoutSeconds = 30 * 60;
+
+        /**
+         * 세션 테이블 생성 스크립트 (DB 종류에 맞게 변경)
+         */
+        private String schema = "classpath:org/springframework/session/jdbc/schema-h2.sql";
+
+        /**
+         * 시작 시 세션 테이블 생성 여부 (이미 있으면 무시)
+         */
+        private boolean initializeSchema = true;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.teams.shared.config;
+
+import com.example.teams.shared.web.AuthInterceptor;
+import com.example.teams.shared.web.AuthPrincipalArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정
+ *
+ * - /api/** 인증 확인 (AuthInterceptor)
+ *   /api/app/**는 앱 로그인 여부를 직접 확인하여 404로 응답하므로 제외
+ * - 컨트롤러 AuthPrincipal 파라미터 주입
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AuthInterceptor authInterceptor;
+    private final AuthPrincipalArgumentResolver authPrincipalArgumentResolver;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authInterceptor)
+            .addPathPatterns("/api/**")
+            .excludePathPatterns("/api/app/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authPrincipalArgumentResolver);
+    }
+}
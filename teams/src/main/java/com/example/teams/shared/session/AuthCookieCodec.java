@@ -0,0 +1,169 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 쿠키 인코더/디코더 (STATELESS 세션 모드)
+ *
+ * 세션의 신원 속성을 작은 바이너리로 직렬화한 뒤 AES-256-GCM으로 암호화합니다.
+ * GCM 인증 태그가 서명 역할을 하며, JCE의 태그 비교는 상수 시간으로 수행됩니다.
+ *
+ * 형식: version(1) | iv(12) | AES-GCM(expiresAt(8) | count(1) | [index(1) | value]...) | tag(16)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.session", name = "mode", havingValue = "stateless")
+@Slf4j
+public class AuthCookieCodec {
+
+    private static final byte VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_STRING = 'S';
+
+    /**
+     * 쿠키에 담을 수 있는 속성 (인덱스 = 목록 내 위치, 순서 변경 금지)
+     */
+    static final List<String> ATTRIBUTES = List.of(
+        "userId",
+        "userEmail",
+        "userName",
+        "loginType",
+        "userPrincipalName",
+        "microsoftUserId",
+        "tenantId",
+        StatelessHttpSession.TOKEN_KEY_ATTRIBUTE,
+        StatelessHttpSession.FLOW_KEY_ATTRIBUTE
+    );
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    public AuthCookieCodec(SessionConfig sessionConfig) {
+        String secret = sessionConfig.getSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("app.session.secret 설정이 필요합니다 (STATELESS 세션 모드).");
+        }
+        try {
+            byte[] keyBytes = MessageDigest.getInstance("SHA-256")
+                .digest(secret.getBytes(StandardCharsets.UTF_8));
+            this.key = new SecretKeySpec(keyBytes, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("쿠키 암호화 키 생성 실패", e);
+        }
+    }
+
+    /**
+     * 속성을 암호화된 쿠키 값으로 변환
+     */
+    public String encode(Map<String, Object> attributes, long expiresAtEpochSeconds) {
+        try {
+            ByteArrayOutputStream plain = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(plain);
+            out.writeLong(expiresAtEpochSeconds);
+
+            int count = 0;
+            for (String name : ATTRIBUTES) {
+                if (attributes.get(name) != null) {
+                    count++;
+                }
+            }
+            out.writeByte(count);
+
+            for (int i = 0; i < ATTRIBUTES.size(); i++) {
+                Object value = attributes.get(ATTRIBUTES.get(i));
+                if (value == null) {
+                    continue;
+                }
+                out.writeByte(i);
+                if (value instanceof Long longValue) {
+                    out.writeByte(TYPE_LONG);
+                    out.writeLong(longValue);
+                } else {
+                    out.writeByte(TYPE_STRING);
+                    out.writeUTF(value.toString());
+                }
+            }
+            out.flush();
+
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(new byte[]{VERSION});
+            byte[] encrypted = cipher.doFinal(plain.toByteArray());
+
+            byte[] token = new byte[1 + IV_LENGTH + encrypted.length];
+            token[0] = VERSION;
+            System.arraycopy(iv, 0, token, 1, IV_LENGTH);
+            System.arraycopy(encrypted, 0, token, 1 + IV_LENGTH, encrypted.length);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("인증 쿠키 생성 실패", e);
+        }
+    }
+
+    /**
+     * 쿠키 값을 복호화/검증하여 속성 반환
+     *
+     * @return 속성 맵, 위조/손상/만료된 경우 null
+     */
+    public Map<String, Object> decode(String cookieValue, long nowEpochSeconds) {
+        try {
+            byte[] token = Base64.getUrlDecoder().decode(cookieValue);
+            if (token.length <= 1 + IV_LENGTH || token[0] != VERSION) {
+                return null;
+            }
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, token, 1, IV_LENGTH));
+            cipher.updateAAD(new byte[]{VERSION});
+            byte[] plain = cipher.doFinal(token, 1 + IV_LENGTH, token.length - 1 - IV_LENGTH);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(plain));
+            long expiresAt = in.readLong();
+            if (expiresAt < nowEpochSeconds) {
+                return null;
+            }
+
+            int count = in.readUnsignedByte();
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                int index = in.readUnsignedByte();
+                byte type = in.readByte();
+                Object value = type == TYPE_LONG ? (Object) in.readLong() : in.readUTF();
+                if (index < ATTRIBUTES.size()) {
+                    attributes.put(ATTRIBUTES.get(index), value);
+                }
+            }
+            return attributes;
+        } catch (IllegalArgumentException | IOException | GeneralSecurityException e) {
+            // 위조되었거나 키가 바뀐 쿠키는 로그인되지 않은 것으로 처리
+            log.debug("인증 쿠키 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
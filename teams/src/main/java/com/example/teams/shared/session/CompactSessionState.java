@@ -0,0 +1,35 @@
+package com.example.teams.shared.session;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 외부 세션 저장소(JDBC 세션 모드)에 최소 상태만 저장하는 세션 속성
+ *
+ * 직렬화할 수 없는 객체(GraphServiceClient 등)를 가진 세션 빈은 복원에 필요한 값(토큰 등)만 기록하고,
+ * 다른 노드에서 읽을 때 {@link Reader}가 새 인스턴스를 만든 뒤 필요 시점에 내부 객체를 다시 생성합니다.
+ */
+public interface CompactSessionState {
+
+    /**
+     * 세션에서 읽어온 뒤 상태가 바뀌었는지 여부
+     * false이면 같은 인스턴스를 다시 저장하는 쓰기를 생략합니다.
+     */
+    boolean isSessionStateChanged();
+
+    /**
+     * 복원에 필요한 최소 상태 기록
+     */
+    void writeSessionState(DataOutput out) throws IOException;
+
+    /**
+     * 기록된 상태로부터 세션 속성 복원
+     */
+    interface Reader<T extends CompactSessionState> {
+
+        Class<T> stateType();
+
+        T readSessionState(DataInput in) throws IOException;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.teams.shared.session;
+
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 변경되지 않은 세션 빈의 재저장을 생략하는 SessionRepository 래퍼 (JDBC 세션 모드)
+ *
+ * Spring은 요청이 끝날 때 접근한 세션 스코프 빈을 setAttribute로 다시 저장하므로,
+ * 그대로 두면 매 요청마다 세션 속성 UPDATE가 발생합니다.
+ * 같은 인스턴스이고 {@link CompactSessionState#isSessionStateChanged()}가 false이면 쓰기를 생략합니다.
+ */
+public class DirtyTrackingSessionRepository<S extends Session>
+        implements SessionRepository<DirtyTrackingSessionRepository.TrackedSession<S>> {
+
+    private final SessionRepository<S> delegate;
+
+    public DirtyTrackingSessionRepository(SessionRepository<S> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public TrackedSession<S> createSession() {
+        return new TrackedSession<>(delegate.createSession());
+    }
+
+    @Override
+    public void save(TrackedSession<S> session) {
+        delegate.save(session.delegate);
+    }
+
+    @Override
+    public TrackedSession<S> findById(String id) {
+        S session = delegate.findById(id);
+        return session != null ? new TrackedSession<>(session) : null;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+    }
+
+    public static final class TrackedSession<S extends Session> implements Session {
+
+        private final S delegate;
+
+        private TrackedSession(S delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            if (attributeValue instanceof CompactSessionState state
+                    && !state.isSessionStateChanged()
+                    && delegate.getAttribute(attributeName) == attributeValue) {
+                return;
+            }
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
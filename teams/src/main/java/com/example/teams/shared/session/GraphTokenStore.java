@@ -0,0 +1,119 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+import com.example.teams.shared.session.entity.GraphToken;
+import com.example.teams.shared.session.repository.GraphTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공유 Graph 토큰 저장소 (STATELESS 세션 모드)
+ *
+ * 토큰은 모든 노드가 공유하는 DB에 저장하고, 노드별로 짧게 로컬 캐시합니다.
+ * 저장된 항목은 변경되지 않으므로(토큰 변경 시 새 키 발급) 로컬 캐시가 오래된 값을 돌려주지 않습니다.
+ * 토큰 변경 시 이전 키는 만료 시각까지 남겨 두며, 만료된 항목은 주기적으로 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.session", name = "mode", havingValue = "stateless")
+@Slf4j
+public class GraphTokenStore {
+
+    // 로컬 캐시 유지 시간 및 최대 크기
+    private static final long LOCAL_CACHE_MILLIS = 60_000;
+    private static final int LOCAL_CACHE_MAX_SIZE = 10_000;
+
+    private final GraphTokenRepository graphTokenRepository;
+    private final SessionConfig sessionConfig;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, CachedTokens> localCache = new ConcurrentHashMap<>();
+
+    public GraphTokenStore(GraphTokenRepository graphTokenRepository, SessionConfig sessionConfig) {
+        this.graphTokenRepository = graphTokenRepository;
+        this.sessionConfig = sessionConfig;
+    }
+
+    /**
+     * 토큰 저장 후 새 토큰 키 반환
+     */
+    public String save(String accessToken, String ssoToken) {
+        String tokenKey = newTokenKey();
+        graphTokenRepository.save(GraphToken.builder()
+            .tokenKey(tokenKey)
+            .accessToken(accessToken)
+            .ssoToken(ssoToken)
+            .expiresAt(LocalDateTime.now().plusSeconds(sessionConfig.getCookie().getMaxAgeSeconds()))
+            .build());
+        cache(tokenKey, new Tokens(accessToken, ssoToken));
+        return tokenKey;
+    }
+
+    /**
+     * 토큰 조회 (없거나 만료되었으면 null)
+     */
+    public Tokens find(String tokenKey) {
+        CachedTokens cached = localCache.get(tokenKey);
+        if (cached != null && cached.cachedUntil() > System.currentTimeMillis()) {
+            return cached.tokens();
+        }
+
+        Tokens tokens = graphTokenRepository.findById(tokenKey)
+            .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
+            .map(token -> new Tokens(token.getAccessToken(), token.getSsoToken()))
+            .orElse(null);
+        if (tokens != null) {
+            cache(tokenKey, tokens);
+        } else {
+            localCache.remove(tokenKey);
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰 삭제 (로그아웃 시)
+     */
+    public void remove(String tokenKey) {
+        localCache.remove(tokenKey);
+        graphTokenRepository.deleteById(tokenKey);
+    }
+
+    /**
+     * 만료된 토큰 정리
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void deleteExpired() {
+        int deleted = graphTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Graph 토큰 정리: {} 개", deleted);
+        }
+    }
+
+    private void cache(String tokenKey, Tokens tokens) {
+        if (localCache.size() >= LOCAL_CACHE_MAX_SIZE) {
+            localCache.clear();
+        }
+        localCache.put(tokenKey, new CachedTokens(tokens, System.currentTimeMillis() + LOCAL_CACHE_MILLIS));
+    }
+
+    private String newTokenKey() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Graph 토큰 쌍 (accessToken, ssoToken)
+     */
+    public record Tokens(String accessToken, String ssoToken) {
+    }
+
+    private record CachedTokens(Tokens tokens, long cachedUntil) {
+    }
+}
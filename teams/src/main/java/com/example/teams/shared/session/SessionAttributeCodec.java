@@ -0,0 +1,132 @@
+package com.example.teams.shared.session;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 세션 속성 바이너리 인코더/디코더 (JDBC 세션 모드)
+ *
+ * 세션 속성 대부분은 String/Long이므로 Java 직렬화(클래스 디스크립터 포함 수십~수백 바이트) 대신
+ * 1바이트 타입 태그 + 값으로 기록합니다.
+ * - S: String (UTF-8), L: Long, I: Integer, B: Boolean
+ * - C: {@link CompactSessionState} (클래스명 + 최소 상태)
+ * - J: 그 외 Serializable 객체 (Java 직렬화)
+ */
+public class SessionAttributeCodec {
+
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_INTEGER = 'I';
+    private static final byte TYPE_BOOLEAN = 'B';
+    private static final byte TYPE_COMPACT = 'C';
+    private static final byte TYPE_JAVA = 'J';
+
+    // Java 직렬화 스트림 시작 바이트 (태그 없이 저장된 기존 데이터 호환)
+    private static final byte JAVA_STREAM_MAGIC = (byte) 0xAC;
+
+    private final Map<String, CompactSessionState.Reader<?>> readers;
+    private final ClassLoader classLoader;
+
+    public SessionAttributeCodec(List<CompactSessionState.Reader<?>> readers, ClassLoader classLoader) {
+        this.readers = readers.stream()
+            .collect(Collectors.toUnmodifiableMap(reader -> reader.stateType().getName(), Function.identity()));
+        this.classLoader = classLoader;
+    }
+
+    public byte[] encode(Object value) {
+        try {
+            if (value instanceof String stringValue) {
+                byte[] bytes = stringValue.getBytes(StandardCharsets.UTF_8);
+                byte[] encoded = new byte[bytes.length + 1];
+                encoded[0] = TYPE_STRING;
+                System.arraycopy(bytes, 0, encoded, 1, bytes.length);
+                return encoded;
+            }
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(buffer);
+            if (value instanceof Long longValue) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Integer intValue) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(intValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else if (value instanceof CompactSessionState state && readers.containsKey(state.getClass().getName())) {
+                out.writeByte(TYPE_COMPACT);
+                out.writeUTF(state.getClass().getName());
+                state.writeSessionState(out);
+            } else if (value instanceof Serializable) {
+                out.writeByte(TYPE_JAVA);
+                out.flush();
+                try (ObjectOutputStream objectOut = new ObjectOutputStream(buffer)) {
+                    objectOut.writeObject(value);
+                }
+            } else {
+                throw new IllegalArgumentException("세션에 저장할 수 없는 속성 타입: " + value.getClass().getName());
+            }
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("세션 속성 인코딩 실패", e);
+        }
+    }
+
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            byte type = bytes[0];
+            if (type == TYPE_STRING) {
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            }
+            if (type == JAVA_STREAM_MAGIC) {
+                return readJava(new ByteArrayInputStream(bytes));
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            return switch (type) {
+                case TYPE_LONG -> in.readLong();
+                case TYPE_INTEGER -> in.readInt();
+                case TYPE_BOOLEAN -> in.readBoolean();
+                case TYPE_COMPACT -> readCompact(in);
+                case TYPE_JAVA -> readJava(in);
+                default -> throw new IllegalStateException("알 수 없는 세션 속성 타입: " + type);
+            };
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("세션 속성 디코딩 실패", e);
+        }
+    }
+
+    private Object readCompact(DataInputStream in) throws IOException {
+        String typeName = in.readUTF();
+        CompactSessionState.Reader<?> reader = readers.get(typeName);
+        if (reader == null) {
+            throw new IllegalStateException("세션 상태 복원기가 없습니다: " + typeName);
+        }
+        return reader.readSessionState(in);
+    }
+
+    private Object readJava(InputStream in) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectIn = new ConfigurableObjectInputStream(in, classLoader)) {
+            return objectIn.readObject();
+        }
+    }
+}
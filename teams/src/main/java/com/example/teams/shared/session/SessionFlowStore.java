@@ -0,0 +1,136 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+import com.example.teams.shared.session.entity.SessionFlowState;
+import com.example.teams.shared.session.repository.SessionFlowStateRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공유 흐름 상태 저장소 (STATELESS 세션 모드)
+ *
+ * 플래시 메시지, SAML IdP 요청/응답처럼 리다이렉트 사이에만 필요한 세션 속성을
+ * 모든 노드가 공유하는 DB에 짧은 유효 시간(flow-ttl-seconds)으로 저장합니다.
+ * 인증 쿠키(4KB 제한)에 담기에는 SAML Response가 너무 크므로 쿠키에는 키만 저장합니다.
+ * 속성이 바뀌면 새 키로 저장하고 이전 항목은 바로 삭제하며, 만료된 항목은 주기적으로 정리합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.session", name = "mode", havingValue = "stateless")
+@Slf4j
+public class SessionFlowStore {
+
+    private final SessionFlowStateRepository sessionFlowStateRepository;
+    private final SessionConfig sessionConfig;
+    private final SessionAttributeCodec codec = new SessionAttributeCodec(List.of(), ClassUtils.getDefaultClassLoader());
+    private final SecureRandom random = new SecureRandom();
+
+    public SessionFlowStore(SessionFlowStateRepository sessionFlowStateRepository, SessionConfig sessionConfig) {
+        this.sessionFlowStateRepository = sessionFlowStateRepository;
+        this.sessionConfig = sessionConfig;
+    }
+
+    /**
+     * 속성 저장 후 새 흐름 키 반환
+     */
+    public String save(Map<String, Object> attributes) {
+        String flowKey = newFlowKey();
+        sessionFlowStateRepository.save(SessionFlowState.builder()
+            .flowKey(flowKey)
+            .payload(Base64.getEncoder().encodeToString(encode(attributes)))
+            .expiresAt(LocalDateTime.now().plusSeconds(sessionConfig.getFlowTtlSeconds()))
+            .build());
+        return flowKey;
+    }
+
+    /**
+     * 속성 조회 (없거나 만료되었거나 읽을 수 없으면 null)
+     */
+    public Map<String, Object> find(String flowKey) {
+        return sessionFlowStateRepository.findById(flowKey)
+            .filter(state -> state.getExpiresAt().isAfter(LocalDateTime.now()))
+            .map(state -> {
+                try {
+                    return decode(Base64.getDecoder().decode(state.getPayload()));
+                } catch (IOException | RuntimeException e) {
+                    // 배포 중 클래스가 바뀐 경우 등: 흐름 상태 없이 진행
+                    log.warn("흐름 상태 복원 실패: {}", e.getMessage());
+                    return null;
+                }
+            })
+            .orElse(null);
+    }
+
+    /**
+     * 흐름 상태 삭제 (속성 변경 또는 로그아웃 시)
+     */
+    public void remove(String flowKey) {
+        sessionFlowStateRepository.deleteById(flowKey);
+    }
+
+    /**
+     * 만료된 흐름 상태 정리
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void deleteExpired() {
+        int deleted = sessionFlowStateRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 흐름 상태 정리: {} 개", deleted);
+        }
+    }
+
+    /**
+     * 형식: count(4) | [name(UTF) | length(4) | value(SessionAttributeCodec)]...
+     */
+    private byte[] encode(Map<String, Object> attributes) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeInt(attributes.size());
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                byte[] value = codec.encode(entry.getValue());
+                out.writeUTF(entry.getKey());
+                out.writeInt(value.length);
+                out.write(value);
+            }
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("흐름 상태 인코딩 실패", e);
+        }
+    }
+
+    private Map<String, Object> decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        int count = in.readInt();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            byte[] value = new byte[in.readInt()];
+            in.readFully(value);
+            attributes.put(name, codec.decode(value));
+        }
+        return attributes;
+    }
+
+    private String newFlowKey() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
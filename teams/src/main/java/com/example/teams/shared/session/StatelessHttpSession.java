@@ -0,0 +1,210 @@
+package com.example.teams.shared.session;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 단위 HttpSession 구현 (STATELESS 세션 모드)
+ *
+ * 요청 시작 시 인증 쿠키, 토큰 저장소, 흐름 상태 저장소에서 속성을 복원하고,
+ * 응답 시 신원/토큰/흐름 속성이 바뀐 경우에만 쿠키를 다시 발급합니다.
+ * - 흐름 속성(플래시 메시지, SAML IdP 요청/응답): 공유 흐름 상태 저장소 (짧은 유효 시간)
+ * - 그 외 속성은 해당 요청 안에서만 유지됩니다.
+ */
+public class StatelessHttpSession implements HttpSession {
+
+    /**
+     * 토큰 저장소 키를 담는 내부 속성
+     */
+    static final String TOKEN_KEY_ATTRIBUTE = "graphTokenKey";
+
+    /**
+     * 토큰 저장소에 보관하는 속성
+     */
+    static final Set<String> TOKEN_ATTRIBUTES = Set.of("accessToken", "ssoToken");
+
+    /**
+     * 흐름 상태 저장소 키를 담는 내부 속성
+     */
+    static final String FLOW_KEY_ATTRIBUTE = "flowStateKey";
+
+    /**
+     * 흐름 상태 저장소에 보관하는 속성 (리다이렉트 사이에 필요한 속성)
+     * 플래시 맵 속성 이름은 SessionFlashMapManager의 FLASH_MAPS_SESSION_ATTRIBUTE와 같아야 합니다.
+     */
+    static final Set<String> FLOW_ATTRIBUTES = Set.of(
+        "samlAuthnRequest",
+        "relayState",
+        "samlResponse",
+        SessionFlashMapManager.class.getName() + ".FLASH_MAPS"
+    );
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ServletContext servletContext;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final long creationTime = System.currentTimeMillis();
+    private final String id;
+    private final boolean isNew;
+    private int maxInactiveInterval;
+    private boolean identityDirty;
+    private boolean tokensDirty;
+    private boolean flowDirty;
+    private boolean invalidated;
+
+    StatelessHttpSession(ServletContext servletContext, int maxInactiveInterval, String id, boolean isNew) {
+        this.servletContext = servletContext;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.id = id != null ? id : newId();
+        this.isNew = isNew;
+    }
+
+    /**
+     * 쿠키/토큰 저장소에서 읽은 속성 복원 (변경으로 표시하지 않음)
+     */
+    void restore(Map<String, Object> restored) {
+        restored.forEach((name, value) -> {
+            if (value != null) {
+                attributes.put(name, value);
+            }
+        });
+    }
+
+    boolean isIdentityDirty() {
+        return identityDirty;
+    }
+
+    boolean isTokensDirty() {
+        return tokensDirty;
+    }
+
+    boolean isFlowDirty() {
+        return flowDirty;
+    }
+
+    /**
+     * 쿠키의 흐름 키가 가리키는 상태가 만료/삭제된 경우 (응답 시 쿠키에서 키 제거)
+     */
+    void flowExpired() {
+        attributes.remove(FLOW_KEY_ATTRIBUTE);
+        flowDirty = true;
+    }
+
+    boolean isInvalidated() {
+        return invalidated;
+    }
+
+    Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    @Override
+    public long getCreationTime() {
+        checkValid();
+        return creationTime;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        checkValid();
+        return creationTime;
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        this.maxInactiveInterval = interval;
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        checkValid();
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        checkValid();
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        checkValid();
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        Object previous = attributes.put(name, value);
+        // 플래시 맵 목록은 같은 인스턴스를 수정한 뒤 다시 설정하므로 흐름 속성은 항상 변경으로 표시
+        if (!value.equals(previous) || FLOW_ATTRIBUTES.contains(name)) {
+            markDirty(name);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        checkValid();
+        if (attributes.remove(name) != null) {
+            markDirty(name);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        checkValid();
+        attributes.clear();
+        invalidated = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        checkValid();
+        return isNew;
+    }
+
+    private void markDirty(String name) {
+        if (TOKEN_ATTRIBUTES.contains(name)) {
+            tokensDirty = true;
+        } else if (FLOW_ATTRIBUTES.contains(name)) {
+            flowDirty = true;
+        } else if (AuthCookieCodec.ATTRIBUTES.contains(name)) {
+            identityDirty = true;
+        }
+    }
+
+    private void checkValid() {
+        if (invalidated) {
+            throw new IllegalStateException("이미 무효화된 세션입니다.");
+        }
+    }
+
+    private static String newId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
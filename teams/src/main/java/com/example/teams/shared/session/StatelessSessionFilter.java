@@ -0,0 +1,277 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+import com.example.teams.shared.web.CommitAwareResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * STATELESS 세션 모드 필터
+ *
+ * 서블릿 HttpSession 대신 {@link StatelessHttpSession}을 제공하여
+ * 기존 컨트롤러/AuthUtil 코드를 수정하지 않고도 노드 간 세션 공유 없이 동작하게 합니다.
+ * - 신원 속성(userId, loginType 등): 암호화된 인증 쿠키
+ * - Graph 토큰(accessToken, ssoToken): 공유 토큰 저장소 (쿠키에는 키만 저장)
+ * - 흐름 속성(플래시 메시지, SAML IdP 요청/응답): 공유 흐름 상태 저장소 (쿠키에는 키만 저장)
+ *
+ * 세션을 사용하지 않는 요청(정적 리소스 등)은 쿠키 복호화나 DB 조회를 하지 않습니다.
+ * (쿠키는 첫 getSession() 호출 시에만 복호화)
+ *
+ * 토큰이 바뀌어도 이전 토큰 키는 삭제하지 않고 만료 시각까지 둡니다.
+ * 이전 쿠키를 가진 동시 요청이 아직 처리 중일 수 있기 때문입니다. (만료 항목은 GraphTokenStore가 정리)
+ * 로그아웃(세션 무효화) 시에는 즉시 삭제합니다.
+ * 흐름 상태는 한 번 쓰고 버리는 값이므로 바뀌면 이전 항목을 바로 삭제합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.session", name = "mode", havingValue = "stateless")
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+@RequiredArgsConstructor
+@Slf4j
+public class StatelessSessionFilter extends OncePerRequestFilter {
+
+    private final SessionConfig sessionConfig;
+    private final AuthCookieCodec authCookieCodec;
+    private final GraphTokenStore graphTokenStore;
+    private final SessionFlowStore sessionFlowStore;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = Instant.now().getEpochSecond();
+        SessionRequestWrapper wrappedRequest = new SessionRequestWrapper(request, findCookie(request), now);
+        CommitAwareResponseWrapper wrappedResponse = new CommitAwareResponseWrapper(
+            response, () -> persist(wrappedRequest, response, now));
+
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } finally {
+            wrappedResponse.commit();
+        }
+    }
+
+    /**
+     * 인증 쿠키 값 찾기 (복호화하지 않음, 없으면 null)
+     */
+    private String findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        String cookieName = sessionConfig.getCookie().getName();
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 변경된 세션 상태를 쿠키/토큰 저장소에 반영
+     */
+    private void persist(SessionRequestWrapper request, HttpServletResponse response, long now) {
+        StatelessHttpSession session = request.session;
+
+        if (session != null && session.isInvalidated()) {
+            request.invalidated = true;
+            session = null;
+        }
+
+        if (request.invalidated) {
+            // 로그아웃: 이 세션의 토큰/흐름 상태 즉시 삭제 (무효화되었으면 쿠키는 이미 복호화됨)
+            Map<String, Object> restored = request.restored();
+            String previousTokenKey = restored != null
+                ? (String) restored.get(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE) : null;
+            if (previousTokenKey != null) {
+                graphTokenStore.remove(previousTokenKey);
+            }
+            String previousFlowKey = restored != null
+                ? (String) restored.get(StatelessHttpSession.FLOW_KEY_ATTRIBUTE) : null;
+            if (previousFlowKey != null) {
+                sessionFlowStore.remove(previousFlowKey);
+            }
+        }
+
+        if (session == null) {
+            if (request.invalidated) {
+                writeCookie(response, "", 0);
+            }
+            return;
+        }
+
+        if (!session.isIdentityDirty() && !session.isTokensDirty() && !session.isFlowDirty() && !request.invalidated) {
+            return;
+        }
+
+        Map<String, Object> attributes = session.attributes();
+        if (session.isTokensDirty()) {
+            String accessToken = (String) attributes.get("accessToken");
+            String ssoToken = (String) attributes.get("ssoToken");
+            if (accessToken != null || ssoToken != null) {
+                attributes.put(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE, graphTokenStore.save(accessToken, ssoToken));
+            } else {
+                attributes.remove(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE);
+            }
+            // 이전 토큰 키는 만료 시각까지 유지 (이전 쿠키로 처리 중인 동시 요청이 토큰을 찾을 수 있도록)
+        }
+
+        if (session.isFlowDirty()) {
+            String previousFlowKey = (String) attributes.remove(StatelessHttpSession.FLOW_KEY_ATTRIBUTE);
+            Map<String, Object> flow = new HashMap<>();
+            for (String name : StatelessHttpSession.FLOW_ATTRIBUTES) {
+                if (attributes.get(name) != null) {
+                    flow.put(name, attributes.get(name));
+                }
+            }
+            if (!flow.isEmpty()) {
+                attributes.put(StatelessHttpSession.FLOW_KEY_ATTRIBUTE, sessionFlowStore.save(flow));
+            }
+            if (previousFlowKey != null) {
+                sessionFlowStore.remove(previousFlowKey);
+            }
+        }
+
+        boolean hasIdentity = AuthCookieCodec.ATTRIBUTES.stream().anyMatch(name -> attributes.get(name) != null);
+        if (!hasIdentity) {
+            writeCookie(response, "", 0);
+            return;
+        }
+
+        int maxAge = sessionConfig.getCookie().getMaxAgeSeconds();
+        writeCookie(response, authCookieCodec.encode(attributes, now + maxAge), maxAge);
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, int maxAge) {
+        SessionConfig.CookieConfig cookieConfig = sessionConfig.getCookie();
+        ResponseCookie cookie = ResponseCookie.from(cookieConfig.getName(), value)
+            .path("/")
+            .httpOnly(true)
+            .secure(cookieConfig.isSecure())
+            .sameSite(cookieConfig.getSameSite())
+            .maxAge(maxAge)
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * getSession() 호출 시에만 쿠키를 복호화하여 세션을 복원하는 요청 래퍼
+     */
+    private final class SessionRequestWrapper extends HttpServletRequestWrapper {
+
+        private final String cookieValue;
+        private final long now;
+        private Map<String, Object> restored;
+        private boolean decoded;
+        private StatelessHttpSession session;
+        private boolean invalidated;
+
+        private SessionRequestWrapper(HttpServletRequest request, String cookieValue, long now) {
+            super(request);
+            this.cookieValue = cookieValue;
+            this.now = now;
+        }
+
+        /**
+         * 인증 쿠키 복호화 결과 (첫 호출 시 한 번만 복호화, 없거나 유효하지 않으면 null)
+         */
+        private Map<String, Object> restored() {
+            if (!decoded) {
+                decoded = true;
+                restored = cookieValue != null ? authCookieCodec.decode(cookieValue, now) : null;
+            }
+            return restored;
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (session != null && session.isInvalidated()) {
+                invalidated = true;
+                session = null;
+            }
+            if (session != null) {
+                return session;
+            }
+
+            int maxInactive = sessionConfig.getCookie().getMaxAgeSeconds();
+            if (!invalidated && restored() != null) {
+                session = new StatelessHttpSession(getServletContext(), maxInactive, null, false);
+                session.restore(withTokens(restored()));
+                restoreFlowState(session);
+            } else if (create) {
+                session = new StatelessHttpSession(getServletContext(), maxInactive, null, true);
+            }
+            return session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public String changeSessionId() {
+            return getSession().getId();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return restored() != null;
+        }
+
+        /**
+         * 쿠키의 흐름 키로 흐름 속성 복원 (만료/삭제되었으면 응답 시 쿠키에서 키 제거)
+         */
+        private void restoreFlowState(StatelessHttpSession session) {
+            String flowKey = (String) session.attributes().get(StatelessHttpSession.FLOW_KEY_ATTRIBUTE);
+            if (flowKey == null) {
+                return;
+            }
+            Map<String, Object> flow = sessionFlowStore.find(flowKey);
+            if (flow == null) {
+                log.debug("흐름 상태 저장소에서 항목을 찾을 수 없습니다");
+                session.flowExpired();
+                return;
+            }
+            session.restore(flow);
+        }
+
+        private Map<String, Object> withTokens(Map<String, Object> attributes) {
+            String tokenKey = (String) attributes.get(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE);
+            if (tokenKey == null) {
+                return attributes;
+            }
+
+            Map<String, Object> merged = new HashMap<>(attributes);
+            GraphTokenStore.Tokens tokens = graphTokenStore.find(tokenKey);
+            if (tokens == null) {
+                // 토큰이 만료/삭제된 경우 신원 정보만 유지 (Graph 호출 시 재로그인 필요)
+                log.debug("토큰 저장소에서 토큰을 찾을 수 없습니다");
+                merged.remove(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE);
+                return merged;
+            }
+            merged.put("accessToken", tokens.accessToken());
+            merged.put("ssoToken", tokens.ssoToken());
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.teams.shared.session.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 측 Graph 토큰 저장 엔티티 (STATELESS 세션 모드)
+ * 쿠키에는 tokenKey만 담고, 실제 토큰은 모든 노드가 공유하는 DB에 저장합니다.
+ * 토큰이 바뀌면 새 tokenKey로 저장하므로 한 번 저장된 행은 변경되지 않습니다.
+ */
+@Entity
+@Table(name = "graph_tokens", indexes = {
+    @Index(name = "idx_graph_tokens_expires_at", columnList = "expiresAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GraphToken {
+
+    @Id
+    @Column(length = 64)
+    private String tokenKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String accessToken;
+
+    @Column(columnDefinition = "TEXT")
+    private String ssoToken;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
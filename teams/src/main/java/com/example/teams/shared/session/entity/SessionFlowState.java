@@ -0,0 +1,42 @@
+package com.example.teams.shared.session.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 짧게 유지되는 흐름 상태 저장 엔티티 (STATELESS 세션 모드)
+ * 플래시 메시지, SAML IdP 요청/응답처럼 리다이렉트 몇 번 동안만 필요한 세션 속성을 모든 노드가 공유하는 DB에 저장합니다.
+ * 쿠키에는 flowKey만 담고, 속성이 바뀌면 새 flowKey로 저장하므로 한 번 저장된 행은 변경되지 않습니다.
+ */
+@Entity
+@Table(name = "session_flow_states", indexes = {
+    @Index(name = "idx_session_flow_states_expires_at", columnList = "expiresAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionFlowState {
+
+    @Id
+    @Column(length = 64)
+    private String flowKey;
+
+    /**
+     * 속성 맵 ({@link com.example.teams.shared.session.SessionAttributeCodec} 인코딩, Base64)
+     */
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,24 @@
+package com.example.teams.shared.session.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.teams.shared.session.entity.GraphToken;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface GraphTokenRepository extends JpaRepository<GraphToken, String> {
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from GraphToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.example.teams.shared.session.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.teams.shared.session.entity.SessionFlowState;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SessionFlowStateRepository extends JpaRepository<SessionFlowState, String> {
+
+    /**
+     * 만료된 흐름 상태 일괄 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from SessionFlowState s where s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
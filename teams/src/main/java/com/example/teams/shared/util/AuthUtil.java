@@ -1,11 +1,8 @@
 package com.example.teams.shared.util;
 
-import com.example.teams.shared.exception.UnauthorizedException;
-import com.example.teams.shared.port.GraphClientPort;
-
 import jakarta.servlet.http.HttpSession;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.stereotype.Component;
 
@@ -15,15 +12,13 @@ import java.util.List;
 
 /**
  * 인증 관련 유틸리티
- * 모든 컨트롤러에서 공통으로 사용하는 인증 체크 로직을 제공합니다.
+ * 세션 속성 조회와 Access Token 클레임 확인을 제공합니다.
+ * /api 요청의 인증 확인은 AuthInterceptor(AuthPrincipal)에서 합니다.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AuthUtil {
     
-    private final GraphClientPort graphClientPort;
-    
     // 관리자 권한으로 간주할 수 있는 scope 목록
     private static final List<String> ADMIN_SCOPES = List.of(
         "Directory.ReadWrite.All",
@@ -41,48 +36,6 @@ public class AuthUtil {
         "f2ef992c-3afb-46b9-b7cf-a126ee74c451"  // User Administrator
     );
 
-    /**
-     * 앱 로그인 + MS 로그인 모두 지원.
-     * 
-     * @param session HTTP 세션
-     * @throws UnauthorizedException 인증되지 않은 경우
-     */
-    public void checkAuthentication(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        String accessToken = (String) session.getAttribute("accessToken");
-        String loginType = (String) session.getAttribute("loginType");
-        String ssoToken = (String) session.getAttribute("ssoToken");
-        
-        // Teams SSO 전용 로그인 (OBO)
-        if ("SSO".equalsIgnoreCase(loginType)) {
-            if (ssoToken == null || ssoToken.isEmpty()) {
-                throw new UnauthorizedException("SSO 토큰이 없습니다. 다시 로그인해주세요.");
-            }
-            graphClientPort.initializeGraphClientWithSSO(ssoToken);
-            return;
-        }
-        
-        // MS 단독 로그인: Access Token만으로 인증
-        if (userId == null && accessToken != null) {
-            graphClientPort.initializeGraphClient(accessToken);
-            return;
-        }
-        
-        // 앱 로그인 또는 OAuth 연동 로그인: userId가 필요
-        if (userId == null) {
-            throw new UnauthorizedException("인증되지 않은 사용자입니다. 먼저 로그인해주세요.");
-        }
-        
-        // OAuth 로그인인 경우 Access Token이 필요하고 Graph Client 초기화
-        if ("OAUTH".equals(loginType) || "BOTH".equals(loginType)) {
-            if (accessToken == null) {
-                throw new UnauthorizedException("OAuth 토큰이 없습니다. 다시 로그인해주세요.");
-            }
-            graphClientPort.initializeGraphClient(accessToken);
-        }
-        // 앱 로그인만 한 경우 (OAuth 미연동)는 Graph Client 초기화 불필요
-    }
-    
     /**
      * 세션에서 사용자 ID를 가져옵니다.
      * 
@@ -150,7 +103,16 @@ public class AuthUtil {
      * @return 관리자 권한이 있으면 true
      */
     public boolean isAdmin(HttpSession session) {
-        String accessToken = (String) session.getAttribute("accessToken");
+        return isAdmin((String) session.getAttribute("accessToken"));
+    }
+    
+    /**
+     * Access Token에 관리자 권한이 있는지 확인합니다.
+     * 
+     * @param accessToken Microsoft Graph API Access Token (없으면 false)
+     * @return 관리자 권한이 있으면 true
+     */
+    public boolean isAdmin(String accessToken) {
         if (accessToken == null) {
             return false;
         }
@@ -204,19 +166,17 @@ public class AuthUtil {
             // }
             
             // wids 확인 (Well-known IDs - Azure AD 역할 ID)
-            if (claims.has("wids")) {
-                Object widsObj = claims.get("wids");
-                if (widsObj instanceof List) {
-                    @SuppressWarnings("unchecked")
-                    List<String> wids = (List<String>) widsObj;
-                    log.debug("토큰 wids: {}", wids);
-                    
-                    // 관리자 역할 ID가 포함되어 있는지 확인
-                    for (String wid : wids) {
-                        if (ADMIN_ROLE_IDS.contains(wid)) {
-                            log.info("관리자 역할 ID 확인: {}", wid);
-                            return true;
-                        }
+            // org.json은 JSON 배열을 List가 아닌 JSONArray로 반환
+            JSONArray wids = claims.optJSONArray("wids");
+            if (wids != null) {
+                log.debug("토큰 wids: {}", wids);
+                
+                // 관리자 역할 ID가 포함되어 있는지 확인
+                for (int i = 0; i < wids.length(); i++) {
+                    String wid = wids.optString(i, null);
+                    if (wid != null && ADMIN_ROLE_IDS.contains(wid)) {
+                        log.info("관리자 역할 ID 확인: {}", wid);
+                        return true;
                     }
                 }
             }
@@ -230,6 +190,35 @@ public class AuthUtil {
         }
     }
     
+    /**
+     * Access Token의 oid 클레임(Entra ID 객체 ID)을 읽습니다.
+     * 서명은 검증하지 않으므로 토큰 교환으로 직접 받은 토큰에만 사용합니다.
+     *
+     * @param accessToken Microsoft Graph API Access Token
+     * @return oid 클레임, 없거나 JWT 형식이 아니면 null
+     */
+    public String getTokenObjectId(String accessToken) {
+        if (accessToken == null) {
+            return null;
+        }
+
+        try {
+            String[] parts = accessToken.split("\\.");
+            if (parts.length != 3) {
+                return null;
+            }
+
+            String payloadJson = new String(
+                Base64.getUrlDecoder().decode(parts[1]),
+                StandardCharsets.UTF_8
+            );
+            return new JSONObject(payloadJson).optString("oid", null);
+        } catch (Exception e) {
+            log.warn("토큰 oid 확인 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 토큰의 scope 문자열에서 관리자 권한이 있는지 확인합니다.
      * 
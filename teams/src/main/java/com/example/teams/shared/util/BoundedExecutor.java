@@ -0,0 +1,116 @@
+package com.example.teams.shared.util;
+
+import com.example.teams.shared.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 경로의 CPU 작업(BCrypt, SAML 서명 등)을 실행하는 고정 크기 전용 스레드 풀
+ *
+ * 큐가 가득 차거나 결과를 제한 시간 안에 받지 못하면 Tomcat 스레드를 붙잡지 않고 429로 거절합니다.
+ * 메트릭: {name}.queue.size, {name}.active (게이지), {name}.rejected (카운터)
+ * 스레드 이름: {name}의 '.'을 '-'로 바꾼 접두어 + 번호 (데몬 스레드)
+ */
+@Slf4j
+public class BoundedExecutor {
+
+    private final String description;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param name 메트릭 이름 접두어 (예: password.hash)
+     * @param description 오류 메시지에 쓰는 작업 설명 (예: 비밀번호 처리)
+     * @param poolSize 스레드 수
+     * @param queueCapacity 대기 큐 크기 (가득 차면 즉시 거절)
+     * @param timeoutMillis 결과 최대 대기 시간 (밀리초)
+     */
+    public BoundedExecutor(String name, String description, int poolSize, int queueCapacity, long timeoutMillis,
+                           MeterRegistry meterRegistry) {
+        this.description = description;
+        this.timeoutMillis = timeoutMillis;
+
+        String threadPrefix = name.replace('.', '-') + "-";
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, threadPrefix + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.rejectedCounter = Counter.builder(name + ".rejected")
+            .register(meterRegistry);
+        Gauge.builder(name + ".queue.size", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder(name + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+
+        log.info("{} 스레드 풀 생성: 스레드={}, 큐={}", description, poolSize, queueCapacity);
+    }
+
+    /**
+     * 모든 스레드를 미리 시작 (첫 요청의 스레드 생성 지연 방지)
+     */
+    public BoundedExecutor prestart() {
+        executor.prestartAllCoreThreads();
+        return this;
+    }
+
+    /**
+     * 전용 스레드 풀에서 작업 실행 후 결과 대기
+     * 작업이 던진 RuntimeException은 그대로 다시 던집니다.
+     *
+     * @throws TooManyRequestsException 큐가 가득 찼거나 제한 시간을 넘은 경우
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(description + " 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(description + " 대기 시간을 초과했습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(description + " 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(description + " 실패", cause);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -33,9 +33,22 @@ public class CertificateGenerator {
      * @throws Exception 인증서 생성 실패 시
      */
     public static void generateCertificate(String certPath, String keyPath) throws Exception {
+        generateCertificate(certPath, keyPath, "RSA", 2048);
+    }
+    
+    /**
+     * 지정한 키 알고리즘으로 SAML 인증서와 개인키를 생성합니다.
+     * 
+     * @param certPath 인증서 파일 경로
+     * @param keyPath 개인키 파일 경로
+     * @param keyAlgorithm 키 알고리즘 (RSA 또는 EC)
+     * @param keySize 키 크기 (RSA: 2048/3072, EC: 256 = P-256)
+     * @throws Exception 인증서 생성 실패 시
+     */
+    public static void generateCertificate(String certPath, String keyPath, String keyAlgorithm, int keySize) throws Exception {
         // 키 페어 생성
-        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
-        keyGen.initialize(2048);
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance(keyAlgorithm);
+        keyGen.initialize(keySize);
         KeyPair keyPair = keyGen.generateKeyPair();
         
         // 인증서 정보
@@ -55,7 +68,8 @@ public class CertificateGenerator {
         );
         
         // 서명
-        ContentSigner signer = new JcaContentSignerBuilder("SHA256WithRSA").build(keyPair.getPrivate());
+        String signatureAlgorithm = "EC".equals(keyAlgorithm) ? "SHA256withECDSA" : "SHA256WithRSA";
+        ContentSigner signer = new JcaContentSignerBuilder(signatureAlgorithm).build(keyPair.getPrivate());
         X509CertificateHolder certHolder = certBuilder.build(signer);
         X509Certificate cert = new JcaX509CertificateConverter().getCertificate(certHolder);
         
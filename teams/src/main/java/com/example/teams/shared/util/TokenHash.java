@@ -0,0 +1,37 @@
+package com.example.teams.shared.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 해시 (메모리 캐시 키용)
+ *
+ * 캐시 키에 Bearer 토큰 원문을 두지 않도록 SHA-256 해시(Base64URL)로 바꿉니다.
+ * 여러 토큰을 넘기면 길이와 함께 순서대로 해시합니다. (null은 빈 값과 구분)
+ */
+public final class TokenHash {
+
+    private TokenHash() {
+    }
+
+    public static String of(String... tokens) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String token : tokens) {
+                if (token == null) {
+                    digest.update(ByteBuffer.allocate(4).putInt(-1).array());
+                    continue;
+                }
+                byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+                digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
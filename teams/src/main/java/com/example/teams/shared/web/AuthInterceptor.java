@@ -0,0 +1,31 @@
+package com.example.teams.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * /api 요청 인증 확인
+ *
+ * 컨트롤러 실행 전에 {@link AuthPrincipal}을 한 번 확인하여 요청 속성에 저장합니다.
+ * 인증되지 않은 경우 UnauthorizedException을 던지며, GlobalExceptionHandler가 401로 응답합니다.
+ * Graph Client는 여기서 초기화하지 않고 서비스가 처음 getGraphClient()를 호출할 때 초기화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthInterceptor implements HandlerInterceptor {
+
+    private final AuthPrincipalResolver authPrincipalResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        request.setAttribute(AuthPrincipal.ATTRIBUTE, authPrincipalResolver.resolve(request.getSession(false)));
+        return true;
+    }
+}
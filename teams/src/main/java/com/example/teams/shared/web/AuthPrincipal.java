@@ -0,0 +1,65 @@
+package com.example.teams.shared.web;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 인증 정보 (불변)
+ *
+ * {@link AuthInterceptor}가 /api 요청마다 한 번 확인하여 요청 속성에 저장하고,
+ * 컨트롤러는 HttpSession 대신 이 타입의 파라미터로 받습니다. ({@link AuthPrincipalArgumentResolver})
+ *
+ * @param userId 앱 사용자 ID (MS 단독 로그인은 null)
+ * @param loginType 로그인 타입 (APP, OAUTH, BOTH, SSO, MS 단독 로그인은 null)
+ * @param accessToken Microsoft Graph API Access Token
+ * @param ssoToken Teams SSO 토큰 (OBO 방식)
+ * @param admin Access Token 기준 관리자 여부
+ * @param objectId 토큰의 oid 클레임 (Entra ID 사용자 객체 ID, 앱 로그인만 한 경우 null)
+ */
+public record AuthPrincipal(Long userId, String loginType, String accessToken, String ssoToken, boolean admin,
+                            String objectId) {
+
+    static final String ATTRIBUTE = AuthPrincipal.class.getName();
+
+    /**
+     * 현재 요청의 인증 정보 (인증 확인을 거치지 않은 요청이면 null)
+     */
+    public static AuthPrincipal current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (AuthPrincipal) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Teams SSO 전용 로그인 (OBO)
+     */
+    public boolean isSso() {
+        return "SSO".equalsIgnoreCase(loginType);
+    }
+
+    /**
+     * OAuth 연동 여부
+     */
+    public boolean isOAuthLinked() {
+        return "OAUTH".equals(loginType) || "BOTH".equals(loginType);
+    }
+
+    /**
+     * Graph Client를 만들 Access Token (SSO 로그인 또는 앱 로그인만 한 경우 null)
+     */
+    public String graphAccessToken() {
+        if (isSso()) {
+            return null;
+        }
+        return userId == null || isOAuthLinked() ? accessToken : null;
+    }
+
+    @Override
+    public String toString() {
+        // 토큰은 로그에 남기지 않음
+        return "AuthPrincipal[userId=" + userId + ", loginType=" + loginType + ", admin=" + admin
+            + ", objectId=" + objectId + "]";
+    }
+}
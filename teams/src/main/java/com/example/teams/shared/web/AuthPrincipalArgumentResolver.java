@@ -0,0 +1,38 @@
+package com.example.teams.shared.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러 파라미터로 {@link AuthPrincipal} 주입
+ * AuthInterceptor가 확인한 값을 사용하고, 인터셉터 대상이 아닌 경로에서는 이 시점에 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final AuthPrincipalResolver authPrincipalResolver;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthPrincipal.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public AuthPrincipal resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        AuthPrincipal principal = (AuthPrincipal) request.getAttribute(AuthPrincipal.ATTRIBUTE);
+        if (principal == null) {
+            principal = authPrincipalResolver.resolve(request.getSession(false));
+            request.setAttribute(AuthPrincipal.ATTRIBUTE, principal);
+        }
+        return principal;
+    }
+}
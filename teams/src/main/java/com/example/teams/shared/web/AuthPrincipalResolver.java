@@ -0,0 +1,100 @@
+package com.example.teams.shared.web;
+
+import com.example.teams.shared.exception.UnauthorizedException;
+import com.example.teams.shared.util.AuthUtil;
+import com.example.teams.shared.util.TokenHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 세션 속성으로 {@link AuthPrincipal} 확인 (앱 로그인 + MS 로그인 모두 지원)
+ *
+ * 결과는 인증 관련 세션 속성 네 개(userId, loginType, accessToken, ssoToken)의 SHA-256 해시를 키로 캐시합니다.
+ * (키에 토큰 원문을 두지 않음, 크기와 저장 후 경과 시간으로 제한)
+ * 로그인/토큰 갱신/로그아웃으로 속성이 바뀌면 키도 바뀌므로 별도 무효화가 필요 없고,
+ * 같은 속성이면 세션 저장 방식(memory/stateless/jdbc)이나 노드와 관계없이 같은 결과를 재사용합니다.
+ * (관리자 여부/oid 확인을 위한 JWT 디코딩은 토큰이 바뀔 때 한 번만 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalResolver {
+
+    // 캐시 최대 크기 및 만료 시간 (Access Token 유효 시간 기준, 만료된 토큰의 결과가 남지 않도록)
+    private static final int CACHE_MAX_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(60);
+
+    private final AuthUtil authUtil;
+    private final Cache<String, AuthPrincipal> cache = Caffeine.newBuilder()
+        .maximumSize(CACHE_MAX_SIZE)
+        .expireAfterWrite(EXPIRE_AFTER_WRITE)
+        .build();
+
+    /**
+     * 인증 정보 확인
+     *
+     * @param session HTTP 세션 (없으면 null)
+     * @throws UnauthorizedException 인증되지 않은 경우
+     */
+    public AuthPrincipal resolve(HttpSession session) {
+        if (session == null) {
+            throw new UnauthorizedException("인증되지 않은 사용자입니다. 먼저 로그인해주세요.");
+        }
+
+        SessionKey key = new SessionKey(
+            (Long) session.getAttribute("userId"),
+            (String) session.getAttribute("loginType"),
+            (String) session.getAttribute("accessToken"),
+            (String) session.getAttribute("ssoToken"));
+
+        String hash = TokenHash.of(
+            key.userId() != null ? key.userId().toString() : null, key.loginType(), key.accessToken(), key.ssoToken());
+        AuthPrincipal principal = cache.getIfPresent(hash);
+        if (principal == null) {
+            // 인증 실패(UnauthorizedException)는 캐시하지 않음
+            principal = create(key);
+            cache.put(hash, principal);
+        }
+        return principal;
+    }
+
+    private AuthPrincipal create(SessionKey key) {
+        // Teams SSO 전용 로그인 (OBO)
+        if ("SSO".equalsIgnoreCase(key.loginType())) {
+            if (key.ssoToken() == null || key.ssoToken().isEmpty()) {
+                throw new UnauthorizedException("SSO 토큰이 없습니다. 다시 로그인해주세요.");
+            }
+            return principal(key);
+        }
+
+        // MS 단독 로그인: Access Token만으로 인증
+        if (key.userId() == null && key.accessToken() != null) {
+            return principal(key);
+        }
+
+        // 앱 로그인 또는 OAuth 연동 로그인: userId가 필요
+        if (key.userId() == null) {
+            throw new UnauthorizedException("인증되지 않은 사용자입니다. 먼저 로그인해주세요.");
+        }
+
+        // OAuth 로그인인 경우 Access Token이 필요
+        if (("OAUTH".equals(key.loginType()) || "BOTH".equals(key.loginType())) && key.accessToken() == null) {
+            throw new UnauthorizedException("OAuth 토큰이 없습니다. 다시 로그인해주세요.");
+        }
+        return principal(key);
+    }
+
+    private AuthPrincipal principal(SessionKey key) {
+        String objectId = authUtil.getTokenObjectId(key.accessToken() != null ? key.accessToken() : key.ssoToken());
+        return new AuthPrincipal(key.userId(), key.loginType(), key.accessToken(), key.ssoToken(),
+            authUtil.isAdmin(key.accessToken()), objectId);
+    }
+
+    private record SessionKey(Long userId, String loginType, String accessToken, String ssoToken) {
+    }
+}
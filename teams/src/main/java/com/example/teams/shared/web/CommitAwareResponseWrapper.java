@@ -0,0 +1,75 @@
+package com.example.teams.shared.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 응답이 커밋되기 직전에 콜백을 한 번 실행하는 응답 래퍼
+ *
+ * 컨트롤러가 본문을 쓰기 시작하거나 리다이렉트/에러를 보내기 전에
+ * 헤더(Set-Cookie, Server-Timing 등)를 추가해야 할 때 사용합니다.
+ * 본문 없이 끝나는 요청은 필터에서 {@link #commit()}을 직접 호출합니다.
+ */
+public class CommitAwareResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable beforeCommit;
+    private boolean committed;
+
+    public CommitAwareResponseWrapper(HttpServletResponse response, Runnable beforeCommit) {
+        super(response);
+        this.beforeCommit = beforeCommit;
+    }
+
+    /**
+     * 콜백 실행 (이미 실행되었거나 응답이 커밋되었으면 무시)
+     */
+    public void commit() {
+        if (committed) {
+            return;
+        }
+        committed = true;
+        if (!getResponse().isCommitted()) {
+            beforeCommit.run();
+        }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        commit();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        commit();
+        return super.getWriter();
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        commit();
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        commit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        commit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        commit();
+        super.flushBuffer();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.teams.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비밀번호 해시(BCrypt) 설정
+ *
+ * BCrypt 연산은 CPU를 많이 사용하므로 Tomcat 요청 스레드가 아닌
+ * 전용 스레드 풀에서 실행하고, 로그인 시도 횟수를 제한합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.password")
+@Getter
+@Setter
+public class PasswordHashingConfig {
+    /**
+     * BCrypt cost (4~31)
+     * 값을 올리면 기존 해시는 다음 로그인 시 자동으로 재해시됩니다.
+     */
+    private int strength = 10;
+
+    /**
+     * 해시 전용 스레드 수 (0 이하면 CPU 코어 수)
+     */
+    private int poolSize = 0;
+
+    /**
+     * 해시 작업 대기 큐 크기 (가득 차면 즉시 거절)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 해시 작업 최대 대기 시간 (밀리초)
+     */
+    private long timeoutMillis = 5000;
+
+    // 로그인 시도 제한 설정
+    private AdmissionConfig admission = new AdmissionConfig();
+
+    @Getter
+    @Setter
+    public static class AdmissionConfig {
+        /**
+         * 시도 횟수를 세는 시간 창 (초)
+         */
+        private int windowSeconds = 60;
+
+        /**
+         * 시간 창 내 IP당 최대 로그인 시도 횟수
+         */
+        private int maxAttemptsPerIp = 30;
+
+        /**
+         * 시간 창 내 계정(이메일)+IP 조합당 최대 로그인 시도 횟수
+         * 다른 IP의 시도는 따로 세므로 타인이 계정을 잠글 수 없습니다. 로그인에 성공하면 초기화됩니다.
+         */
+        private int maxAttemptsPerAccount = 5;
+    }
+
+    /**
+     * 실제 사용할 스레드 수
+     */
+    public int resolvePoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
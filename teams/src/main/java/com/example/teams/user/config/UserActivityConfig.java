@@ -0,0 +1,28 @@
+package com.example.teams.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그인 활동(lastLoginAt, Refresh Token) 지연 저장 설정
+ *
+ * 로그인 요청 경로에서 바로 UPDATE하지 않고 사용자별로 모아 두었다가
+ * 주기적으로 또는 일정 개수가 쌓이면 JDBC batch로 한 번에 저장합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.user.activity")
+@Getter
+@Setter
+public class UserActivityConfig {
+    /**
+     * 저장 주기 (밀리초)
+     */
+    private long flushIntervalMillis = 1000;
+
+    /**
+     * 대기 중인 사용자 수가 이 값 이상이면 주기를 기다리지 않고 저장 (JDBC batch 크기)
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,40 @@
+package com.example.teams.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 대량 등록(CSV/NDJSON) 설정
+ *
+ * 입력을 batch 크기 단위로 읽어 중복 확인, 비밀번호 해시, JDBC batch INSERT 후 batch마다 커밋합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.user.import")
+@Getter
+@Setter
+public class UserImportConfig {
+    /**
+     * 한 번에 처리/커밋할 행 수 (중복 확인 IN 조회, JDBC batch 크기)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 대량 등록용 해시 스레드 수 (0 이하면 CPU 코어 수의 절반)
+     * 로그인 해시 풀과 별도로 두어 대량 등록 중에도 로그인이 거절되지 않도록 합니다.
+     */
+    private int hashPoolSize = 0;
+
+    /**
+     * 결과에 포함할 최대 오류 행 수
+     */
+    private int maxErrors = 100;
+
+    /**
+     * 실제 사용할 해시 스레드 수
+     */
+    public int resolveHashPoolSize() {
+        return hashPoolSize > 0 ? hashPoolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.teams.user.controller;
+
+import com.example.teams.shared.exception.ForbiddenException;
+import com.example.teams.shared.web.AuthPrincipal;
+import com.example.teams.user.service.UserImportService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 대량 등록 컨트롤러 (관리자 전용)
+ *
+ * 요청 본문을 스트림으로 읽어 처리하고, batch마다 진행 상황을 NDJSON 한 줄씩 응답에 바로 내보냅니다.
+ * 마지막 줄(done=true)이 최종 결과입니다.
+ *
+ * 예: curl -X POST -H "Content-Type: text/csv" --data-binary @users.csv -b cookies.txt http://localhost:8080/api/admin/users/import
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportController {
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 대량 등록
+     * Content-Type: text/csv (첫 줄 헤더) 또는 application/x-ndjson
+     */
+    @PostMapping("/import")
+    public void importUsers(AuthPrincipal principal, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!principal.admin()) {
+            throw new ForbiddenException("관리자 권한이 필요합니다");
+        }
+
+        UserImportService.Format format = UserImportService.Format.fromContentType(request.getContentType());
+        log.info("사용자 대량 등록 시작: 형식={}", format);
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = response.getOutputStream();
+
+        UserImportService.ImportProgress result;
+        try {
+            result = userImportService.importUsers(request.getInputStream(), format,
+                progress -> writeLine(output, progress));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        writeLine(output, result);
+    }
+
+    private void writeLine(OutputStream output, UserImportService.ImportProgress progress) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(progress));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊어도 이미 커밋된 batch는 유지되고 남은 입력은 읽지 못해 중단됨
+            throw new UncheckedIOException(e);
+        }
+    }
+}
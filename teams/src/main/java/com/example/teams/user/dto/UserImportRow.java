@@ -0,0 +1,20 @@
+package com.example.teams.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 대량 등록 입력 행 (CSV 한 줄 / NDJSON 한 줄)
+ * 비밀번호가 있으면 앱 로그인, Microsoft ID가 있으면 OAuth 로그인 가능 계정으로 등록합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+    private String email;
+    private String name;
+    private String password;
+    private String microsoftId;
+    private String userPrincipalName;
+}
@@ -5,14 +5,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 /**
  * 앱 사용자 엔티티
  * 앱 자체 로그인과 OAuth 로그인 모두를 지원합니다.
+ * 
+ * 로그인마다 조회되므로 2차 캐시(엔티티 + 이메일 natural id)에 보관합니다.
+ * Hibernate를 통한 변경은 커밋 시 캐시에 반영됩니다. (READ_WRITE)
+ * 캐시는 노드별이므로 memory 세션 모드에서만 사용합니다. (SecondLevelCacheConfig)
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = "email"),
     @UniqueConstraint(columnNames = "microsoftId")
@@ -23,13 +33,17 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class User {
     
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-by-email";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     /**
-     * 이메일 (앱 로그인용)
+     * 이메일 (앱 로그인용, natural id - 변경 불가)
      */
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
     
@@ -0,0 +1,19 @@
+package com.example.teams.user.repository;
+
+import com.example.teams.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * natural id(이메일) 기반 사용자 조회
+ * 
+ * 파생 쿼리(JPQL) 대신 Hibernate natural id 조회를 사용하여
+ * 2차 캐시에 있으면 SQL 없이 사용자를 반환합니다.
+ */
+public interface UserNaturalIdRepository {
+    
+    /**
+     * 이메일로 사용자 찾기
+     */
+    Optional<User> findByEmail(String email);
+}
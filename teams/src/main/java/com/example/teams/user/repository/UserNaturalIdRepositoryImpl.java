@@ -0,0 +1,32 @@
+package com.example.teams.user.repository;
+
+import com.example.teams.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * {@link UserNaturalIdRepository} 구현 (UserRepository 프래그먼트)
+ * 
+ * natural id → id 캐시와 엔티티 캐시를 차례로 확인하고, 둘 다 있으면 DB를 조회하지 않습니다.
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * 트랜잭션 밖(예: 앱 로그인)에서 호출되어도 Hibernate Session을 얻을 수 있도록 읽기 전용 트랜잭션으로 실행
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
+    }
+}
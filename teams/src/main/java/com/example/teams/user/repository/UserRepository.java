@@ -1,24 +1,54 @@
 package com.example.teams.user.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.teams.user.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 사용자 저장소
+ * 
+ * - findById: 엔티티 2차 캐시
+ * - findByEmail: natural id 캐시 ({@link UserNaturalIdRepository})
+ * - findByMicrosoftId: 쿼리 캐시 (users 테이블이 Hibernate로 변경되면 자동 무효화)
+ */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     
     /**
-     * 이메일로 사용자 찾기
+     * Microsoft ID로 사용자 찾기
      */
-    Optional<User> findByEmail(String email);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByMicrosoftId(String microsoftId);
     
     /**
-     * Microsoft ID로 사용자 찾기
+     * OAuth 로그인 연동 대상 조회 (Microsoft ID 또는 이메일 일치, 행 잠금)
+     * 한 번의 SELECT ... FOR UPDATE로 두 키를 모두 확인하고, 같은 사용자의 동시 로그인은 트랜잭션 종료까지 대기합니다.
+     * 두 키가 서로 다른 사용자와 일치하면 최대 2건이 반환됩니다.
+     * 
+     * OR 조건은 DB에 따라 두 unique 인덱스를 함께 쓰지 못하고 전체 스캔할 수 있으므로
+     * 키별 인덱스 조회를 UNION한 id 목록으로 조회합니다.
      */
-    Optional<User> findByMicrosoftId(String microsoftId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select u from User u where u.id in (
+                select m.id from User m where m.microsoftId = :microsoftId
+                union
+                select e.id from User e where e.email = :email
+            )""")
+    List<User> lockByMicrosoftIdOrEmail(@Param("microsoftId") String microsoftId, @Param("email") String email);
     
     /**
      * 이메일 또는 Microsoft ID로 사용자 찾기
@@ -34,5 +64,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Microsoft ID 존재 여부 확인
      */
     boolean existsByMicrosoftId(String microsoftId);
+    
+    /**
+     * 비밀번호 해시만 변경 (재해시)
+     * 엔티티 병합은 모든 컬럼을 UPDATE하여 UserActivityWriter가 JDBC로 방금 저장한
+     * last_login_at / refresh_token을 이전 값으로 덮어쓸 수 있으므로 password 컬럼만 변경합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :hash where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("hash") String hash);
 }
 
@@ -0,0 +1,99 @@
+package com.example.teams.user.service;
+
+import com.example.teams.shared.exception.TooManyRequestsException;
+import com.example.teams.user.config.PasswordHashingConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시도 횟수 제한 (IP별 / 계정+IP별)
+ *
+ * 고정 시간 창 방식으로 시도 횟수를 세고, 한도를 넘으면
+ * BCrypt 검증 전에 요청을 거절하여 크리덴셜 스터핑 시 CPU 소모를 막습니다.
+ *
+ * 계정 한도는 (계정, IP) 조합으로 셉니다.
+ * 계정만으로 세면 이메일만 아는 누구나 다른 IP의 정상 사용자를 계속 잠글 수 있기 때문입니다.
+ */
+@Component
+@Slf4j
+public class LoginAttemptLimiter {
+
+    // 오래된 항목 정리를 시작하는 맵 크기
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final PasswordHashingConfig.AdmissionConfig config;
+    private final ConcurrentHashMap<String, Window> ipAttempts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> accountAttempts = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+
+    public LoginAttemptLimiter(PasswordHashingConfig passwordHashingConfig, MeterRegistry meterRegistry) {
+        this.config = passwordHashingConfig.getAdmission();
+        this.rejectedCounter = Counter.builder("login.attempts.rejected")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인
+     *
+     * @param clientIp 요청 IP (없으면 IP 제한 생략)
+     * @param email 로그인 이메일
+     * @throws TooManyRequestsException 한도 초과 시
+     */
+    public void acquire(String clientIp, String email) {
+        long now = System.currentTimeMillis();
+        long windowMillis = config.getWindowSeconds() * 1000L;
+
+        if (clientIp != null
+                && increment(ipAttempts, clientIp, now, windowMillis) > config.getMaxAttemptsPerIp()) {
+            rejectedCounter.increment();
+            log.warn("IP별 로그인 시도 한도 초과: ip={}", clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (email != null
+                && increment(accountAttempts, accountKey(clientIp, email), now, windowMillis) > config.getMaxAttemptsPerAccount()) {
+            rejectedCounter.increment();
+            log.warn("계정별 로그인 시도 한도 초과: email={}, ip={}", email, clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (ipAttempts.size() + accountAttempts.size() > CLEANUP_THRESHOLD) {
+            evictExpired(now, windowMillis);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 해당 IP의 계정별 시도 횟수 초기화
+     */
+    public void reset(String clientIp, String email) {
+        if (email != null) {
+            accountAttempts.remove(accountKey(clientIp, email));
+        }
+    }
+
+    private int increment(ConcurrentHashMap<String, Window> attempts, String key, long now, long windowMillis) {
+        Window window = attempts.compute(key, (k, current) ->
+            current == null || now - current.startMillis() >= windowMillis
+                ? new Window(now, 1)
+                : new Window(current.startMillis(), current.count() + 1));
+        return window.count();
+    }
+
+    private void evictExpired(long now, long windowMillis) {
+        ipAttempts.values().removeIf(window -> now - window.startMillis() >= windowMillis);
+        accountAttempts.values().removeIf(window -> now - window.startMillis() >= windowMillis);
+    }
+
+    private String accountKey(String clientIp, String email) {
+        return email.trim().toLowerCase(Locale.ROOT) + "|" + (clientIp != null ? clientIp : "-");
+    }
+
+    private record Window(long startMillis, int count) {
+    }
+}
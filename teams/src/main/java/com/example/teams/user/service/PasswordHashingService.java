@@ -0,0 +1,89 @@
+package com.example.teams.user.service;
+
+import com.example.teams.shared.util.BoundedExecutor;
+import com.example.teams.user.config.PasswordHashingConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시/검증 서비스
+ *
+ * BCrypt 연산을 CPU 코어 수만큼의 전용 스레드 풀({@link BoundedExecutor})에서 실행합니다.
+ * 큐가 가득 차면 Tomcat 스레드를 붙잡지 않고 즉시 429로 거절합니다.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final BoundedExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHashingService(PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this.passwordEncoder = new BCryptPasswordEncoder(config.getStrength());
+        this.executor = new BoundedExecutor("password.hash", "비밀번호 처리",
+            config.resolvePoolSize(), config.getQueueCapacity(), config.getTimeoutMillis(), meterRegistry);
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+            .tag("operation", "encode")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+            .tag("operation", "matches")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+
+        log.info("비밀번호 해시 cost={}", config.getStrength());
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(String rawPassword) {
+        return executor.execute(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 호출 스레드에서 바로 비밀번호 해시 생성
+     * 자체 스레드 풀로 동시 실행 수를 제한하는 대량 작업(사용자 대량 등록)에서 사용합니다.
+     */
+    public String encodeOnCurrentThread(String rawPassword) {
+        return encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Boolean matched = executor.execute(() -> matchesTimer.recordCallable(
+            () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정보다 낮아 재해시가 필요한지 확인
+     * 해시 문자열만 검사하므로 스레드 풀을 사용하지 않습니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        try {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            log.warn("해시 형식을 확인할 수 없습니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.teams.user.service;
+
+import com.example.teams.user.config.UserActivityConfig;
+import com.example.teams.user.entity.User;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로그인 활동 지연 저장 (write-behind)
+ *
+ * lastLoginAt / Refresh Token 변경을 사용자별로 하나로 합쳐 두었다가
+ * 전용 스레드에서 주기적으로(또는 batch 크기만큼 쌓이면) JDBC batch UPDATE로 저장합니다.
+ * 로그인 응답 시간에 DB 쓰기가 포함되지 않고, 로그인이 몰려도 사용자당 한 번만 UPDATE합니다.
+ *
+ * JDBC로 직접 저장하므로 저장 후 해당 User의 2차 캐시 항목을 제거합니다.
+ * 종료 시 남은 변경을 모두 저장합니다. (프로세스가 비정상 종료되면 마지막 주기의 변경은 유실될 수 있음)
+ */
+@Service
+@Slf4j
+public class UserActivityWriter {
+
+    private static final String UPDATE_SQL =
+        "UPDATE users SET last_login_at = ?, refresh_token = COALESCE(?, refresh_token) WHERE id = ?";
+
+    private final UserActivityConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConcurrentHashMap<Long, PendingActivity> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+
+    public UserActivityWriter(UserActivityConfig config,
+                              JdbcTemplate jdbcTemplate,
+                              EntityManagerFactory entityManagerFactory,
+                              MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-activity-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+            config.getFlushIntervalMillis(), config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+
+        this.flushTimer = Timer.builder("user.activity.flush.duration")
+            .register(meterRegistry);
+        this.writtenCounter = Counter.builder("user.activity.written")
+            .register(meterRegistry);
+        Gauge.builder("user.activity.pending", pending, Map::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시간 기록
+     */
+    public void recordLogin(Long userId, LocalDateTime loginAt) {
+        record(userId, new PendingActivity(loginAt, null));
+    }
+
+    /**
+     * Refresh Token 저장 (로그인 시간도 함께 기록)
+     */
+    public void recordRefreshToken(Long userId, String refreshToken, LocalDateTime loginAt) {
+        record(userId, new PendingActivity(loginAt, refreshToken));
+    }
+
+    private void record(Long userId, PendingActivity activity) {
+        pending.merge(userId, activity, PendingActivity::merge);
+
+        if (pending.size() >= config.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 모두 저장 (전용 스레드 또는 종료 시 호출)
+     */
+    synchronized void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, PendingActivity>> batch = new ArrayList<>(config.getBatchSize());
+        for (Long userId : pending.keySet()) {
+            PendingActivity activity = pending.remove(userId);
+            if (activity != null) {
+                batch.add(Map.entry(userId, activity));
+            }
+            if (batch.size() >= config.getBatchSize()) {
+                write(batch);
+                batch = new ArrayList<>(config.getBatchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Map.Entry<Long, PendingActivity>> batch) {
+        try {
+            flushTimer.record(() -> {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(entry.getValue().lastLoginAt()));
+                    ps.setString(2, entry.getValue().refreshToken());
+                    ps.setLong(3, entry.getKey());
+                });
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 실패한 변경은 다시 대기열에 합쳐 다음 주기에 재시도 (그 사이 새 변경이 있으면 새 값 우선)
+            log.error("로그인 활동 저장 실패 ({}명), 다음 주기에 재시도: {}", batch.size(), e.getMessage(), e);
+            for (Map.Entry<Long, PendingActivity> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), (newer, failed) -> failed.merge(newer));
+            }
+            return;
+        }
+
+        // Hibernate를 거치지 않고 변경했으므로 2차 캐시의 User 제거
+        // (이 노드의 캐시만 제거됨 - 2차 캐시는 단일 노드인 memory 세션 모드에서만 사용)
+        for (Map.Entry<Long, PendingActivity> entry : batch) {
+            entityManagerFactory.getCache().evict(User.class, entry.getKey());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("로그인 활동 저장 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("로그인 활동 지연 저장 종료");
+    }
+
+    /**
+     * 사용자별로 합쳐진 미저장 변경
+     *
+     * @param lastLoginAt 가장 최근 로그인 시간
+     * @param refreshToken 가장 최근 Refresh Token (변경 없으면 null)
+     */
+    private record PendingActivity(LocalDateTime lastLoginAt, String refreshToken) {
+
+        PendingActivity merge(PendingActivity newer) {
+            LocalDateTime loginAt = newer.lastLoginAt().isAfter(lastLoginAt) ? newer.lastLoginAt() : lastLoginAt;
+            String token = newer.refreshToken() != null ? newer.refreshToken() : refreshToken;
+            return new PendingActivity(loginAt, token);
+        }
+    }
+}
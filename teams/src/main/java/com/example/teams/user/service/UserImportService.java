@@ -0,0 +1,548 @@
+package com.example.teams.user.service;
+
+import com.example.teams.shared.exception.TooManyRequestsException;
+import com.example.teams.user.config.UserImportConfig;
+import com.example.teams.user.dto.UserImportRow;
+import com.example.teams.user.entity.User;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 대량 등록 서비스
+ *
+ * CSV/NDJSON 입력을 한 줄씩 읽어 batch 크기 단위로 처리합니다. (입력 전체를 메모리에 올리지 않음)
+ * - 중복 확인: batch마다 이메일/Microsoft ID를 IN 조회 한 번씩으로 확인 (행마다 existsByEmail 호출하지 않음)
+ * - 비밀번호 해시: 대량 등록 전용 스레드 풀에서 병렬 실행 (로그인 해시 풀과 분리)
+ * - 저장: JDBC batch INSERT, batch마다 커밋하여 트랜잭션이 커지지 않고 실패 시 이전 batch는 유지
+ *
+ * 동시에 하나의 대량 등록만 실행하며, 실행 중 추가 요청은 429로 거절합니다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO users (email, password, name, microsoft_id, user_principal_name, login_type, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String EXISTING_EMAILS_SQL =
+        "SELECT email FROM users WHERE email IN (:values)";
+    private static final String EXISTING_MICROSOFT_IDS_SQL =
+        "SELECT microsoft_id FROM users WHERE microsoft_id IN (:values)";
+
+    private final UserImportConfig config;
+    private final PasswordHashingService passwordHashingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectReader rowReader;
+    private final ThreadPoolExecutor hashExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter createdCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public UserImportService(UserImportConfig config,
+                             PasswordHashingService passwordHashingService,
+                             JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             EntityManagerFactory entityManagerFactory,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.config = config;
+        this.passwordHashingService = passwordHashingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.rowReader = objectMapper.readerFor(UserImportRow.class);
+
+        // batch 하나의 해시 작업만 대기하므로 큐는 batch 크기로 제한
+        int poolSize = config.resolveHashPoolSize();
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getBatchSize())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        this.createdCounter = Counter.builder("user.import.rows").tag("result", "created").register(meterRegistry);
+        this.skippedCounter = Counter.builder("user.import.rows").tag("result", "skipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("user.import.rows").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 대량 등록 실행
+     *
+     * @param input CSV(첫 줄 헤더) 또는 NDJSON 입력 (UTF-8)
+     * @param format 입력 형식
+     * @param progressListener batch 처리 후마다 진행 상황을 전달받을 콜백
+     * @return 최종 결과
+     * @throws IllegalArgumentException CSV 헤더가 없거나 email 열이 없는 경우
+     */
+    public ImportProgress importUsers(InputStream input, Format format, Consumer<ImportProgress> progressListener) {
+        if (!running.compareAndSet(false, true)) {
+            throw new TooManyRequestsException("다른 사용자 대량 등록이 진행 중입니다. 완료 후 다시 시도해주세요.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        ImportState state = new ImportState(config.getMaxErrors());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            RowParser parser = format == Format.CSV ? new CsvRowParser(reader) : new NdjsonRowParser(reader, rowReader);
+            List<ParsedRow> batch = new ArrayList<>(config.getBatchSize());
+            ParsedRow row;
+            while ((row = parser.next()) != null) {
+                batch.add(row);
+                if (batch.size() >= config.getBatchSize()) {
+                    processBatch(batch, state);
+                    batch.clear();
+                    progressListener.accept(state.snapshot(startedAt, false));
+                }
+            }
+            if (!batch.isEmpty()) {
+                processBatch(batch, state);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력을 읽을 수 없습니다.", e);
+        } finally {
+            running.set(false);
+        }
+
+        ImportProgress result = state.snapshot(startedAt, true);
+        skippedCounter.increment(result.skipped());
+        failedCounter.increment(result.failed());
+        log.info("사용자 대량 등록 완료: 처리={}, 등록={}, 건너뜀={}, 실패={}, {}ms",
+            result.processed(), result.created(), result.skipped(), result.failed(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * batch 하나 처리: 검증 → 중복 확인(IN 조회) → 병렬 해시 → batch INSERT/커밋
+     */
+    private void processBatch(List<ParsedRow> batch, ImportState state) {
+        List<ParsedRow> candidates = new ArrayList<>(batch.size());
+        for (ParsedRow row : batch) {
+            state.processed++;
+            String error = validate(row);
+            if (error != null) {
+                state.fail(row, error);
+            } else if (!state.seenEmails.add(row.email())) {
+                state.skip(row, "입력 내 중복 이메일");
+            } else if (row.microsoftId() != null && !state.seenMicrosoftIds.add(row.microsoftId())) {
+                state.skip(row, "입력 내 중복 Microsoft ID");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingEmails = findExisting(EXISTING_EMAILS_SQL,
+            candidates.stream().map(ParsedRow::email).toList());
+        Set<String> existingMicrosoftIds = findExisting(EXISTING_MICROSOFT_IDS_SQL,
+            candidates.stream().map(ParsedRow::microsoftId).filter(id -> id != null).toList());
+
+        List<ParsedRow> newRows = new ArrayList<>(candidates.size());
+        for (ParsedRow row : candidates) {
+            if (existingEmails.contains(row.email())) {
+                state.skip(row, "이미 등록된 이메일");
+            } else if (row.microsoftId() != null && existingMicrosoftIds.contains(row.microsoftId())) {
+                state.skip(row, "이미 등록된 Microsoft ID");
+            } else {
+                newRows.add(row);
+            }
+        }
+        if (newRows.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashPasswords(newRows);
+        insert(newRows, hashes, state);
+
+        // JDBC로 직접 INSERT했으므로 "없음"으로 캐시된 쿼리 결과(findByMicrosoftId 등) 제거
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+    }
+
+    private String validate(ParsedRow row) {
+        if (row.parseError() != null) {
+            return row.parseError();
+        }
+        if (row.email() == null || row.email().indexOf('@') < 1) {
+            return "이메일 형식이 올바르지 않습니다.";
+        }
+        if (row.name() == null) {
+            return "이름이 없습니다.";
+        }
+        if (row.password() == null && row.microsoftId() == null) {
+            return "비밀번호 또는 Microsoft ID가 필요합니다.";
+        }
+        return null;
+    }
+
+    private Set<String> findExisting(String sql, List<String> values) {
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("values", values), String.class));
+    }
+
+    /**
+     * 비밀번호 병렬 해시 (비밀번호가 없는 OAuth 전용 행은 null)
+     */
+    private List<String> hashPasswords(List<ParsedRow> rows) {
+        List<Future<String>> futures = new ArrayList<>(rows.size());
+        for (ParsedRow row : rows) {
+            futures.add(row.password() != null
+                ? hashExecutor.submit(() -> passwordHashingService.encodeOnCurrentThread(row.password()))
+                : null);
+        }
+
+        List<String> hashes = new ArrayList<>(rows.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future != null ? future.get() : null);
+            }
+        } catch (InterruptedException e) {
+            futures.stream().filter(f -> f != null).forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+        return hashes;
+    }
+
+    /**
+     * batch INSERT 후 커밋
+     * 중복 확인 이후 다른 요청(회원가입 등)이 같은 이메일을 먼저 저장한 경우 행 단위로 다시 저장합니다.
+     */
+    private void insert(List<ParsedRow> rows, List<String> hashes, ImportState state) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, indexes(rows.size()), rows.size(), (ps, i) -> {
+                    ParsedRow row = rows.get(i);
+                    ps.setString(1, row.email());
+                    ps.setString(2, hashes.get(i));
+                    ps.setString(3, row.name());
+                    ps.setString(4, row.microsoftId());
+                    ps.setString(5, row.userPrincipalName());
+                    ps.setString(6, loginType(row).name());
+                    ps.setTimestamp(7, now);
+                }));
+            state.created += rows.size();
+            createdCounter.increment(rows.size());
+        } catch (DuplicateKeyException e) {
+            log.warn("대량 등록 batch 중복 키 충돌, 행 단위로 다시 저장: {}", e.getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                ParsedRow row = rows.get(i);
+                try {
+                    jdbcTemplate.update(INSERT_SQL, row.email(), hashes.get(i), row.name(),
+                        row.microsoftId(), row.userPrincipalName(), loginType(row).name(), now);
+                    state.created++;
+                    createdCounter.increment();
+                } catch (DuplicateKeyException duplicate) {
+                    state.skip(row, "이미 등록된 이메일 또는 Microsoft ID");
+                }
+            }
+        }
+    }
+
+    private static List<Integer> indexes(int size) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static User.LoginType loginType(ParsedRow row) {
+        if (row.password() != null && row.microsoftId() != null) {
+            return User.LoginType.BOTH;
+        }
+        return row.password() != null ? User.LoginType.APP : User.LoginType.OAUTH;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * 입력 형식
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Content-Type으로 형식 결정 (text/csv 외에는 NDJSON)
+         */
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * 진행 상황 / 최종 결과
+     *
+     * @param processed 읽은 행 수
+     * @param created 등록한 사용자 수
+     * @param skipped 이미 등록되었거나 입력 내 중복으로 건너뛴 행 수
+     * @param failed 형식 오류로 등록하지 못한 행 수
+     * @param elapsedMillis 경과 시간 (밀리초)
+     * @param done 완료 여부
+     * @param errors 건너뛰거나 실패한 행 (최대 app.user.import.max-errors개, 완료 시에만 포함)
+     */
+    public record ImportProgress(long processed, long created, long skipped, long failed,
+                                 long elapsedMillis, boolean done, List<RowError> errors) {
+    }
+
+    /**
+     * 건너뛰거나 실패한 행
+     *
+     * @param line 입력 줄 번호 (1부터, CSV 헤더 포함)
+     * @param email 이메일 (읽을 수 있었던 경우)
+     * @param reason 사유
+     */
+    public record RowError(long line, String email, String reason) {
+    }
+
+    /**
+     * 대량 등록 한 번의 누적 상태 (요청 스레드에서만 접근)
+     */
+    private static class ImportState {
+        private final int maxErrors;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenMicrosoftIds = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long processed;
+        private long created;
+        private long skipped;
+        private long failed;
+
+        ImportState(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void skip(ParsedRow row, String reason) {
+            skipped++;
+            addError(row, reason);
+        }
+
+        void fail(ParsedRow row, String reason) {
+            failed++;
+            addError(row, reason);
+        }
+
+        private void addError(ParsedRow row, String reason) {
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row.line(), row.email(), reason));
+            }
+        }
+
+        ImportProgress snapshot(long startedAt, boolean done) {
+            return new ImportProgress(processed, created, skipped, failed,
+                System.currentTimeMillis() - startedAt, done, done ? List.copyOf(errors) : List.of());
+        }
+    }
+
+    /**
+     * 정규화된 입력 행 (빈 값은 null, 이메일은 앞뒤 공백 제거)
+     */
+    record ParsedRow(long line, String email, String name, String password,
+                             String microsoftId, String userPrincipalName, String parseError) {
+
+        static ParsedRow of(long line, UserImportRow row) {
+            return new ParsedRow(line, trimToNull(row.getEmail()), trimToNull(row.getName()),
+                emptyToNull(row.getPassword()), trimToNull(row.getMicrosoftId()),
+                trimToNull(row.getUserPrincipalName()), null);
+        }
+
+        static ParsedRow error(long line, String message) {
+            return new ParsedRow(line, null, null, null, null, null, message);
+        }
+
+        private static String trimToNull(String value) {
+            if (value == null) {
+                return null;
+            }
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 한 줄씩 읽어 행으로 변환 (입력 끝이면 null)
+     */
+    interface RowParser {
+        ParsedRow next() throws IOException;
+    }
+
+    /**
+     * NDJSON: 한 줄에 JSON 객체 하나 (빈 줄 무시)
+     */
+    private static class NdjsonRowParser implements RowParser {
+        private final BufferedReader reader;
+        private final ObjectReader objectReader;
+        private long line;
+
+        NdjsonRowParser(BufferedReader reader, ObjectReader objectReader) {
+            this.reader = reader;
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return ParsedRow.of(line, objectReader.readValue(text));
+                } catch (JsonProcessingException e) {
+                    return ParsedRow.error(line, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * CSV: 첫 줄은 헤더 (email, name, password, microsoftId, userPrincipalName 중 필요한 열, 순서 무관)
+     * 큰따옴표로 감싼 값 안의 쉼표/따옴표("")를 지원합니다. (값 안의 줄바꿈은 지원하지 않음)
+     */
+    static class CsvRowParser implements RowParser {
+        private final BufferedReader reader;
+        private Map<String, Integer> columns;
+        private long line;
+
+        CsvRowParser(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (columns == null) {
+                readHeader();
+            }
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                List<String> values = split(text);
+                UserImportRow row = new UserImportRow(
+                    value(values, "email"), value(values, "name"), value(values, "password"),
+                    value(values, "microsoftid"), value(values, "userprincipalname"));
+                return ParsedRow.of(line, row);
+            }
+            return null;
+        }
+
+        private void readHeader() throws IOException {
+            String header = reader.readLine();
+            line++;
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            // UTF-8 BOM 제거
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+            columns = new HashMap<>();
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("email")) {
+                throw new IllegalArgumentException("CSV 헤더에 email 열이 없습니다.");
+            }
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < values.size() ? values.get(index) : null;
+        }
+
+        private static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+}
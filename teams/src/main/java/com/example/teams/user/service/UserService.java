@@ -6,13 +6,14 @@ import com.example.teams.user.dto.RegisterRequest;
 import com.example.teams.user.entity.User;
 import com.example.teams.user.repository.UserRepository;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,7 +26,10 @@ import java.util.Optional;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final UserActivityWriter userActivityWriter;
+    private final EntityManagerFactory entityManagerFactory;
     
     /**
      * 회원가입
@@ -40,7 +44,7 @@ public class UserService {
         // 사용자 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .name(request.getName())
                 .loginType(User.LoginType.APP)
                 .createdAt(LocalDateTime.now())
@@ -54,13 +58,27 @@ public class UserService {
     /**
      * 앱 자체 로그인
      */
-    @Transactional
     public User login(LoginRequest request) {
+        return login(request, null);
+    }
+    
+    /**
+     * 앱 자체 로그인 (요청 IP 기준 시도 횟수 제한 포함)
+     * BCrypt 검증이 DB 트랜잭션(커넥션)을 붙잡지 않도록 트랜잭션 없이 조회/검증하고,
+     * 마지막 로그인 시간은 지연 저장합니다.
+     * 
+     * @param request 로그인 요청
+     * @param clientIp 요청 IP (없으면 IP 제한 생략)
+     */
+    public User login(LoginRequest request, String clientIp) {
+        // BCrypt 검증 전에 시도 횟수 제한 확인
+        loginAttemptLimiter.acquire(clientIp, request.getEmail());
+        
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다."));
         
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new UnauthorizedException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
         
@@ -69,9 +87,20 @@ public class UserService {
             throw new UnauthorizedException("앱 로그인이 불가능한 계정입니다.");
         }
         
-        // 마지막 로그인 시간 업데이트
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        loginAttemptLimiter.reset(clientIp, request.getEmail());
+        
+        // BCrypt cost가 올라간 경우 평문 비밀번호를 알고 있는 지금 재해시
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            String hash = passwordHashingService.encode(request.getPassword());
+            userRepository.updatePassword(user.getId(), hash);
+            user.setPassword(hash);
+            // 엔티티를 거치지 않고 변경했으므로 2차 캐시의 User 제거 (UserActivityWriter와 같은 방식)
+            entityManagerFactory.getCache().evict(User.class, user.getId());
+            log.info("비밀번호 재해시 (cost 변경): {}", user.getEmail());
+        }
+        
+        // 마지막 로그인 시간은 지연 저장 (로그인 응답에 DB 쓰기 미포함)
+        userActivityWriter.recordLogin(user.getId(), LocalDateTime.now());
         
         log.info("앱 로그인 성공: {}", user.getEmail());
         return user;
@@ -79,47 +108,45 @@ public class UserService {
     
     /**
      * OAuth 로그인 시 사용자 찾기
-     * Microsoft ID로 사용자를 찾고, 없으면 로그인 실패 처리합니다.
+     * Microsoft ID로 사용자를 찾고, 없으면 이메일이 같은 기존 앱 계정에 연동합니다.
+     * 두 키를 한 번의 잠금 조회로 확인하므로 같은 사용자의 동시 로그인이 중복 연동하지 않습니다.
+     * 찾지 못하면 로그인 실패 처리합니다.
      */
     @Transactional
     public User findOAuthUser(String microsoftId, String email, String name, String userPrincipalName) {
-        Optional<User> existingUser = userRepository.findByMicrosoftId(microsoftId);
-        
-        if (existingUser.isPresent()) {
-            User user = existingUser.get();
-            // OAuth 정보 업데이트
-            user.setLastLoginAt(LocalDateTime.now());
-            if (user.getOauthLinkedAt() == null) {
-                user.setOauthLinkedAt(LocalDateTime.now());
-            }
-            // 로그인 타입 업데이트 (OAuth 가능하도록)
-            if (user.getLoginType() == User.LoginType.APP) {
-                user.setLoginType(User.LoginType.BOTH);
-            }
-            return userRepository.save(user);
+        List<User> candidates = userRepository.lockByMicrosoftIdOrEmail(
+                microsoftId, email != null && !email.isEmpty() ? email : null);
+        
+        // Microsoft ID 일치 우선, 없으면 이메일 일치 (기존 앱 계정과 연동)
+        User user = candidates.stream()
+                .filter(candidate -> microsoftId.equals(candidate.getMicrosoftId()))
+                .findFirst()
+                .orElseGet(() -> candidates.stream().findFirst().orElse(null));
+        
+        if (user == null) {
+            // 사용자를 찾을 수 없으면 로그인 실패
+            throw new UnauthorizedException("등록된 사용자가 아닙니다. 먼저 회원가입을 해주세요.");
         }
         
-        // Microsoft ID로 찾지 못한 경우, 이메일로 찾기 (기존 앱 계정과 연동)
-        if (email != null && !email.isEmpty()) {
-            Optional<User> userByEmail = userRepository.findByEmail(email);
-            if (userByEmail.isPresent()) {
-                User user = userByEmail.get();
-                // 기존 앱 계정에 OAuth 정보 추가
-                user.setMicrosoftId(microsoftId);
-                user.setUserPrincipalName(userPrincipalName);
-                user.setOauthLinkedAt(LocalDateTime.now());
-                user.setLastLoginAt(LocalDateTime.now());
-                // 로그인 타입을 BOTH로 변경
-                if (user.getLoginType() == User.LoginType.APP) {
-                    user.setLoginType(User.LoginType.BOTH);
-                }
-                log.info("기존 앱 계정에 OAuth 연동: {}", user.getEmail());
-                return userRepository.save(user);
-            }
+        if (!microsoftId.equals(user.getMicrosoftId())) {
+            // 기존 앱 계정에 OAuth 정보 추가
+            user.setMicrosoftId(microsoftId);
+            user.setUserPrincipalName(userPrincipalName);
+            user.setOauthLinkedAt(LocalDateTime.now());
+            log.info("기존 앱 계정에 OAuth 연동: {}", user.getEmail());
+        } else if (user.getOauthLinkedAt() == null) {
+            user.setOauthLinkedAt(LocalDateTime.now());
         }
         
-        // 사용자를 찾을 수 없으면 로그인 실패
-        throw new UnauthorizedException("등록된 사용자가 아닙니다. 먼저 회원가입을 해주세요.");
+        // 로그인 타입 업데이트 (OAuth 가능하도록)
+        if (user.getLoginType() == User.LoginType.APP) {
+            user.setLoginType(User.LoginType.BOTH);
+        }
+        
+        // 잠금 조회한 엔티티는 영속 상태이므로 변경된 경우에만 커밋 시 UPDATE
+        // 마지막 로그인 시간은 지연 저장
+        userActivityWriter.recordLogin(user.getId(), LocalDateTime.now());
+        return user;
     }
     
     /**
@@ -161,27 +188,18 @@ public class UserService {
     }
     
     /**
-     * 마지막 로그인 시간 업데이트
+     * 마지막 로그인 시간 업데이트 (지연 저장, {@link UserActivityWriter})
      */
-    @Transactional
     public void updateLastLoginAt(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        userActivityWriter.recordLogin(userId, LocalDateTime.now());
     }
     
     /**
-     * Refresh Token 저장
+     * Refresh Token 저장 (지연 저장, {@link UserActivityWriter})
      * Access Token은 세션에만 저장하고, Refresh Token만 DB에 저장
      */
-    @Transactional
     public void saveRefreshToken(Long userId, String refreshToken) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        user.setRefreshToken(refreshToken);
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        userActivityWriter.recordRefreshToken(userId, refreshToken, LocalDateTime.now());
     }
 }
 
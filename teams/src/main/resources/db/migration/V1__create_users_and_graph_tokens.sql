@@ -0,0 +1,32 @@
+-- 앱 사용자 (User 엔티티)
+CREATE TABLE users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email               VARCHAR(255) NOT NULL,
+    password            VARCHAR(255),
+    name                VARCHAR(255) NOT NULL,
+    microsoft_id        VARCHAR(255),
+    user_principal_name VARCHAR(255),
+    login_type          VARCHAR(16)  NOT NULL,
+    refresh_token       TEXT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    last_login_at       TIMESTAMP(6),
+    oauth_linked_at     TIMESTAMP(6),
+    CONSTRAINT ck_users_login_type CHECK (login_type IN ('APP', 'OAUTH', 'BOTH'))
+);
+
+-- UserRepository 조회 키 (unique 인덱스)
+-- findByEmail / existsByEmail / natural id 조회 / lockByMicrosoftIdOrEmail
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+-- findByMicrosoftId / existsByMicrosoftId / lockByMicrosoftIdOrEmail (NULL은 중복 허용)
+CREATE UNIQUE INDEX uk_users_microsoft_id ON users (microsoft_id);
+
+-- 서버 측 Graph 토큰 (STATELESS 세션 모드, GraphToken 엔티티)
+CREATE TABLE graph_tokens (
+    token_key    VARCHAR(64)  PRIMARY KEY,
+    access_token TEXT,
+    sso_token    TEXT,
+    expires_at   TIMESTAMP(6) NOT NULL
+);
+
+-- 만료 토큰 정리 (GraphTokenStore.deleteExpired)
+CREATE INDEX idx_graph_tokens_expires_at ON graph_tokens (expires_at);
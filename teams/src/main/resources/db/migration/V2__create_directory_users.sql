@@ -0,0 +1,27 @@
+-- 디렉터리(Entra ID) 사용자 미러 (DirectoryUser 엔티티, Graph users delta로 동기화)
+CREATE TABLE directory_users (
+    id                      VARCHAR(36)  PRIMARY KEY,
+    user_principal_name     VARCHAR(255),
+    mail                    VARCHAR(255),
+    display_name            VARCHAR(255),
+    department              VARCHAR(255),
+    user_principal_name_key VARCHAR(255),
+    mail_key                VARCHAR(255),
+    display_name_key        VARCHAR(255),
+    synced_at               TIMESTAMP(6) NOT NULL
+);
+
+-- 계정 매칭 / 관리자 접두어 검색 (소문자 키)
+CREATE INDEX idx_directory_users_upn_key ON directory_users (user_principal_name_key);
+CREATE INDEX idx_directory_users_mail_key ON directory_users (mail_key);
+CREATE INDEX idx_directory_users_display_name_key ON directory_users (display_name_key);
+-- 전체 재동기화 후 삭제된 사용자 정리
+CREATE INDEX idx_directory_users_synced_at ON directory_users (synced_at);
+
+-- 디렉터리 동기화 상태 (DirectorySyncState 엔티티)
+CREATE TABLE directory_sync_state (
+    name              VARCHAR(32)   PRIMARY KEY,
+    delta_link        VARCHAR(4096),
+    last_synced_at    TIMESTAMP(6),
+    last_full_sync_at TIMESTAMP(6)
+);
@@ -0,0 +1,9 @@
+-- 흐름 상태 (STATELESS 세션 모드의 플래시 메시지/SAML IdP 요청, SessionFlowState 엔티티)
+CREATE TABLE session_flow_states (
+    flow_key   VARCHAR(64)  PRIMARY KEY,
+    payload    TEXT         NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+-- 만료 항목 정리 (SessionFlowStore.deleteExpired)
+CREATE INDEX idx_session_flow_states_expires_at ON session_flow_states (expires_at);
@@ -116,7 +116,28 @@ async function createChannel() {
     }
 }
 
-// 채널 메시지 조회
+// 채널 메시지 답글 (replies가 null이면 답글 조회 실패 또는 시간 초과)
+function renderReplies(replies) {
+    if (replies === null || replies === undefined) {
+        return '<p class="replies-unavailable">답글을 불러오지 못했습니다.</p>';
+    }
+    if (replies.length === 0) {
+        return '';
+    }
+    let html = '<div class="message-replies">';
+    replies.forEach(reply => {
+        html += `
+            <div class="message-item">
+                <p><strong>${reply.userName || 'N/A'}</strong> ${reply.createdDateTime || ''}</p>
+                <p>${reply.body || ''}</p>
+            </div>
+        `;
+    });
+    html += '</div>';
+    return html;
+}
+
+// 채널 메시지 조회 (답글 포함)
 async function loadMessages() {
     const teamId = document.getElementById('teamIdForMessages').value.trim();
     const channelId = document.getElementById('channelIdForMessages').value.trim();
@@ -130,7 +151,7 @@ async function loadMessages() {
     container.innerHTML = '<div class="loading">로딩 중...</div>';
     
     try {
-        const response = await fetch(`/api/teams/${teamId}/channels/${channelId}/messages`);
+        const response = await fetch(`/api/teams/${teamId}/channels/${channelId}/messages?includeReplies=true`);
         if (!response.ok) throw new Error('API 호출 실패');
         
         const messages = await response.json();
@@ -148,6 +169,7 @@ async function loadMessages() {
                     <p><strong>시간:</strong> ${message.createdDateTime || 'N/A'}</p>
                     <p><strong>내용:</strong> ${message.body || 'N/A'}</p>
                     <a href="${message.webUrl}" target="_blank">링크</a>
+                    ${renderReplies(message.replies)}
                 </div>
             `;
         });
@@ -0,0 +1,118 @@
+package com.example.teams;
+
+import com.example.teams.graphmock.GraphMockServer;
+import com.example.teams.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 이미지 스모크 테스트 (mvn -PnativeTest test)
+ * native 프로파일은 실험적이며 이 테스트는 아직 CI에서 네이티브로 실행되지 않습니다. (pom.xml native 프로파일 참고)
+ *
+ * 리플렉션/리소스 힌트가 빠지면 네이티브 이미지에서만 실패하는 경로를 한 번씩 호출합니다.
+ * JVM에서도 그대로 실행되며, 네이티브 빌드에서 제외되는 Mockito 등은 사용하지 않습니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("graphmock")
+class NativeSmokeTests {
+
+	private static final GraphMockServer MOCK =
+		GraphMockServer.start(0, new GraphMockServer.Settings(0, 0, 0.0, 0, 3, 64));
+
+	@DynamicPropertySource
+	static void graphBaseUrl(DynamicPropertyRegistry registry) {
+		registry.add("azure.graph-base-url", MOCK::baseUrl);
+	}
+
+	@AfterAll
+	static void stopMock() {
+		MOCK.close();
+	}
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void healthIsUp() {
+		ResponseEntity<JsonNode> response = restTemplate.getForEntity("/actuator/health", JsonNode.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().get("status").asText()).isEqualTo("UP");
+	}
+
+	@Test
+	void indexTemplateRenders() {
+		// Thymeleaf 템플릿 리소스
+		ResponseEntity<String> response = restTemplate.getForEntity("/", String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_HTML)).isTrue();
+		assertThat(response.getBody()).contains("/auth/saml/metadata");
+	}
+
+	@Test
+	void samlMetadataIsMarshalled() {
+		// OpenSAML 빌더/마샬러 (SamlRuntimeHints)
+		ResponseEntity<String> response = restTemplate.getForEntity("/auth/saml/metadata", String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).contains("EntityDescriptor", "IDPSSODescriptor");
+	}
+
+	@Test
+	void registrationPersistsUser() {
+		// Hibernate 엔티티 + 2차 캐시, BCrypt
+		String email = "smoke-" + UUID.randomUUID() + "@example.com";
+		MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+		form.add("email", email);
+		form.add("password", "smoke-password-1");
+		form.add("name", "Smoke Test");
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+		restTemplate.postForEntity("/auth/app/register", new HttpEntity<>(form, headers), String.class);
+
+		assertThat(userRepository.existsByEmail(email)).isTrue();
+	}
+
+	@Test
+	void graphCallGoesThroughKiota() {
+		// Graph SDK(Kiota) 직렬화 + OkHttp
+		ResponseEntity<String> login = restTemplate.postForEntity("/test/graphmock/login", null, String.class);
+		assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+		List<String> cookies = login.getHeaders().get(HttpHeaders.SET_COOKIE);
+		assertThat(cookies).isNotEmpty();
+		HttpHeaders headers = new HttpHeaders();
+		cookies.forEach(cookie -> headers.add(HttpHeaders.COOKIE, cookie.split(";", 2)[0]));
+
+		ResponseEntity<JsonNode> teams = restTemplate.exchange("/api/teams", HttpMethod.GET,
+			new HttpEntity<>(headers), JsonNode.class);
+
+		assertThat(teams.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(teams.getBody()).hasSize(3);
+	}
+
+}
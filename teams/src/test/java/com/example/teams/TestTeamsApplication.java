@@ -0,0 +1,24 @@
+package com.example.teams;
+
+import com.example.teams.graphmock.GraphMockServer;
+import org.springframework.boot.SpringApplication;
+
+/**
+ * Graph 대역 서버와 함께 애플리케이션 실행 (부하 테스트용)
+ *
+ * mvn spring-boot:test-run
+ * 대역 서버 설정은 시스템 속성 graphmock.* 로 지정합니다. (예: -Dgraphmock.latencyMillis=80 -Dgraphmock.throttleRate=0.01)
+ */
+public class TestTeamsApplication {
+
+	public static void main(String[] args) {
+		int port = Integer.getInteger("graphmock.port", 8089);
+		GraphMockServer mock = GraphMockServer.start(port, GraphMockServer.Settings.fromSystemProperties());
+		Runtime.getRuntime().addShutdownHook(new Thread(mock::close));
+
+		SpringApplication.from(TeamsApplication::main)
+			.withAdditionalProfiles("graphmock")
+			.run(args);
+	}
+
+}
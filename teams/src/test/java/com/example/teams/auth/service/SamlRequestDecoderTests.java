@@ -0,0 +1,129 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.service.SamlRequestDecoder.AuthnRequestInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SAML 요청 디코딩 테스트 (바인딩별 디코딩, 압축 해제 크기 제한, DTD 거절)
+ */
+class SamlRequestDecoderTests {
+
+	private static final String AUTHN_REQUEST =
+		"<samlp:AuthnRequest xmlns:samlp=\"urn:oasis:names:tc:SAML:2.0:protocol\""
+			+ " xmlns:saml=\"urn:oasis:names:tc:SAML:2.0:assertion\""
+			+ " ID=\"_req-1\" Version=\"2.0\" IssueInstant=\"2024-01-01T00:00:00Z\""
+			+ " AssertionConsumerServiceURL=\"https://sp.example.com/acs\">"
+			+ "<saml:Issuer>https://sp.example.com</saml:Issuer>"
+			+ "%s"
+			+ "</samlp:AuthnRequest>";
+
+	private static final String LOGOUT_REQUEST =
+		"<samlp:LogoutRequest xmlns:samlp=\"urn:oasis:names:tc:SAML:2.0:protocol\""
+			+ " xmlns:saml=\"urn:oasis:names:tc:SAML:2.0:assertion\""
+			+ " ID=\"_logout-1\" Version=\"2.0\" IssueInstant=\"2024-01-01T00:00:00Z\">"
+			+ "<saml:Issuer>https://sp.example.com</saml:Issuer>"
+			+ "<saml:NameID>user@example.com</saml:NameID>"
+			+ "<samlp:SessionIndex>_s1</samlp:SessionIndex>"
+			+ "<samlp:SessionIndex>_s2</samlp:SessionIndex>"
+			+ "</samlp:LogoutRequest>";
+
+	private final SamlRequestDecoder decoder = new SamlRequestDecoder(config(4096), mock(SamlSignatureVerifier.class));
+
+	@Test
+	void redirectBindingRequestIsInflatedAndDecoded() {
+		AuthnRequestInfo request = decoder.decode(deflate(authnRequest("")), true);
+
+		assertThat(request).isEqualTo(
+			new AuthnRequestInfo("_req-1", "https://sp.example.com", "https://sp.example.com/acs"));
+	}
+
+	@Test
+	void postBindingRequestIsDecoded() {
+		AuthnRequestInfo request = decoder.decode(base64(authnRequest("")), false);
+
+		assertThat(request.id()).isEqualTo("_req-1");
+	}
+
+	@Test
+	void inflatedSizeIsLimited() {
+		// 압축하면 수백 바이트지만 풀면 제한(4 KB)을 넘는 요청
+		String padded = authnRequest("<!--" + " ".repeat(64 * 1024) + "-->");
+		String encoded = deflate(padded);
+		assertThat(encoded.length()).isLessThan(4096);
+
+		assertThatThrownBy(() -> decoder.decode(encoded, true))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasStackTraceContaining("크기 제한 초과");
+	}
+
+	@Test
+	void oversizedEncodedRequestIsRejectedBeforeDecoding() {
+		String encoded = base64(authnRequest("<!--" + "x".repeat(8 * 1024) + "-->"));
+
+		assertThatThrownBy(() -> decoder.decode(encoded, false))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("너무 큽니다");
+	}
+
+	@Test
+	void doctypeIsRejected() {
+		String xml = "<!DOCTYPE foo [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>" + authnRequest("");
+
+		assertThatThrownBy(() -> decoder.decode(base64(xml), false))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void invalidRequestsAreRejected() {
+		assertThatThrownBy(() -> decoder.decode("%%%", false))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> decoder.decode(base64("<not-xml"), false))
+			.isInstanceOf(IllegalArgumentException.class);
+		// 다른 종류의 요청
+		assertThatThrownBy(() -> decoder.decode(base64(LOGOUT_REQUEST), false))
+			.isInstanceOf(IllegalArgumentException.class);
+		// ID 없음
+		assertThatThrownBy(() -> decoder.decode(base64(authnRequest("").replace("ID=\"_req-1\" ", "")), false))
+			.isInstanceOf(IllegalArgumentException.class);
+		// NameID 없음 (서명 검증은 SamlSignatureVerifierTests)
+		assertThatThrownBy(() -> decoder.decodePostLogoutRequest(
+				base64(LOGOUT_REQUEST.replace("<saml:NameID>user@example.com</saml:NameID>", ""))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String authnRequest(String extra) {
+		return String.format(AUTHN_REQUEST, extra);
+	}
+
+	private static String base64(String xml) {
+		return Base64.getEncoder().encodeToString(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String deflate(String xml) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+			out.write(xml.getBytes(StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return Base64.getEncoder().encodeToString(buffer.toByteArray());
+	}
+
+	private static AppSamlConfig config(int maxRequestBytes) {
+		AppSamlConfig config = new AppSamlConfig();
+		config.setMaxRequestBytes(maxRequestBytes);
+		return config;
+	}
+
+}
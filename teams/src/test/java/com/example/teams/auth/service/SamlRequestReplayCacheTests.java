@@ -0,0 +1,50 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SAML 요청 ID 재사용 확인 캐시 테스트
+ */
+class SamlRequestReplayCacheTests {
+
+	@Test
+	void sameIdIsAcceptedOnlyOnce() {
+		SamlRequestReplayCache cache = cache(600, 100);
+
+		assertThat(cache.markIfNew("_a")).isTrue();
+		assertThat(cache.markIfNew("_a")).isFalse();
+		assertThat(cache.markIfNew("_b")).isTrue();
+	}
+
+	@Test
+	void expiredIdIsAcceptedAgain() {
+		SamlRequestReplayCache cache = cache(0, 100);
+
+		assertThat(cache.markIfNew("_a")).isTrue();
+		assertThat(cache.markIfNew("_a")).isTrue();
+	}
+
+	@Test
+	void oldestIdIsEvictedWhenFull() {
+		SamlRequestReplayCache cache = cache(600, 2);
+
+		assertThat(cache.markIfNew("_a")).isTrue();
+		assertThat(cache.markIfNew("_b")).isTrue();
+		assertThat(cache.markIfNew("_c")).isTrue();
+		// 가장 최근 ID는 유지
+		assertThat(cache.markIfNew("_c")).isFalse();
+		// 가장 오래된 ID는 크기 제한으로 제거됨
+		assertThat(cache.markIfNew("_a")).isTrue();
+	}
+
+	private static SamlRequestReplayCache cache(int ttlSeconds, int maxSize) {
+		AppSamlConfig config = new AppSamlConfig();
+		config.setRequestReplayTtlSeconds(ttlSeconds);
+		config.setRequestReplayCacheSize(maxSize);
+		return new SamlRequestReplayCache(config);
+	}
+
+}
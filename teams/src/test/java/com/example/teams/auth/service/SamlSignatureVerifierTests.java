@@ -0,0 +1,267 @@
+package com.example.teams.auth.service;
+
+import com.example.teams.auth.config.AppSamlConfig;
+import com.example.teams.auth.config.AppSamlInitializer;
+import com.example.teams.auth.service.SamlRequestDecoder.LogoutRequestInfo;
+import com.example.teams.shared.util.CertificateGenerator;
+import net.shibboleth.utilities.java.support.xml.SerializeSupport;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.saml2.core.Issuer;
+import org.opensaml.saml.saml2.core.LogoutRequest;
+import org.opensaml.saml.saml2.core.NameID;
+import org.opensaml.saml.saml2.core.SessionIndex;
+import org.opensaml.security.x509.X509Credential;
+import org.opensaml.xmlsec.signature.Signature;
+import org.opensaml.xmlsec.signature.support.SignatureConstants;
+import org.opensaml.xmlsec.signature.support.Signer;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LogoutRequest 서명 검증 테스트 (HTTP-Redirect 쿼리 서명, HTTP-POST XML 서명)
+ */
+class SamlSignatureVerifierTests {
+
+	private static final String LOGOUT_REQUEST =
+		"<samlp:LogoutRequest xmlns:samlp=\"urn:oasis:names:tc:SAML:2.0:protocol\""
+			+ " xmlns:saml=\"urn:oasis:names:tc:SAML:2.0:assertion\""
+			+ " ID=\"_logout-1\" Version=\"2.0\" IssueInstant=\"2024-01-01T00:00:00Z\">"
+			+ "<saml:Issuer>https://sts.windows.net/tenant/</saml:Issuer>"
+			+ "<saml:NameID>user@example.com</saml:NameID>"
+			+ "<samlp:SessionIndex>_s1</samlp:SessionIndex>"
+			+ "</samlp:LogoutRequest>";
+
+	@TempDir
+	Path directory;
+
+	private X509Credential rpCredential;
+	private X509Credential otherCredential;
+	private SamlRequestDecoder decoder;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		rpCredential = generateCredential("rp");
+		otherCredential = generateCredential("other");
+		decoder = decoder(directory.resolve("rp-cert.pem").toUri().toString());
+	}
+
+	@Test
+	void signedRedirectRequestIsDecoded() throws Exception {
+		String query = redirectQuery(deflate(LOGOUT_REQUEST), "state", rpCredential);
+
+		LogoutRequestInfo request = decoder.decodeRedirectLogoutRequest(query);
+
+		assertThat(request.id()).isEqualTo("_logout-1");
+		assertThat(request.issuer()).isEqualTo("https://sts.windows.net/tenant/");
+		assertThat(request.nameId()).isEqualTo("user@example.com");
+		assertThat(request.sessionIndexes()).isEqualTo(List.of("_s1"));
+	}
+
+	@Test
+	void unsignedRedirectRequestIsRejected() {
+		String query = "SAMLRequest=" + urlEncode(deflate(LOGOUT_REQUEST)) + "&RelayState=state";
+
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(query))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명되지 않은");
+	}
+
+	@Test
+	void tamperedRedirectRequestIsRejected() throws Exception {
+		String query = redirectQuery(deflate(LOGOUT_REQUEST), "state", rpCredential);
+		// 서명은 그대로 두고 SAMLRequest만 다른 사용자로 교체
+		String otherRequest = urlEncode(deflate(LOGOUT_REQUEST.replace("user@example.com", "admin@example.com")));
+		String tampered = "SAMLRequest=" + otherRequest + query.substring(query.indexOf("&RelayState="));
+
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(tampered))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명이 올바르지 않습니다");
+		// RelayState 변경도 거절
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(query.replace("RelayState=state", "RelayState=other")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void redirectRequestSignedByOtherKeyIsRejected() throws Exception {
+		String query = redirectQuery(deflate(LOGOUT_REQUEST), null, otherCredential);
+
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(query))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명이 올바르지 않습니다");
+	}
+
+	@Test
+	void weakRedirectAlgorithmIsRejected() throws Exception {
+		String query = "SAMLRequest=" + urlEncode(deflate(LOGOUT_REQUEST))
+			+ "&SigAlg=" + urlEncode(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA1);
+		String signature = Base64.getEncoder().encodeToString(sign("SHA1withRSA", query, rpCredential));
+
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(query + "&Signature=" + urlEncode(signature)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("허용되지 않은 서명 알고리즘");
+	}
+
+	@Test
+	void duplicateRedirectParameterIsRejected() throws Exception {
+		String query = redirectQuery(deflate(LOGOUT_REQUEST), null, rpCredential);
+
+		assertThatThrownBy(() -> decoder.decodeRedirectLogoutRequest(query + "&SAMLRequest=x"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("중복");
+	}
+
+	@Test
+	void signedPostRequestIsDecoded() throws Exception {
+		LogoutRequestInfo request = decoder.decodePostLogoutRequest(base64(signedLogoutRequest(rpCredential)));
+
+		assertThat(request.id()).isEqualTo("_logout-2");
+		assertThat(request.nameId()).isEqualTo("user@example.com");
+		assertThat(request.sessionIndexes()).isEqualTo(List.of("_s1"));
+	}
+
+	@Test
+	void unsignedPostRequestIsRejected() {
+		assertThatThrownBy(() -> decoder.decodePostLogoutRequest(base64(LOGOUT_REQUEST)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명되지 않은");
+	}
+
+	@Test
+	void tamperedPostRequestIsRejected() throws Exception {
+		String tampered = signedLogoutRequest(rpCredential).replace("user@example.com", "admin@example.com");
+
+		assertThatThrownBy(() -> decoder.decodePostLogoutRequest(base64(tampered)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명이 올바르지 않습니다");
+	}
+
+	@Test
+	void postRequestSignedByOtherKeyIsRejected() throws Exception {
+		String xml = signedLogoutRequest(otherCredential);
+
+		assertThatThrownBy(() -> decoder.decodePostLogoutRequest(base64(xml)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("서명이 올바르지 않습니다");
+	}
+
+	@Test
+	void requestsAreRejectedWithoutConfiguredCertificate() throws Exception {
+		SamlRequestDecoder unconfigured = decoder("");
+		String query = redirectQuery(deflate(LOGOUT_REQUEST), null, rpCredential);
+		String xml = signedLogoutRequest(rpCredential);
+
+		assertThatThrownBy(() -> unconfigured.decodeRedirectLogoutRequest(query))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("인증서가 설정되지 않아");
+		assertThatThrownBy(() -> unconfigured.decodePostLogoutRequest(base64(xml)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("인증서가 설정되지 않아");
+	}
+
+	private SamlRequestDecoder decoder(String certificatePath) {
+		AppSamlConfig config = new AppSamlConfig();
+		config.setRelyingPartyCertificatePath(certificatePath);
+		SamlSignatureVerifier verifier = new SamlSignatureVerifier(config, new DefaultResourceLoader());
+		verifier.initialize();
+		return new SamlRequestDecoder(config, verifier);
+	}
+
+	private X509Credential generateCredential(String name) throws Exception {
+		Path certificate = directory.resolve(name + "-cert.pem");
+		Path privateKey = directory.resolve(name + "-key.pem");
+		CertificateGenerator.generateCertificate(certificate.toString(), privateKey.toString());
+
+		AppSamlConfig config = new AppSamlConfig();
+		config.setCertificatePath(certificate.toUri().toString());
+		config.setPrivateKeyPath(privateKey.toUri().toString());
+		SamlCredentialManager credentialManager = new SamlCredentialManager(config, new DefaultResourceLoader());
+		credentialManager.initialize();
+		assertThat(credentialManager.getSigningCredential()).isNotNull();
+		return credentialManager.getSigningCredential();
+	}
+
+	/**
+	 * HTTP-Redirect 바인딩 서명 쿼리 문자열 (SAML Bindings 3.4.4.1)
+	 */
+	private static String redirectQuery(String samlRequest, String relayState, X509Credential credential) throws Exception {
+		StringBuilder query = new StringBuilder("SAMLRequest=").append(urlEncode(samlRequest));
+		if (relayState != null) {
+			query.append("&RelayState=").append(urlEncode(relayState));
+		}
+		query.append("&SigAlg=").append(urlEncode(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256));
+		String signature = Base64.getEncoder().encodeToString(sign("SHA256withRSA", query.toString(), credential));
+		return query.append("&Signature=").append(urlEncode(signature)).toString();
+	}
+
+	private static byte[] sign(String algorithm, String content, X509Credential credential) throws Exception {
+		java.security.Signature signer = java.security.Signature.getInstance(algorithm);
+		signer.initSign(credential.getPrivateKey());
+		signer.update(content.getBytes(StandardCharsets.UTF_8));
+		return signer.sign();
+	}
+
+	/**
+	 * enveloped XML 서명된 LogoutRequest
+	 */
+	private static String signedLogoutRequest(X509Credential credential) throws Exception {
+		AppSamlInitializer.ensureInitialized();
+		LogoutRequest request = (LogoutRequest) XMLObjectSupport.buildXMLObject(LogoutRequest.DEFAULT_ELEMENT_NAME);
+		request.setID("_logout-2");
+		request.setIssueInstant(DateTime.now(DateTimeZone.UTC));
+
+		Issuer issuer = (Issuer) XMLObjectSupport.buildXMLObject(Issuer.DEFAULT_ELEMENT_NAME);
+		issuer.setValue("https://sts.windows.net/tenant/");
+		request.setIssuer(issuer);
+		NameID nameId = (NameID) XMLObjectSupport.buildXMLObject(NameID.DEFAULT_ELEMENT_NAME);
+		nameId.setValue("user@example.com");
+		request.setNameID(nameId);
+		SessionIndex sessionIndex = (SessionIndex) XMLObjectSupport.buildXMLObject(SessionIndex.DEFAULT_ELEMENT_NAME);
+		sessionIndex.setSessionIndex("_s1");
+		request.getSessionIndexes().add(sessionIndex);
+
+		Signature signature = (Signature) XMLObjectSupport.buildXMLObject(Signature.DEFAULT_ELEMENT_NAME);
+		signature.setSigningCredential(credential);
+		signature.setSignatureAlgorithm(SignatureConstants.ALGO_ID_SIGNATURE_RSA_SHA256);
+		signature.setCanonicalizationAlgorithm(SignatureConstants.ALGO_ID_C14N_EXCL_OMIT_COMMENTS);
+		request.setSignature(signature);
+
+		XMLObjectSupport.marshall(request);
+		Signer.signObject(signature);
+		return SerializeSupport.nodeToString(request.getDOM());
+	}
+
+	private static String urlEncode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static String base64(String xml) {
+		return Base64.getEncoder().encodeToString(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String deflate(String xml) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+			out.write(xml.getBytes(StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return Base64.getEncoder().encodeToString(buffer.toByteArray());
+	}
+
+}
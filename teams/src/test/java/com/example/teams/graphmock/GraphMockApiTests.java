@@ -0,0 +1,156 @@
+package com.example.teams.graphmock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Graph 대역 서버를 통한 /api/** 호출 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("graphmock")
+class GraphMockApiTests {
+
+	private static final GraphMockServer.Settings SETTINGS =
+		new GraphMockServer.Settings(0, 0, 0.0, 0, 5, 64);
+
+	private static final GraphMockServer MOCK = GraphMockServer.start(0, SETTINGS);
+
+	@DynamicPropertySource
+	static void graphBaseUrl(DynamicPropertyRegistry registry) {
+		registry.add("azure.graph-base-url", MOCK::baseUrl);
+	}
+
+	@AfterAll
+	static void stopMock() {
+		MOCK.close();
+	}
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void resetSettings() {
+		MOCK.updateSettings(SETTINGS);
+	}
+
+	@Test
+	void teamsAndChannelsComeFromMock() {
+		HttpHeaders headers = login();
+
+		ResponseEntity<JsonNode> teams = get("/api/teams", headers);
+		assertThat(teams.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(teams.getBody()).hasSize(5);
+		assertThat(teams.getBody().get(0).get("displayName").asText()).isEqualTo("Mock Team 0");
+
+		ResponseEntity<JsonNode> channels = get("/api/teams/team-0/channels", headers);
+		assertThat(channels.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(channels.getBody()).hasSize(5);
+	}
+
+	@Test
+	void chatMessagesComeFromMock() {
+		HttpHeaders headers = login();
+
+		ResponseEntity<JsonNode> messages = get("/api/chats/chat-0/messages", headers);
+		assertThat(messages.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(messages.getBody()).hasSize(5);
+		assertThat(messages.getBody().get(0).get("from").asText()).isEqualTo("Mock User 0");
+	}
+
+	@Test
+	void channelRepliesAreFetchedPerMessage() {
+		HttpHeaders headers = login();
+		long before = MOCK.requestCount();
+
+		ResponseEntity<JsonNode> messages = get("/api/teams/team-0/channels/channel-0/messages?includeReplies=true", headers);
+
+		assertThat(messages.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(messages.getBody()).hasSize(5);
+		messages.getBody().forEach(message -> assertThat(message.get("replies")).hasSize(5));
+		// 메시지 목록 1회 + 메시지별 답글 5회
+		assertThat(MOCK.requestCount() - before).isEqualTo(6);
+	}
+
+	@Test
+	void searchReturnsOnlyMessagesTheUserHasRetrieved() throws InterruptedException {
+		HttpHeaders headers = login();
+		assertThat(get("/api/chats/chat-0/messages", headers).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+		// 색인은 색인 스레드에서 처리되므로 반영될 때까지 대기
+		ResponseEntity<JsonNode> results = get("/api/search/messages?q=Mock", headers);
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (results.getBody() != null && results.getBody().size() < 5 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			results = get("/api/search/messages?q=Mock", headers);
+		}
+		assertThat(results.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(results.getBody()).hasSize(5);
+		results.getBody().forEach(result -> {
+			assertThat(result.get("chatId").asText()).isEqualTo("chat-0");
+			assertThat(result.get("snippet").asText()).contains("<mark>");
+		});
+
+		// 다른 사용자(다른 oid)는 조회하지 않은 메시지를 검색할 수 없음
+		ResponseEntity<JsonNode> other = get("/api/search/messages?q=Mock", login());
+		assertThat(other.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(other.getBody()).isEmpty();
+	}
+
+	@Test
+	void throttledGraphCallIsReportedAs429() {
+		HttpHeaders headers = login();
+		MOCK.updateSettings(SETTINGS.with(Map.of("throttleRate", "1.0")));
+
+		ResponseEntity<JsonNode> events = get("/api/me/events", headers);
+
+		assertThat(events.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(MOCK.throttledCount()).isPositive();
+		// 재시도를 포함한 왕복마다 실제 HTTP 상태로 기록
+		assertThat(meterRegistry.find("graph.request.duration")
+			.tag("operation", "getMyEvents")
+			.tag("status", "429")
+			.timer().count()).isPositive();
+		assertThat(meterRegistry.find("graph.operation.failures")
+			.tag("operation", "getMyEvents")
+			.tag("status", "429")
+			.counter()).isNotNull();
+	}
+
+	private HttpHeaders login() {
+		ResponseEntity<String> response = restTemplate.postForEntity("/test/graphmock/login", null, String.class);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+		List<String> cookies = response.getHeaders().get(HttpHeaders.SET_COOKIE);
+		assertThat(cookies).isNotEmpty();
+		HttpHeaders headers = new HttpHeaders();
+		cookies.forEach(cookie -> headers.add(HttpHeaders.COOKIE, cookie.split(";", 2)[0]));
+		return headers;
+	}
+
+	private ResponseEntity<JsonNode> get(String path, HttpHeaders headers) {
+		return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+	}
+
+}
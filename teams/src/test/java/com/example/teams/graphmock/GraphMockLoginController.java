@@ -0,0 +1,40 @@
+package com.example.teams.graphmock;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Graph 대역 서버용 테스트 로그인 (graphmock 프로필에서만 등록)
+ *
+ * 실제 Microsoft 로그인 대신 임의 oid를 가진 가짜 JWT를 세션에 저장합니다. (MS 단독 로그인과 같은 세션 상태)
+ * 대역 서버 주소에는 토큰이 전달되지 않으므로 서명은 필요 없습니다.
+ */
+@RestController
+@Profile("graphmock")
+public class GraphMockLoginController {
+
+    @PostMapping("/test/graphmock/login")
+    public ResponseEntity<Map<String, Object>> login(HttpSession session) {
+        String objectId = UUID.randomUUID().toString();
+        session.setAttribute("accessToken", fakeToken(objectId));
+        return ResponseEntity.ok(Map.of("success", true, "oid", objectId));
+    }
+
+    private static String fakeToken(String objectId) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = "{\"alg\":\"none\",\"typ\":\"JWT\"}";
+        String payload = "{\"oid\":\"" + objectId + "\",\"upn\":\"" + objectId + "@example.com\","
+            + "\"exp\":" + (System.currentTimeMillis() / 1000 + 3600) + "}";
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString("graphmock".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,440 @@
+package com.example.teams.graphmock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 Microsoft Graph API 대역 서버 (JDK 내장 HttpServer)
+ *
+ * ms.service가 호출하는 Graph 경로(/v1.0/me, joinedTeams, channels, chats, events, onlineMeetings 등)에
+ * 고정 형태의 JSON을 응답합니다. 응답 지연, 429 제한(throttling) 비율, 목록 크기/본문 크기를 설정할 수 있습니다.
+ *
+ * - 테스트: GraphMockApiTests (graphmock 프로필)
+ * - 부하 테스트: TestTeamsApplication이 함께 실행 (mvn spring-boot:test-run)
+ * - 단독 실행: java -cp ... com.example.teams.graphmock.GraphMockServer [port]
+ *
+ * 실행 중 설정 변경: POST /__mock/settings?latencyMillis=50&throttleRate=0.1
+ * 요청 통계: GET /__mock/stats
+ */
+public class GraphMockServer implements AutoCloseable {
+
+    public static final String BASE_PATH = "/v1.0";
+
+    private static final Pattern SEGMENT = Pattern.compile("[^/]+");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Route> routes = new ArrayList<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private volatile Settings settings;
+
+    private GraphMockServer(HttpServer server, Settings settings) {
+        this.server = server;
+        this.settings = settings;
+        // 지연 응답 중에도 많은 동시 요청을 받을 수 있도록 요청마다 스레드 사용
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "graph-mock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        registerRoutes();
+    }
+
+    /**
+     * 대역 서버 시작
+     *
+     * @param port 포트 (0이면 임의 포트)
+     * @param settings 응답 설정
+     */
+    public static GraphMockServer start(int port, Settings settings) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+            GraphMockServer mock = new GraphMockServer(server, settings);
+            server.start();
+            return mock;
+        } catch (IOException e) {
+            throw new IllegalStateException("Graph 대역 서버 시작 실패: port=" + port, e);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("graphmock.port", 8089);
+        GraphMockServer mock = start(port, Settings.fromSystemProperties());
+        System.out.println("Graph 대역 서버 실행: " + mock.baseUrl() + " " + mock.settings());
+        Thread.currentThread().join();
+    }
+
+    /**
+     * azure.graph-base-url에 설정할 주소
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    public void updateSettings(Settings settings) {
+        this.settings = settings;
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long throttledCount() {
+        return throttledCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ==================== 라우팅 ====================
+
+    private void registerRoutes() {
+        route("GET", "/me", params -> user("me"));
+        route("PATCH", "/me", params -> null);
+        route("GET", "/me/joinedTeams", params -> collection(this::team));
+        route("GET", "/teams/{teamId}/channels", params -> collection(this::channel));
+        route("POST", "/teams/{teamId}/channels", params -> channel(0));
+        route("GET", "/teams/{teamId}/channels/{channelId}/messages", params -> collection(this::message));
+        route("GET", "/teams/{teamId}/channels/{channelId}/messages/{messageId}/replies", params -> collection(this::message));
+        route("GET", "/me/chats", params -> collection(this::chat));
+        route("POST", "/chats", params -> chat(0));
+        route("GET", "/chats/{chatId}/messages", params -> collection(this::message));
+        route("POST", "/chats/{chatId}/messages", params -> message(0));
+        route("GET", "/chats/{chatId}/members", params -> collection(this::member));
+        route("GET", "/me/events", params -> collection(this::event));
+        route("POST", "/me/events", params -> event(0));
+        route("GET", "/me/onlineMeetings", params -> collection(this::meeting));
+        route("POST", "/me/onlineMeetings", params -> meeting(0));
+        route("GET", "/users/delta", params -> {
+            Map<String, Object> body = collection(index -> user("user-" + index));
+            body.put("@odata.deltaLink", baseUrl() + "/users/delta?$deltatoken=mock");
+            return body;
+        });
+    }
+
+    private void route(String method, String template, Function<Map<String, String>, Map<String, Object>> handler) {
+        routes.add(new Route(method, template, handler));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            drain(exchange.getRequestBody());
+            String path = exchange.getRequestURI().getPath();
+
+            if (path.startsWith("/__mock/")) {
+                handleAdmin(exchange, path);
+                return;
+            }
+
+            requestCount.incrementAndGet();
+            Settings current = settings;
+            if (current.throttleRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.throttleRate()) {
+                throttledCount.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(current.retryAfterSeconds()));
+                sendError(exchange, 429, "TooManyRequests", "Too many requests (graph mock)");
+                return;
+            }
+            delay(current);
+
+            if (!path.startsWith(BASE_PATH)) {
+                sendError(exchange, 404, "Request_ResourceNotFound", "Unsupported path: " + path);
+                return;
+            }
+            String graphPath = path.substring(BASE_PATH.length());
+            String method = exchange.getRequestMethod();
+            for (Route route : routes) {
+                Map<String, String> params = route.match(method, graphPath);
+                if (params != null) {
+                    Map<String, Object> body = route.handler().apply(params);
+                    int status = "POST".equals(method) ? 201 : 200;
+                    if (body == null) {
+                        exchange.sendResponseHeaders(204, -1);
+                    } else {
+                        sendJson(exchange, status, body);
+                    }
+                    return;
+                }
+            }
+            sendError(exchange, 404, "Request_ResourceNotFound", "Unsupported path: " + method + " " + graphPath);
+        }
+    }
+
+    private void handleAdmin(HttpExchange exchange, String path) throws IOException {
+        if (path.equals("/__mock/settings") && "POST".equals(exchange.getRequestMethod())) {
+            settings = settings.with(queryParameters(exchange.getRequestURI().getRawQuery()));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("settings", settings);
+        body.put("requests", requestCount.get());
+        body.put("throttled", throttledCount.get());
+        sendJson(exchange, 200, body);
+    }
+
+    private static void delay(Settings settings) {
+        long millis = settings.latencyMillis();
+        if (settings.jitterMillis() > 0) {
+            millis += ThreadLocalRandom.current().nextLong(settings.jitterMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("code", code);
+        error.put("message", message);
+        sendJson(exchange, status, Map.of("error", error));
+    }
+
+    private static void drain(InputStream input) throws IOException {
+        input.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private static Map<String, String> queryParameters(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    // ==================== 응답 본문 ====================
+
+    private Map<String, Object> collection(Function<Integer, Map<String, Object>> item) {
+        List<Map<String, Object>> value = new ArrayList<>(settings.items());
+        for (int i = 0; i < settings.items(); i++) {
+            value.add(item.apply(i));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("value", value);
+        return body;
+    }
+
+    private Map<String, Object> user(String id) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("displayName", "Mock User " + id);
+        user.put("mail", id + "@example.com");
+        user.put("userPrincipalName", id + "@example.com");
+        user.put("jobTitle", "Engineer");
+        user.put("department", "R&D");
+        user.put("officeLocation", "Seoul");
+        user.put("businessPhones", List.of("+82 2 0000 0000"));
+        return user;
+    }
+
+    private Map<String, Object> team(int index) {
+        Map<String, Object> team = new LinkedHashMap<>();
+        team.put("id", "team-" + index);
+        team.put("displayName", "Mock Team " + index);
+        team.put("description", text());
+        return team;
+    }
+
+    private Map<String, Object> channel(int index) {
+        Map<String, Object> channel = new LinkedHashMap<>();
+        channel.put("id", "channel-" + index);
+        channel.put("displayName", "Mock Channel " + index);
+        channel.put("description", text());
+        channel.put("membershipType", "standard");
+        return channel;
+    }
+
+    private Map<String, Object> chat(int index) {
+        Map<String, Object> chat = new LinkedHashMap<>();
+        chat.put("id", "chat-" + index);
+        chat.put("topic", "Mock Chat " + index);
+        chat.put("chatType", "group");
+        chat.put("createdDateTime", timestamp(-index));
+        chat.put("webUrl", "https://teams.microsoft.com/l/chat/chat-" + index);
+        return chat;
+    }
+
+    private Map<String, Object> message(int index) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("id", "message-" + index);
+        message.put("messageType", "message");
+        message.put("subject", "Mock Message " + index);
+        message.put("createdDateTime", timestamp(-index));
+        message.put("webUrl", "https://teams.microsoft.com/l/message/" + index);
+        message.put("body", Map.of("contentType", "html", "content", text()));
+        message.put("from", Map.of("user", Map.of("id", "user-" + index, "displayName", "Mock User " + index)));
+        return message;
+    }
+
+    private Map<String, Object> member(int index) {
+        Map<String, Object> member = new LinkedHashMap<>();
+        member.put("@odata.type", "#microsoft.graph.aadUserConversationMember");
+        member.put("id", "member-" + index);
+        member.put("displayName", "Mock User " + index);
+        member.put("userId", "user-" + index);
+        member.put("email", "user-" + index + "@example.com");
+        member.put("roles", List.of("owner"));
+        return member;
+    }
+
+    private Map<String, Object> event(int index) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("id", "event-" + index);
+        event.put("subject", "Mock Event " + index);
+        event.put("body", Map.of("contentType", "html", "content", text()));
+        event.put("start", Map.of("dateTime", timestamp(index), "timeZone", "UTC"));
+        event.put("end", Map.of("dateTime", timestamp(index + 1), "timeZone", "UTC"));
+        event.put("location", Map.of("displayName", "Room " + index));
+        event.put("isAllDay", false);
+        return event;
+    }
+
+    private Map<String, Object> meeting(int index) {
+        Map<String, Object> meeting = new LinkedHashMap<>();
+        meeting.put("id", "meeting-" + index);
+        meeting.put("subject", "Mock Meeting " + index);
+        meeting.put("startDateTime", timestamp(index));
+        meeting.put("endDateTime", timestamp(index + 1));
+        meeting.put("joinWebUrl", "https://teams.microsoft.com/l/meetup-join/" + UUID.randomUUID());
+        return meeting;
+    }
+
+    /**
+     * 설정한 크기(bodyBytes)의 본문 텍스트
+     */
+    private String text() {
+        return "x".repeat(Math.max(0, settings.bodyBytes()));
+    }
+
+    private static String timestamp(int hoursFromNow) {
+        return OffsetDateTime.now(ZoneOffset.UTC).plusHours(hoursFromNow).withNano(0).toString();
+    }
+
+    /**
+     * 경로 템플릿 ({name}은 한 경로 구간)
+     */
+    private record Route(String method, String template, Function<Map<String, String>, Map<String, Object>> handler) {
+
+        Map<String, String> match(String requestMethod, String path) {
+            if (!method.equals(requestMethod)) {
+                return null;
+            }
+            String[] expected = template.split("/");
+            String[] actual = path.split("/");
+            if (expected.length != actual.length) {
+                return null;
+            }
+            Map<String, String> params = new HashMap<>();
+            for (int i = 0; i < expected.length; i++) {
+                if (expected[i].startsWith("{")) {
+                    Matcher matcher = SEGMENT.matcher(actual[i]);
+                    if (!matcher.matches()) {
+                        return null;
+                    }
+                    params.put(expected[i].substring(1, expected[i].length() - 1), actual[i]);
+                } else if (!expected[i].equalsIgnoreCase(actual[i])) {
+                    return null;
+                }
+            }
+            return params;
+        }
+    }
+
+    /**
+     * 응답 설정
+     *
+     * @param latencyMillis 모든 응답의 기본 지연 (밀리초)
+     * @param jitterMillis 추가 무작위 지연 최대값 (밀리초)
+     * @param throttleRate 429로 응답할 요청 비율 (0.0 ~ 1.0)
+     * @param retryAfterSeconds 429 응답의 Retry-After (초)
+     * @param items 목록 응답의 항목 수
+     * @param bodyBytes 메시지/설명 본문 크기 (바이트)
+     */
+    public record Settings(long latencyMillis, long jitterMillis, double throttleRate,
+                           int retryAfterSeconds, int items, int bodyBytes) {
+
+        public static Settings defaults() {
+            return new Settings(20, 10, 0.0, 1, 20, 200);
+        }
+
+        /**
+         * 시스템 속성 graphmock.* 에서 설정 읽기 (예: -Dgraphmock.latencyMillis=50)
+         */
+        public static Settings fromSystemProperties() {
+            Map<String, String> values = new HashMap<>();
+            System.getProperties().forEach((key, value) -> {
+                String name = key.toString();
+                if (name.startsWith("graphmock.")) {
+                    values.put(name.substring("graphmock.".length()), value.toString());
+                }
+            });
+            return defaults().with(values);
+        }
+
+        /**
+         * 주어진 값만 바꾼 설정 (키는 필드 이름)
+         */
+        public Settings with(Map<String, String> values) {
+            return new Settings(
+                Long.parseLong(values.getOrDefault("latencyMillis", String.valueOf(latencyMillis))),
+                Long.parseLong(values.getOrDefault("jitterMillis", String.valueOf(jitterMillis))),
+                Double.parseDouble(values.getOrDefault("throttleRate", String.valueOf(throttleRate))),
+                Integer.parseInt(values.getOrDefault("retryAfterSeconds", String.valueOf(retryAfterSeconds))),
+                Integer.parseInt(values.getOrDefault("items", String.valueOf(items))),
+                Integer.parseInt(values.getOrDefault("bodyBytes", String.valueOf(bodyBytes)))
+            );
+        }
+    }
+}
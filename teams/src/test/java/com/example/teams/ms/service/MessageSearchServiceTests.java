@@ -0,0 +1,160 @@
+package com.example.teams.ms.service;
+
+import com.example.teams.ms.config.MessageSearchConfig;
+import com.example.teams.ms.dto.MessageSearchResultDto;
+import com.example.teams.shared.web.AuthPrincipal;
+import com.microsoft.graph.models.ChatMessage;
+import com.microsoft.graph.models.ItemBody;
+import com.microsoft.kiota.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 검색 색인 테스트 (사용자별 검색, 접근 권한이 없어진 위치 삭제, 보존 기간 정리)
+ */
+class MessageSearchServiceTests {
+
+	private static final MessageSearchService.Location CHAT = MessageSearchService.Location.chat("chat-1");
+	private static final MessageSearchService.Location CHANNEL = MessageSearchService.Location.channel("team-1", "channel-1");
+
+	private MessageSearchService service;
+
+	@BeforeEach
+	void setUp() {
+		MessageSearchConfig config = new MessageSearchConfig();
+		config.setEnabled(true);
+		service = new MessageSearchService(config, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		RequestContextHolder.resetRequestAttributes();
+		service.destroy();
+	}
+
+	@Test
+	void searchReturnsOnlyOwnersMessages() {
+		signIn("alice");
+		service.index(CHAT, List.of(message("m1", "분기 보고서 초안 공유합니다")), message -> "Kim");
+		signIn("bob");
+		service.index(CHAT, List.of(message("m1", "분기 보고서 초안 공유합니다")), message -> "Kim");
+
+		assertThat(search("alice", "보고서", 10)).extracting(MessageSearchResultDto::getId)
+			.containsExactly("m1");
+		assertThat(search("carol", "보고서", 10)).isEmpty();
+	}
+
+	@Test
+	void forbiddenFetchRemovesOwnersDocumentsForThatLocation() {
+		signIn("alice");
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+		service.index(CHANNEL, List.of(message("m2", "배포 일정 확정")), message -> "Lee");
+		signIn("bob");
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+
+		signIn("alice");
+		service.forgetIfInaccessible(CHAT, apiException(403));
+
+		// 다른 위치와 다른 사용자의 문서는 유지
+		assertThat(search("alice", "배포", 10)).extracting(MessageSearchResultDto::getId)
+			.containsExactly("m2");
+		assertThat(search("bob", "배포", 10)).extracting(MessageSearchResultDto::getId)
+			.containsExactly("m1");
+	}
+
+	@Test
+	void notFoundFetchRemovesChannelDocuments() {
+		signIn("alice");
+		service.index(CHANNEL, List.of(message("m2", "배포 일정 확정")), message -> "Lee");
+
+		service.forgetIfInaccessible(CHANNEL, apiException(404));
+
+		assertThat(search("alice", "배포", 10)).isEmpty();
+	}
+
+	@Test
+	void transientFailureKeepsDocuments() {
+		signIn("alice");
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+
+		service.forgetIfInaccessible(CHAT, apiException(503));
+		service.forgetIfInaccessible(CHAT, new IllegalStateException("timeout"));
+
+		assertThat(search("alice", "배포", 10)).hasSize(1);
+	}
+
+	@Test
+	void purgeRemovesDocumentsNotIndexedSinceCutoff() throws InterruptedException {
+		signIn("alice");
+		long indexedAt = System.currentTimeMillis();
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+		service.awaitIndexing(5, TimeUnit.SECONDS);
+
+		// 보존 기간 안의 문서는 유지
+		service.purgeExpired();
+		service.purgeIndexedBefore(indexedAt - 1_000);
+		assertThat(search("alice", "배포", 10)).hasSize(1);
+
+		service.purgeIndexedBefore(System.currentTimeMillis() + 1_000);
+		assertThat(search("alice", "배포", 10)).isEmpty();
+	}
+
+	@Test
+	void reindexingRefreshesRetention() throws InterruptedException {
+		signIn("alice");
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+		long cutoff = System.currentTimeMillis() + 1;
+		while (System.currentTimeMillis() <= cutoff) {
+			Thread.onSpinWait();
+		}
+		service.index(CHAT, List.of(message("m1", "배포 일정 공유")), message -> "Kim");
+		service.awaitIndexing(5, TimeUnit.SECONDS);
+
+		service.purgeIndexedBefore(cutoff);
+
+		assertThat(search("alice", "배포", 10)).hasSize(1);
+	}
+
+	private List<MessageSearchResultDto> search(String owner, String query, int limit) {
+		try {
+			service.awaitIndexing(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+		return service.search(owner, query, limit);
+	}
+
+	private static void signIn(String objectId) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute(AuthPrincipal.class.getName(),
+			new AuthPrincipal(null, "OAUTH", "token-" + objectId, null, false, objectId));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	private static ChatMessage message(String id, String content) {
+		ItemBody body = new ItemBody();
+		body.setContent(content);
+		ChatMessage message = new ChatMessage();
+		message.setId(id);
+		message.setBody(body);
+		return message;
+	}
+
+	private static ApiException apiException(int status) {
+		ApiException e = new ApiException("Graph 오류");
+		e.setResponseStatusCode(status);
+		return e;
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증 쿠키 암호화/검증 테스트 (AES-GCM 위조, 만료, 키 변경)
+ */
+class AuthCookieCodecTests {
+
+	private static final long NOW = 1_700_000_000L;
+
+	private final AuthCookieCodec codec = codec("test-secret");
+
+	@Test
+	void roundTripKeepsIdentityAttributesOnly() {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("userId", 42L);
+		attributes.put("userEmail", "user@example.com");
+		attributes.put("loginType", "APP");
+		attributes.put(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE, "token-key");
+		attributes.put("accessToken", "must-not-be-in-cookie");
+
+		Map<String, Object> decoded = codec.decode(codec.encode(attributes, NOW + 60), NOW);
+
+		assertThat(decoded).containsOnly(
+			Map.entry("userId", 42L),
+			Map.entry("userEmail", "user@example.com"),
+			Map.entry("loginType", "APP"),
+			Map.entry(StatelessHttpSession.TOKEN_KEY_ATTRIBUTE, "token-key"));
+	}
+
+	@Test
+	void expiredCookieIsRejected() {
+		String cookie = codec.encode(Map.of("userId", 1L), NOW - 1);
+
+		assertThat(codec.decode(cookie, NOW)).isNull();
+	}
+
+	@Test
+	void tamperedCookieIsRejected() {
+		byte[] token = Base64.getUrlDecoder().decode(codec.encode(Map.of("userId", 1L), NOW + 60));
+		token[token.length - 20] ^= 0x01;
+		String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+
+		assertThat(codec.decode(tampered, NOW)).isNull();
+	}
+
+	@Test
+	void cookieFromAnotherSecretIsRejected() {
+		String cookie = codec("other-secret").encode(Map.of("userId", 1L), NOW + 60);
+
+		assertThat(codec.decode(cookie, NOW)).isNull();
+	}
+
+	@Test
+	void malformedCookieIsRejected() {
+		assertThat(codec.decode("not base64 !", NOW)).isNull();
+		assertThat(codec.decode("AQ", NOW)).isNull();
+
+		byte[] token = Base64.getUrlDecoder().decode(codec.encode(Map.of("userId", 1L), NOW + 60));
+		token[0] = 2;
+		assertThat(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(token), NOW)).isNull();
+	}
+
+	@Test
+	void secretIsRequired() {
+		assertThatThrownBy(() -> codec(" "))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static AuthCookieCodec codec(String secret) {
+		SessionConfig sessionConfig = new SessionConfig();
+		sessionConfig.setSecret(secret);
+		return new AuthCookieCodec(sessionConfig);
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.ms.service.GraphClientCache;
+import com.example.teams.ms.service.GraphClientService;
+import com.example.teams.ms.service.GraphClientStateReader;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 속성 바이너리 인코딩 테스트 (JDBC 세션 모드)
+ */
+class SessionAttributeCodecTests {
+
+	private final GraphClientCache graphClientCache = mock(GraphClientCache.class);
+
+	private final SessionAttributeCodec codec = new SessionAttributeCodec(
+		List.of(new GraphClientStateReader(graphClientCache)), getClass().getClassLoader());
+
+	@Test
+	void simpleValuesRoundTrip() {
+		assertThat(codec.decode(codec.encode("홍길동"))).isEqualTo("홍길동");
+		assertThat(codec.decode(codec.encode(""))).isEqualTo("");
+		assertThat(codec.decode(codec.encode(42L))).isEqualTo(42L);
+		assertThat(codec.decode(codec.encode(7))).isEqualTo(7);
+		assertThat(codec.decode(codec.encode(true))).isEqualTo(true);
+	}
+
+	@Test
+	void simpleValuesUseOneByteTag() {
+		assertThat(codec.encode("abc")).hasSize(4);
+		assertThat(codec.encode(42L)).hasSize(9);
+	}
+
+	@Test
+	void serializableValuesFallBackToJavaSerialization() {
+		LocalDateTime value = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+		assertThat(codec.decode(codec.encode(value))).isEqualTo(value);
+	}
+
+	@Test
+	void untaggedJavaSerializedValuesAreStillReadable() throws Exception {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+			out.writeObject("기존 세션 값");
+		}
+
+		assertThat(codec.decode(buffer.toByteArray())).isEqualTo("기존 세션 값");
+	}
+
+	@Test
+	void graphClientServiceKeepsOnlyTokens() {
+		GraphServiceClient cached = mock(GraphServiceClient.class);
+		when(graphClientCache.tokenClient("access-token")).thenReturn(cached);
+		when(graphClientCache.find("access-token", null)).thenReturn(cached);
+
+		GraphClientService original = new GraphClientService(graphClientCache);
+		original.initializeGraphClient("access-token");
+		assertThat(original.isSessionStateChanged()).isTrue();
+
+		Object restored = codec.decode(codec.encode(original));
+
+		assertThat(restored).isInstanceOf(GraphClientService.class);
+		GraphClientService service = (GraphClientService) restored;
+		assertThat(service.isSessionStateChanged()).isFalse();
+		assertThat(service.isGraphClientInitialized()).isTrue();
+		// 이 노드에서 이미 만든 Client를 재사용 (새로 만들지 않음)
+		assertThat(service.getGraphClient()).isSameAs(cached);
+		verify(graphClientCache, never()).oboClient(any());
+	}
+
+	@Test
+	void restoredServiceWithoutCachedClientCreatesItOnFirstUse() {
+		GraphServiceClient created = mock(GraphServiceClient.class);
+		when(graphClientCache.oboClient("sso-token")).thenReturn(created);
+
+		GraphClientService original = new GraphClientService(graphClientCache);
+		original.initializeGraphClientWithSSO("sso-token");
+
+		GraphClientService service = (GraphClientService) codec.decode(codec.encode(original));
+
+		assertThat(service.getGraphClient()).isSameAs(created);
+	}
+
+	@Test
+	void invalidInputIsRejected() {
+		assertThat(codec.decode(null)).isNull();
+		assertThat(codec.decode(new byte[0])).isNull();
+		assertThatThrownBy(() -> codec.decode(new byte[] {'X', 1, 2}))
+			.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> codec.encode(new Object()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void unknownCompactStateIsRejected() {
+		SessionAttributeCodec withoutReaders = new SessionAttributeCodec(List.of(), getClass().getClassLoader());
+		byte[] encoded = codec.encode(new GraphClientService(graphClientCache));
+
+		assertThatThrownBy(() -> withoutReaders.decode(encoded))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.example.teams.shared.session;
+
+import com.example.teams.shared.config.SessionConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * STATELESS 세션 필터 테스트 (흐름 속성이 다른 요청/노드로 이어지는지)
+ */
+class StatelessSessionFilterTests {
+
+	private static final String FLASH_MAPS = StatelessHttpSession.FLOW_ATTRIBUTES.stream()
+		.filter(name -> name.endsWith(".FLASH_MAPS"))
+		.findFirst()
+		.orElseThrow();
+
+	private final Map<String, Map<String, Object>> flowRows = new HashMap<>();
+	private AuthCookieCodec authCookieCodec;
+	private StatelessSessionFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		SessionConfig sessionConfig = new SessionConfig();
+		sessionConfig.setSecret("test-secret");
+
+		SessionFlowStore sessionFlowStore = mock(SessionFlowStore.class);
+		AtomicInteger sequence = new AtomicInteger();
+		when(sessionFlowStore.save(any())).thenAnswer(invocation -> {
+			String flowKey = "flow-" + sequence.incrementAndGet();
+			flowRows.put(flowKey, new HashMap<>(invocation.<Map<String, Object>>getArgument(0)));
+			return flowKey;
+		});
+		when(sessionFlowStore.find(anyString())).thenAnswer(invocation -> flowRows.get(invocation.<String>getArgument(0)));
+		doAnswer(invocation -> flowRows.remove(invocation.<String>getArgument(0)))
+			.when(sessionFlowStore).remove(anyString());
+
+		authCookieCodec = new AuthCookieCodec(sessionConfig);
+		filter = new StatelessSessionFilter(sessionConfig, authCookieCodec,
+			mock(GraphTokenStore.class), sessionFlowStore);
+	}
+
+	@Test
+	void samlRequestSurvivesRedirectWithoutLogin() throws Exception {
+		Cookie cookie = run(null, session -> {
+			session.setAttribute("samlAuthnRequest", "authn-request");
+			session.setAttribute("relayState", "relay");
+		});
+
+		AtomicReference<Object> restored = new AtomicReference<>();
+		run(cookie, session -> restored.set(session.getAttribute("samlAuthnRequest")));
+
+		assertThat(cookie).isNotNull();
+		assertThat(restored.get()).isEqualTo("authn-request");
+		assertThat(flowRows).hasSize(1);
+	}
+
+	@Test
+	void clearingFlowAttributesDeletesStoredState() throws Exception {
+		Cookie cookie = run(null, session -> session.setAttribute(FLASH_MAPS, "flash"));
+
+		Cookie cleared = run(cookie, session -> session.removeAttribute(FLASH_MAPS));
+
+		assertThat(flowRows).isEmpty();
+		// 신원 정보도 흐름 상태도 없으면 쿠키 삭제
+		assertThat(cleared.getMaxAge()).isZero();
+	}
+
+	@Test
+	void flowAttributeSetAgainAfterInPlaceChangeIsSaved() throws Exception {
+		HashMap<String, String> flashMaps = new HashMap<>(Map.of("success", "로그인 성공!"));
+		Cookie cookie = run(null, session -> session.setAttribute(FLASH_MAPS, flashMaps));
+
+		Cookie updated = run(cookie, session -> {
+			@SuppressWarnings("unchecked")
+			Map<String, String> current = (Map<String, String>) session.getAttribute(FLASH_MAPS);
+			current.put("error", "다시 시도");
+			session.setAttribute(FLASH_MAPS, current);
+		});
+
+		// 같은 인스턴스를 다시 설정해도 새 키로 저장하고 이전 항목 삭제
+		assertThat(flowRows.keySet()).containsExactly("flow-2");
+		assertThat(flowRows.get("flow-2").get(FLASH_MAPS))
+			.isEqualTo(Map.of("success", "로그인 성공!", "error", "다시 시도"));
+		assertThat(updated).isNotSameAs(cookie);
+	}
+
+	@Test
+	void expiredFlowStateIsDroppedFromCookie() throws Exception {
+		Cookie cookie = run(null, session -> {
+			session.setAttribute("userId", 1L);
+			session.setAttribute("samlResponse", "response");
+		});
+		flowRows.clear();
+
+		AtomicReference<Object> restored = new AtomicReference<>();
+		Cookie rewritten = run(cookie, session -> restored.set(session.getAttribute("samlResponse")));
+
+		assertThat(restored.get()).isNull();
+		assertThat(authCookieCodec.decode(rewritten.getValue(), Instant.now().getEpochSecond()))
+			.containsEntry("userId", 1L)
+			.doesNotContainKey(StatelessHttpSession.FLOW_KEY_ATTRIBUTE);
+		AtomicReference<Object> userId = new AtomicReference<>();
+		run(rewritten, session -> userId.set(session.getAttribute("userId")));
+		assertThat(userId.get()).isEqualTo(1L);
+	}
+
+	private Cookie run(Cookie cookie, SessionAction action) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		if (cookie != null) {
+			request.setCookies(cookie);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (req, res) -> action.accept(((HttpServletRequest) req).getSession());
+
+		filter.doFilter(request, response, chain);
+
+		Cookie issued = response.getCookie("TEAMS_AUTH");
+		return issued != null ? issued : cookie;
+	}
+
+	@FunctionalInterface
+	private interface SessionAction {
+		void accept(HttpSession session);
+	}
+
+}
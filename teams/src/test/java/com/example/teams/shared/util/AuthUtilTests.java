@@ -0,0 +1,45 @@
+package com.example.teams.shared.util;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Access Token 관리자 역할(wids) 확인 테스트
+ */
+class AuthUtilTests {
+
+	private final AuthUtil authUtil = new AuthUtil();
+
+	@Test
+	void adminRoleInWidsIsRecognized() {
+		String token = token(Map.of("wids", List.of("b79fbf4d-3ef9-4689-8143-76b194e85509",
+			"62e90394-69f5-4237-9190-012177145e10")));
+
+		assertThat(authUtil.isAdmin(token)).isTrue();
+	}
+
+	@Test
+	void nonAdminTokensAreRejected() {
+		assertThat(authUtil.isAdmin(token(Map.of("wids", List.of("b79fbf4d-3ef9-4689-8143-76b194e85509"))))).isFalse();
+		assertThat(authUtil.isAdmin(token(Map.of("name", "user")))).isFalse();
+		// wids가 배열이 아닌 경우
+		assertThat(authUtil.isAdmin(token(Map.of("wids", "62e90394-69f5-4237-9190-012177145e10")))).isFalse();
+		assertThat(authUtil.isAdmin("not-a-jwt")).isFalse();
+		assertThat(authUtil.isAdmin((String) null)).isFalse();
+	}
+
+	private static String token(Map<String, ?> claims) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8))
+			+ "." + encoder.encodeToString(new JSONObject(claims).toString().getBytes(StandardCharsets.UTF_8))
+			+ ".signature";
+	}
+
+}
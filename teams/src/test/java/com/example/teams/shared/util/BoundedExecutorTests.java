@@ -0,0 +1,65 @@
+package com.example.teams.shared.util;
+
+import com.example.teams.shared.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 전용 스레드 풀 거절/시간 초과 테스트
+ */
+class BoundedExecutorTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private final BoundedExecutor executor = new BoundedExecutor("test.pool", "테스트 작업", 1, 1, 1000, meterRegistry);
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void resultAndRuntimeExceptionArePassedThrough() {
+		assertThat(executor.execute(() -> "ok")).isEqualTo("ok");
+		assertThatThrownBy(() -> executor.execute(() -> {
+			throw new IllegalArgumentException("bad");
+		})).isInstanceOf(IllegalArgumentException.class).hasMessage("bad");
+	}
+
+	@Test
+	void fullQueueIsRejectedAs429() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		// 스레드 1개 점유 + 큐 1개 점유
+		CompletableFuture.runAsync(() -> executor.execute(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture.runAsync(() -> executor.execute(() -> true));
+		Thread.sleep(50);
+
+		assertThatThrownBy(() -> executor.execute(() -> true))
+			.isInstanceOf(TooManyRequestsException.class)
+			.hasMessageStartingWith("테스트 작업 요청이 많습니다");
+		assertThat(meterRegistry.get("test.pool.rejected").counter().count()).isPositive();
+	}
+
+	@Test
+	void slowTaskTimesOutAs429() {
+		assertThatThrownBy(() -> executor.execute(() -> release.await(5, TimeUnit.SECONDS)))
+			.isInstanceOf(TooManyRequestsException.class)
+			.hasMessageStartingWith("테스트 작업 대기 시간을 초과했습니다");
+	}
+
+}
@@ -0,0 +1,202 @@
+package com.example.teams.user.service;
+
+import com.example.teams.user.config.UserImportConfig;
+import com.example.teams.user.service.UserImportService.CsvRowParser;
+import com.example.teams.user.service.UserImportService.ImportProgress;
+import com.example.teams.user.service.UserImportService.ParsedRow;
+import com.example.teams.user.service.UserImportService.RowError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 대량 등록 테스트 (CSV 파싱, 중복 키 충돌 시 행 단위 재저장)
+ */
+class UserImportServiceTests {
+
+	private static final String CREATE_USERS =
+		"CREATE TABLE users ("
+			+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+			+ "email VARCHAR(255) NOT NULL UNIQUE, "
+			+ "password VARCHAR(255), "
+			+ "name VARCHAR(255), "
+			+ "microsoft_id VARCHAR(255) UNIQUE, "
+			+ "user_principal_name VARCHAR(255), "
+			+ "login_type VARCHAR(20), "
+			+ "created_at TIMESTAMP)";
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private PasswordHashingService passwordHashingService;
+	private UserImportService service;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute(CREATE_USERS);
+
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		Cache cache = mock(Cache.class);
+		when(entityManagerFactory.getCache()).thenReturn(cache);
+		when(cache.unwrap(org.hibernate.Cache.class)).thenReturn(mock(org.hibernate.Cache.class));
+
+		passwordHashingService = mock(PasswordHashingService.class);
+		when(passwordHashingService.encodeOnCurrentThread(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+
+		UserImportConfig config = new UserImportConfig();
+		config.setHashPoolSize(1);
+		service = new UserImportService(config, passwordHashingService, jdbcTemplate,
+			new NamedParameterJdbcTemplate(database), new DataSourceTransactionManager(database),
+			entityManagerFactory, new ObjectMapper(), new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+		database.shutdown();
+	}
+
+	@Test
+	void csvQuotedValuesAreParsed() throws IOException {
+		CsvRowParser parser = parser(
+			"email,name,password\n"
+				+ "user@example.com,\"Kim, \"\"Jay\"\"\",\"p,w\"\n");
+
+		ParsedRow row = parser.next();
+
+		assertThat(row.email()).isEqualTo("user@example.com");
+		assertThat(row.name()).isEqualTo("Kim, \"Jay\"");
+		assertThat(row.password()).isEqualTo("p,w");
+		assertThat(row.line()).isEqualTo(2);
+		assertThat(parser.next()).isNull();
+	}
+
+	@Test
+	void csvHeaderWithBomIsCaseAndOrderInsensitive() throws IOException {
+		CsvRowParser parser = parser(
+			"\uFEFFName, EMAIL ,MicrosoftId\n"
+				+ "\n"
+				+ "Kim,  user@example.com  ,ms-1\n");
+
+		ParsedRow row = parser.next();
+
+		assertThat(row.email()).isEqualTo("user@example.com");
+		assertThat(row.name()).isEqualTo("Kim");
+		assertThat(row.microsoftId()).isEqualTo("ms-1");
+		// 빈 줄도 줄 번호에 포함
+		assertThat(row.line()).isEqualTo(3);
+	}
+
+	@Test
+	void csvMissingColumnsAreNull() throws IOException {
+		CsvRowParser parser = parser(
+			"email,name,password,userPrincipalName\n"
+				+ "user@example.com,Kim\n"
+				+ "other@example.com,,,\n");
+
+		ParsedRow shortRow = parser.next();
+		ParsedRow emptyValues = parser.next();
+
+		assertThat(shortRow.email()).isEqualTo("user@example.com");
+		assertThat(shortRow.password()).isNull();
+		assertThat(shortRow.microsoftId()).isNull();
+		assertThat(shortRow.userPrincipalName()).isNull();
+		assertThat(emptyValues.name()).isNull();
+		assertThat(emptyValues.password()).isNull();
+	}
+
+	@Test
+	void csvWithoutEmailColumnIsRejected() {
+		assertThatThrownBy(() -> parser("name,password\nKim,pw\n").next())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("email");
+		assertThatThrownBy(() -> parser("").next())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("헤더가 없습니다");
+	}
+
+	@Test
+	void duplicateKeyInBatchFallsBackToRowInserts() {
+		// 중복 확인 이후 해시 중에 다른 요청이 같은 이메일을 먼저 저장한 상황
+		AtomicBoolean raced = new AtomicBoolean();
+		when(passwordHashingService.encodeOnCurrentThread(anyString())).thenAnswer(invocation -> {
+			if (raced.compareAndSet(false, true)) {
+				jdbcTemplate.update("INSERT INTO users (email, name, login_type) VALUES (?, ?, ?)",
+					"b@example.com", "Signed up", "APP");
+			}
+			return "hash:" + invocation.getArgument(0);
+		});
+
+		ImportProgress result = importCsv(
+			"email,name,password\n"
+				+ "a@example.com,A,pw-a\n"
+				+ "b@example.com,B,pw-b\n"
+				+ "c@example.com,C,pw-c\n");
+
+		assertThat(result.done()).isTrue();
+		assertThat(result.processed()).isEqualTo(3);
+		assertThat(result.created()).isEqualTo(2);
+		assertThat(result.skipped()).isEqualTo(1);
+		assertThat(result.errors()).containsExactly(
+			new RowError(3, "b@example.com", "이미 등록된 이메일 또는 Microsoft ID"));
+		assertThat(jdbcTemplate.queryForList("SELECT email FROM users ORDER BY email", String.class))
+			.containsExactly("a@example.com", "b@example.com", "c@example.com");
+		// 먼저 저장된 사용자는 덮어쓰지 않음
+		assertThat(jdbcTemplate.queryForObject("SELECT name FROM users WHERE email = 'b@example.com'", String.class))
+			.isEqualTo("Signed up");
+	}
+
+	@Test
+	void existingUsersAreSkippedWithoutFallback() {
+		jdbcTemplate.update("INSERT INTO users (email, name, login_type) VALUES (?, ?, ?)",
+			"a@example.com", "A", "APP");
+
+		ImportProgress result = importCsv(
+			"email,name,password\n"
+				+ "a@example.com,A,pw-a\n"
+				+ "b@example.com,B,pw-b\n"
+				+ "b@example.com,B,pw-b\n");
+
+		assertThat(result.created()).isEqualTo(1);
+		assertThat(result.skipped()).isEqualTo(2);
+		assertThat(result.errors()).extracting(RowError::reason)
+			.containsExactlyInAnyOrder("이미 등록된 이메일", "입력 내 중복 이메일");
+	}
+
+	private ImportProgress importCsv(String csv) {
+		return service.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+			UserImportService.Format.CSV, progress -> { });
+	}
+
+	private static CsvRowParser parser(String csv) {
+		return new CsvRowParser(new BufferedReader(new StringReader(csv)));
+	}
+
+}